@@ -0,0 +1,9 @@
+-- 리뷰 커서 페이징(최신순)용 복합 인덱스.
+-- WHERE STORE_ID = ? AND REVIEW_ID < ? ORDER BY REVIEW_ID DESC 를 인덱스 범위 탐색 한 번으로 처리한다.
+-- 기존 단일 컬럼 인덱스는 복합 인덱스의 선두 컬럼으로 대체되므로 교체한다.
+
+DROP INDEX idx_review_store;
+CREATE INDEX idx_review_store ON REVIEW (STORE_ID, REVIEW_ID) ONLINE;
+
+DROP INDEX idx_review_user;
+CREATE INDEX idx_review_user ON REVIEW (USER_ID, REVIEW_ID) ONLINE;
@@ -0,0 +1,9 @@
+-- REVIEW / FAV_STORE 시퀀스를 50 단위 증가로 변경 (Hibernate pooled 식별자 할당, allocationSize = 50).
+-- 엔티티의 allocationSize와 시퀀스 INCREMENT BY가 다르면 Hibernate가 기동 시 실패하므로 배포 전에 실행한다.
+--
+-- pooled 방식은 NEXTVAL 값 v를 받으면 (v - 49 .. v) 구간을 애플리케이션이 나눠 쓴다.
+-- 기존 값 last 이후 첫 NEXTVAL은 last + 50 이므로 새 구간은 (last + 1 .. last + 50)이 되어 기존 ID와 겹치지 않는다.
+-- 배포 중 이전 버전(allocationSize = 1)이 함께 떠 있으면 서로 ID가 겹칠 수 있으므로 전환 중에는 쓰기를 멈춘다.
+
+ALTER SEQUENCE REVIEW_REVIEW_ID_SEQ INCREMENT BY 50;
+ALTER SEQUENCE FAV_STORE_FAV_STORE_ID_SEQ INCREMENT BY 50;
@@ -0,0 +1,59 @@
+package com.example.store.service.dto;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 목록 JSON 직렬화 비용 (GET /api/stores 응답 본문).
+ * - ObjectMapper는 Spring Boot 기본값과 같게 구성(JavaTimeModule, 날짜 타임스탬프 비활성)
+ * - 응답 스트림에 바로 쓰는 MVC 메시지 컨버터처럼 OutputStream으로 직렬화한다(결과 byte[] 미생성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreListSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int stores;
+
+    private ObjectWriter writer;
+    private List<StoreResponseWithLL> list;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        list = new ArrayList<>(stores);
+        for (int i = 0; i < stores; i++) {
+            StoreResponseWithLL store = new StoreResponseWithLL(String.format("S%05d", i), "매장 " + i, 1 + i % 5,
+                    "한식", "서울 중구 세종대로 " + i, 40, LocalTime.of(9, 0), LocalTime.of(21, 0),
+                    "https://example.com/stores/" + i + ".jpg", "126.97" + i % 100, "37.56" + i % 100);
+            store.setOpenNow(i % 2 == 0);
+            store.setOpenStatus(i % 2 == 0 ? "영업중" : "영업종료");
+            list.add(store);
+        }
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), list);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.store.service.dto;
+
+import com.example.store.service.entity.Category;
+import com.example.store.service.entity.Review;
+import com.example.store.service.entity.Store;
+import com.example.store.service.entity.StoreLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티 → 응답 DTO 변환 비용.
+ * - StoreResponseWithLL.fromEntity / StoreResponse.fromEntity: 매장 1건
+ * - ReviewDto.fromEntity: 리뷰 목록 스트림 변환(ReviewService 목록 API와 같은 stream().map().collect())
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoreMappingBenchmark {
+
+    private Store store;
+
+    @Setup
+    public void setUp() {
+        StoreLocation location = StoreLocation.builder()
+                .storeId("S001").address("서울 중구 세종대로 110").longitude("126.9780").latitude("37.5665").build();
+        store = Store.builder()
+                .storeId("S001")
+                .storeName("벤치마크 식당")
+                .category(Category.builder().code(1).koreanName("한식").build())
+                .storeLocationEntity(location)
+                .seatNum(40)
+                .imageUrl("https://example.com/stores/S001.jpg")
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .build();
+    }
+
+    @Benchmark
+    public StoreResponseWithLL storeResponseWithLL() {
+        return StoreResponseWithLL.fromEntity(store);
+    }
+
+    @Benchmark
+    public StoreResponse storeResponse() {
+        return StoreResponse.fromEntity(store);
+    }
+
+    @Benchmark
+    public List<ReviewDto> reviewDtoList(Reviews reviews) {
+        return reviews.list.stream().map(ReviewDto::fromEntity).collect(Collectors.toList());
+    }
+
+    /** 리뷰 목록(건수별) */
+    @State(Scope.Benchmark)
+    public static class Reviews {
+
+        @Param({"10", "100", "1000"})
+        public int size;
+
+        private List<Review> list;
+
+        @Setup
+        public void setUp() {
+            list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(Review.builder()
+                        .reviewId((long) i).storeId("S001").userId("user-" + i).comment("맛있어요 " + i).score(1 + i % 5)
+                        .build());
+            }
+        }
+    }
+}
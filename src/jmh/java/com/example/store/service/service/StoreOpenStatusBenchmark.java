@@ -0,0 +1,59 @@
+package com.example.store.service.service;
+
+import com.example.store.service.entity.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StoreService 영업 상태 판단(isOpenAt / isOpenNow) 비용.
+ * - hours: 일반(09:00~21:00) / 심야(22:00~02:00) / 24시간(00:00~00:00)
+ * - isOpenNow는 호출마다 LocalTime.now(Asia/Seoul)를 만든다(시간대 변환 + 할당)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoreOpenStatusBenchmark {
+
+    @Param({"day", "overnight", "24h"})
+    public String hours;
+
+    private StoreService storeService;
+    private Store store;
+    private LocalTime now;
+
+    @Setup
+    public void setUp() {
+        storeService = new StoreService(null, null);
+        LocalTime open = switch (hours) {
+            case "overnight" -> LocalTime.of(22, 0);
+            case "24h" -> LocalTime.MIDNIGHT;
+            default -> LocalTime.of(9, 0);
+        };
+        LocalTime close = switch (hours) {
+            case "overnight" -> LocalTime.of(2, 0);
+            case "24h" -> LocalTime.MIDNIGHT;
+            default -> LocalTime.of(21, 0);
+        };
+        store = Store.builder().storeId("S001").storeName("bench").openTime(open).closeTime(close).build();
+        now = LocalTime.of(23, 30);
+    }
+
+    @Benchmark
+    public boolean isOpenAt() {
+        return storeService.isOpenAt(store.getOpenTime(), store.getCloseTime(), now);
+    }
+
+    @Benchmark
+    public boolean isOpenNow() {
+        return storeService.isOpenNow(store);
+    }
+}
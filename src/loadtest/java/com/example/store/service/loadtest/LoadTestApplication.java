@@ -0,0 +1,75 @@
+package com.example.store.service.loadtest;
+
+import com.example.store.service.StoreServiceApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest).
+ * 1. 로컬 JWT 발급기(JWKS HTTP 서버) 기동
+ * 2. loadtest 프로필로 서비스 기동 → LoadTestDataSeeder가 합성 데이터 적재 → 카탈로그/평점 워밍업
+ * 3. LoadTestDriver로 혼합 부하 → 엔드포인트별 처리량/p50/p99/p99.9 보고
+ */
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (LocalJwtIssuer issuer = new LocalJwtIssuer();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreServiceApplication.class)
+                     .profiles("loadtest")
+                     .properties("spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + issuer.jwkSetUri())
+                     .run(args)) {
+            LoadTestSettings settings = LoadTestSettings.from(context.getEnvironment());
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            System.out.printf("%n[loadtest] stores=%d reviews=%d favorites=%d users=%d concurrency=%d warmup=%s duration=%s%n",
+                    settings.stores(), settings.reviews(), settings.favorites(), settings.users(),
+                    settings.concurrency(), settings.warmup(), settings.duration());
+
+            Map<String, LoadTestDriver.Stats> stats =
+                    new LoadTestDriver("http://localhost:" + port, settings, issuer).run();
+
+            String report = report(stats, settings.duration().toMillis() / 1000.0);
+            System.out.println(report);
+            String reportPath = context.getEnvironment().getProperty("loadtest.report");
+            if (reportPath != null) write(Path.of(reportPath), report);
+        }
+        System.exit(0);
+    }
+
+    private static String report(Map<String, LoadTestDriver.Stats> stats, double seconds) {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%-40s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<String, LoadTestDriver.Stats> entry : stats.entrySet()) {
+            Histogram h = entry.getValue().latencyMicros;
+            long errors = entry.getValue().errors.get();
+            total.add(h);
+            totalErrors += errors;
+            out.append(line(entry.getKey(), h, errors, seconds));
+        }
+        out.append(line("TOTAL", total, totalErrors, seconds));
+        return out.toString();
+    }
+
+    private static String line(String name, Histogram h, long errors, double seconds) {
+        return String.format(Locale.ROOT, "%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, h.getTotalCount(), errors,
+                h.getTotalCount() / seconds, h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(99) / 1000.0,
+                h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0);
+    }
+
+    private static void write(Path path, String report) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, report);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.store.service.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * loadtest 프로필 합성 데이터 적재(기동 직후, 카탈로그/평점 집계 워밍업 전에 실행).
+ * - CATEGORY 5개, STORES/STORES_LOCATION loadtest.stores개(서울 범위 좌표, 일반/심야/24시간 영업 혼합)
+ * - REVIEW loadtest.reviews개: 매장마다 고르게, (STORE_ID, USER_ID) 유일
+ * - FAV_STORE loadtest.favorites개: 사용자마다 같은 수
+ * - 고정 시드라 실행마다 같은 데이터가 만들어진다. 적재 후 시퀀스를 기존 ID 다음으로 옮긴다.
+ */
+@Component
+@Profile("loadtest")
+class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    private static final int BATCH = 1000;
+    /** REVIEW/FAV_STORE 시퀀스 allocationSize */
+    private static final long SEQUENCE_ALLOCATION = 50;
+    private static final String[] CATEGORIES = {"한식", "일식", "양식", "중식", "카페"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+
+    LoadTestDataSeeder(JdbcTemplate jdbcTemplate, Environment env) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = LoadTestSettings.from(env);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int code = 1; code <= CATEGORIES.length; code++) {
+            jdbcTemplate.update("insert into CATEGORY (CATEGORY_CODE, CATEGORY_NAME) values (?, ?)", code, CATEGORIES[code - 1]);
+        }
+
+        List<Object[]> stores = new ArrayList<>(BATCH);
+        List<Object[]> locations = new ArrayList<>(BATCH);
+        for (int i = 0; i < settings.stores(); i++) {
+            String storeId = LoadTestSettings.storeId(i);
+            Time[] hours = hours(random);
+            stores.add(new Object[]{storeId, "매장 " + i, 1 + i % CATEGORIES.length, 10 + random.nextInt(90),
+                    "stores/" + storeId + ".jpg", hours[0], hours[1]});
+            locations.add(new Object[]{storeId, "서울시 합성구 " + i + "번길",
+                    String.format("%.6f", 126.80 + random.nextDouble() * 0.40),
+                    String.format("%.6f", 37.45 + random.nextDouble() * 0.25)});
+            if (stores.size() == BATCH) flushStores(stores, locations);
+        }
+        flushStores(stores, locations);
+
+        List<Object[]> reviews = new ArrayList<>(BATCH);
+        for (int i = 0; i < settings.reviews(); i++) {
+            int store = i % settings.stores();
+            int round = i / settings.stores();
+            int user = (int) (((long) round * 7919 + store) % settings.users());
+            reviews.add(new Object[]{i + 1L, LoadTestSettings.storeId(store), LoadTestSettings.userId(user),
+                    "리뷰 " + i, 1 + random.nextInt(5)});
+            if (reviews.size() == BATCH) flush("insert into REVIEW (REVIEW_ID, STORE_ID, USER_ID, COMENT, SCORE) values (?, ?, ?, ?, ?)", reviews);
+        }
+        flush("insert into REVIEW (REVIEW_ID, STORE_ID, USER_ID, COMENT, SCORE) values (?, ?, ?, ?, ?)", reviews);
+
+        List<Object[]> favorites = new ArrayList<>(BATCH);
+        long favId = 0;
+        for (int user = 0; user < settings.users() && favId < settings.favorites(); user++) {
+            for (int k = 0; k < settings.favoritesPerUser() && favId < settings.favorites(); k++) {
+                favorites.add(new Object[]{++favId, LoadTestSettings.storeId(settings.favoriteStore(user, k)),
+                        LoadTestSettings.userId(user)});
+                if (favorites.size() == BATCH) flush("insert into FAV_STORE (FAV_STORE_ID, STORE_ID, USER_ID) values (?, ?, ?)", favorites);
+            }
+        }
+        flush("insert into FAV_STORE (FAV_STORE_ID, STORE_ID, USER_ID) values (?, ?, ?)", favorites);
+
+        // pooled 옵티마이저는 nextval 값 N에 대해 (N - 49 .. N)을 쓰므로 시드 최댓값 + 할당 크기에서 시작한다
+        jdbcTemplate.execute("alter sequence REVIEW_REVIEW_ID_SEQ restart with " + (settings.reviews() + SEQUENCE_ALLOCATION));
+        jdbcTemplate.execute("alter sequence FAV_STORE_FAV_STORE_ID_SEQ restart with " + (favId + SEQUENCE_ALLOCATION));
+        log.info("부하 테스트 데이터 적재: stores={}, reviews={}, favorites={}, {}ms", settings.stores(), settings.reviews(),
+                favId, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /** 일반(70%) / 심야(20%) / 24시간(10%) 영업 시간 */
+    private static Time[] hours(SplittableRandom random) {
+        int kind = random.nextInt(10);
+        if (kind == 0) return new Time[]{Time.valueOf("00:00:00"), Time.valueOf("00:00:00")};
+        if (kind <= 2) return new Time[]{Time.valueOf((18 + random.nextInt(4)) + ":00:00"), Time.valueOf("0" + (1 + random.nextInt(4)) + ":00:00")};
+        return new Time[]{Time.valueOf("0" + (7 + random.nextInt(3)) + ":00:00"), Time.valueOf((20 + random.nextInt(3)) + ":30:00")};
+    }
+
+    private void flushStores(List<Object[]> stores, List<Object[]> locations) {
+        flush("insert into STORES (STORE_ID, STORE_NAME, CATEGORY_CODE, SEAT_NUM, IMAGE_URL, OPEN_TIME, CLOSE_TIME) values (?, ?, ?, ?, ?, ?, ?)", stores);
+        flush("insert into STORES_LOCATION (STORE_ID, STORE_LOCATION, LONGITUDE, LATITUDE) values (?, ?, ?, ?)", locations);
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(sql, rows);
+        rows.clear();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.store.service.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트 혼합 부하 발생기(닫힌 루프: 연결 concurrency개가 응답을 받는 즉시 다음 요청).
+ *
+ * 요청 혼합(가중치, 합 100)
+ * - 익명 카탈로그: 목록 페이지 20 / 상세 15 / 주변 10 / 평점 상위 5
+ * - 익명 리뷰: 매장 리뷰 페이지 15
+ * - 로그인: 내 리뷰 5 / 내 즐겨찾기 10 / 즐겨찾기 여부 일괄 5 / 즐겨찾기 추가·삭제 10 / 리뷰 작성 5
+ * 지연 시간은 엔드포인트별 HdrHistogram(1us~60s, 유효숫자 3자리)에 기록한다. 2xx가 아닌 응답은 오류로 센다.
+ */
+final class LoadTestDriver {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+    /** 미리 서명해 둘 사용자 토큰 수 */
+    private static final int TOKEN_USERS = 2000;
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    private final LocalJwtIssuer issuer;
+    private final String[] tokens;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final AtomicLong writerSeq = new AtomicLong();
+    private final List<Scenario> mix = new ArrayList<>();
+    private volatile Map<String, Stats> recording;
+
+    LoadTestDriver(String baseUrl, LoadTestSettings settings, LocalJwtIssuer issuer) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.issuer = issuer;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        int users = Math.min(TOKEN_USERS, settings.users());
+        this.tokens = new String[users];
+        for (int i = 0; i < users; i++) tokens[i] = issuer.issue(LoadTestSettings.userId(i));
+
+        add(20, "GET /api/stores?size=20", r -> get("/api/stores?size=20&categoryCode=" + (1 + r.nextInt(5)), null));
+        add(15, "GET /api/stores/{id}", r -> get("/api/stores/" + randomStore(r), null));
+        add(10, "GET /api/stores/nearby", r -> get(String.format(Locale.ROOT, "/api/stores/nearby?lat=%.5f&lng=%.5f&k=10",
+                37.45 + r.nextDouble() * 0.25, 126.80 + r.nextDouble() * 0.40), null));
+        add(5, "GET /api/stores/top", r -> get("/api/stores/top?n=10&categoryCode=" + (1 + r.nextInt(5)), null));
+        add(15, "GET /api/reviews/stores/{id}?size=20", r -> get("/api/reviews/stores/" + randomStore(r) + "?size=20", null));
+        add(5, "GET /api/reviews/my?size=20", r -> get("/api/reviews/my?size=20", token(r)));
+        add(10, "GET /api/favorites/me", r -> get("/api/favorites/me", token(r)));
+        add(5, "POST /api/favorites/status", r -> send(HttpRequest.newBuilder(uri("/api/favorites/status"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"storeIds\":[\"" + randomStore(r) + "\",\"" + randomStore(r)
+                        + "\",\"" + randomStore(r) + "\"]}")), token(r)));
+        add(10, "POST+DELETE /api/favorites", this::toggleFavorite);
+        add(5, "POST /api/reviews", this::createReview);
+    }
+
+    /** warmup 동안 부하만 걸고, 이어서 duration 동안 기록한다 */
+    Map<String, Stats> run() throws InterruptedException {
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        long warmupEnd = System.nanoTime() + settings.warmup().toNanos();
+        long end = warmupEnd + settings.duration().toNanos();
+        for (int i = 0; i < settings.concurrency(); i++) {
+            workers.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < end) {
+                    if (recording == null && System.nanoTime() >= warmupEnd) recording = stats;
+                    pick(random).execute(random);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(settings.warmup().plus(settings.duration()).toSeconds() + 120, TimeUnit.SECONDS);
+        return stats;
+    }
+
+    private void add(int weight, String name, Call call) {
+        stats.put(name, new Stats());
+        for (int i = 0; i < weight; i++) mix.add(new Scenario(name, call));
+    }
+
+    private Scenario pick(ThreadLocalRandom random) {
+        return mix.get(random.nextInt(mix.size()));
+    }
+
+    /** 시드 즐겨찾기와 겹치지 않는 매장을 골라 추가 후 바로 삭제한다 */
+    private int toggleFavorite(ThreadLocalRandom r) {
+        int user = r.nextInt(tokens.length);
+        String token = tokens[user];
+        String storeId = LoadTestSettings.storeId(settings.favoriteStore(user, settings.favoritesPerUser() + r.nextInt(1000)));
+        int added = send(HttpRequest.newBuilder(uri("/api/favorites?storeId=" + storeId)).POST(HttpRequest.BodyPublishers.noBody()), token);
+        if (added / 100 != 2) return added;
+        return send(HttpRequest.newBuilder(uri("/api/favorites?storeId=" + storeId)).DELETE(), token);
+    }
+
+    /** 매번 새 작성자(시드 사용자와 겹치지 않음)라 (사용자, 매장) 중복 리뷰에 걸리지 않는다. 토큰 서명 비용도 지연 시간에 포함된다 */
+    private int createReview(ThreadLocalRandom r) {
+        String token = issuer.issue("writer-" + writerSeq.incrementAndGet());
+        return send(HttpRequest.newBuilder(uri("/api/reviews"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"storeId\":\"" + randomStore(r)
+                        + "\",\"comment\":\"부하 테스트\",\"score\":" + (1 + r.nextInt(5)) + "}")), token);
+    }
+
+    private int get(String path, String token) {
+        return send(HttpRequest.newBuilder(uri(path)).GET(), token);
+    }
+
+    private int send(HttpRequest.Builder request, String token) {
+        if (token != null) request.header("Authorization", "Bearer " + token);
+        try {
+            return client.send(request.timeout(Duration.ofSeconds(60)).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private String randomStore(ThreadLocalRandom r) {
+        return LoadTestSettings.storeId(r.nextInt(settings.stores()));
+    }
+
+    private String token(ThreadLocalRandom r) {
+        return tokens[r.nextInt(tokens.length)];
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        /** @return HTTP 상태 코드(연결 실패 -1) */
+        int execute(ThreadLocalRandom random);
+    }
+
+    private final class Scenario {
+        private final String name;
+        private final Call call;
+
+        Scenario(String name, Call call) {
+            this.name = name;
+            this.call = call;
+        }
+
+        void execute(ThreadLocalRandom random) {
+            long started = System.nanoTime();
+            int status = call.execute(random);
+            long micros = (System.nanoTime() - started) / 1000;
+            Map<String, Stats> target = recording;
+            if (target != null) target.get(name).record(micros, status);
+        }
+    }
+
+    /** 엔드포인트별 기록 */
+    static final class Stats {
+        final Histogram latencyMicros = new ConcurrentHistogram(1, MAX_LATENCY_MICROS, 3);
+        final AtomicLong errors = new AtomicLong();
+
+        void record(long micros, int status) {
+            latencyMicros.recordValue(Math.min(Math.max(micros, 1), MAX_LATENCY_MICROS));
+            if (status / 100 != 2) errors.incrementAndGet();
+        }
+    }
+}
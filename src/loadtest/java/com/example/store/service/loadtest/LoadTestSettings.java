@@ -0,0 +1,49 @@
+package com.example.store.service.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정(application-loadtest.yml의 loadtest.*, -Dloadtest.* 로 덮어쓰기).
+ *
+ * @param stores      합성 매장 수
+ * @param reviews     합성 리뷰 수
+ * @param favorites   합성 즐겨찾기 수
+ * @param users       합성 사용자 수(리뷰/즐겨찾기 작성자)
+ * @param concurrency 동시 요청 수(연결 수)
+ * @param warmup      측정 전 워밍업 시간
+ * @param duration    측정 시간
+ */
+record LoadTestSettings(int stores, int reviews, int favorites, int users,
+                        int concurrency, Duration warmup, Duration duration) {
+
+    static LoadTestSettings from(Environment env) {
+        return new LoadTestSettings(
+                env.getRequiredProperty("loadtest.stores", Integer.class),
+                env.getRequiredProperty("loadtest.reviews", Integer.class),
+                env.getRequiredProperty("loadtest.favorites", Integer.class),
+                env.getRequiredProperty("loadtest.users", Integer.class),
+                env.getRequiredProperty("loadtest.concurrency", Integer.class),
+                env.getRequiredProperty("loadtest.warmup", Duration.class),
+                env.getRequiredProperty("loadtest.duration", Duration.class));
+    }
+
+    static String storeId(int index) {
+        return String.format("S%06d", index);
+    }
+
+    static String userId(int index) {
+        return String.format("user-%06d", index);
+    }
+
+    /** 사용자 1명의 즐겨찾기 수 */
+    int favoritesPerUser() {
+        return Math.max(1, favorites / users);
+    }
+
+    /** index번째 사용자의 k번째 즐겨찾기 매장(사용자 안에서 중복 없음) */
+    int favoriteStore(int user, int k) {
+        return (int) (((long) user * 7919 + (long) k * 10007) % stores);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.store.service.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 프로세스 내 RSA JWT 발급기 (Cognito 대체).
+ * - 기동 시 RSA 2048 키를 만들고, 공개키를 JWKS(/.well-known/jwks.json)로 로컬 HTTP 서버에 노출한다.
+ * - 서비스는 spring.security.oauth2.resourceserver.jwt.jwk-set-uri로 이 주소를 바라보므로
+ *   운영과 같은 RS256 서명 검증 경로를 그대로 탄다.
+ */
+final class LocalJwtIssuer implements AutoCloseable {
+
+    private static final String ISSUER = "http://localhost/loadtest";
+
+    private final RSAKey key;
+    private final RSASSASigner signer;
+    private final HttpServer server;
+
+    LocalJwtIssuer() throws IOException, JOSEException {
+        key = new RSAKeyGenerator(2048).keyID("loadtest").keyUse(KeyUse.SIGNATURE).generate();
+        signer = new RSASSASigner(key);
+        byte[] jwks = new JWKSet(key.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(jwks);
+            }
+        });
+        server.start();
+    }
+
+    String jwkSetUri() {
+        return "http://localhost:" + server.getAddress().getPort() + "/.well-known/jwks.json";
+    }
+
+    /** sub = userId, 1시간 유효 Access Token(Cognito와 같은 token_use/cognito:groups 클레임 포함) */
+    String issue(String userId) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(userId)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .claim("token_use", "access")
+                .claim("cognito:groups", List.of())
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -2,13 +2,16 @@ package com.example.store.service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 애플리케이션 진입점.
  * - REST API(Server) 구동을 담당한다.
  * - 프로필/환경설정은 application.yml 및 외부 환경변수로 제어한다.
+ * - 스케줄링: 매장 카탈로그 스냅샷 주기 갱신 등에 사용한다.
  */
 @SpringBootApplication
+@EnableScheduling
 public class StoreServiceApplication {
 
     public static void main(String[] args) {
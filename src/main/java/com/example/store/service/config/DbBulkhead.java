@@ -0,0 +1,22 @@
+package com.example.store.service.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 커넥션을 쓰는 컨트롤러(클래스 전체) 또는 핸들러 메서드 표시.
+ * - app.bulkhead.enabled=true 이면 DbBulkheadInterceptor가 동시 처리 수를 커넥션 풀 크기로 제한한다.
+ * - 카탈로그 스냅샷/캐시만 읽는 핸들러에는 붙이지 않는다(DB를 기다리는 요청 뒤에 줄 세우지 않기 위함).
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DbBulkhead {
+
+    /**
+     * 이 프로퍼티가 true이면 제한하지 않는다(예: write-behind 모드의 리뷰 작성은 큐에 넣기만 하고 DB를 쓰지 않는다).
+     * 메서드에 붙인 값이 클래스에 붙인 값보다 우선한다.
+     */
+    String exceptWhen() default "";
+}
@@ -0,0 +1,123 @@
+package com.example.store.service.config;
+
+import com.example.store.service.exception.ServiceUnavailableException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB 벌크헤드: @DbBulkhead 핸들러의 동시 실행 수를 DbBulkheadPermits(공정 세마포어)로 제한한다.
+ *
+ * 설계 메모
+ * - 허용 수는 Hikari maximum-pool-size 이하로 강제된다(DbBulkheadPermits).
+ *   한도를 넘는 요청은 커넥션 풀(connection-timeout 후 실패)이 아니라 공정(FIFO) 세마포어에서 기다린다.
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 대기 중인 요청이 캐리어 스레드를
+ *   점유하지 않으므로(세마포어 대기 = park) 수천 개가 줄을 서도 비용이 작다.
+ *   또 JDBC 드라이버 안의 synchronized 구간에서 캐리어가 고정(pinning)되는 요청 수도 풀 크기 이하로 묶인다.
+ * - app.bulkhead.acquire-timeout(기본 5초) 안에 허용을 얻지 못하면 503 + Retry-After로 바로 돌려보낸다.
+ * - DB를 쓰지 않는 요청(/health, 카탈로그 조회)은 제한 대상이 아니므로 세마포어에서 기다리지 않는다.
+ *   (응답 시간 자체는 CPU/캐리어 경합의 영향을 받는다. VirtualThreadBulkheadBenchmark 참고)
+ * - 비동기(스트리밍, 예: /api/stores/export) 핸들러는 스트림이 끝날 때까지 허용을 쥐고 있다가
+ *   비동기 완료(AsyncListener 또는 ASYNC 디스패치의 afterCompletion) 시점에 한 번만 돌려준다.
+ * - @DbBulkhead(exceptWhen = 프로퍼티)가 true인 핸들러는 제한하지 않는다(예: write-behind 리뷰 접수).
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.bulkhead", name = "enabled", havingValue = "true")
+@Slf4j
+public class DbBulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ACQUIRED = DbBulkheadInterceptor.class.getName() + ".ACQUIRED";
+
+    private final DbBulkheadPermits permits;
+    private final Environment environment;
+    /** 핸들러 메서드 → 제한 대상 여부 (@DbBulkhead, exceptWhen 해석 결과) */
+    private final Map<Method, Boolean> bulkheaded = new ConcurrentHashMap<>();
+
+    public DbBulkheadInterceptor(DbBulkheadPermits permits, Environment environment) {
+        this.permits = permits;
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 완료 후 디스패치는 최초 요청이 얻은 허용을 그대로 쓴다
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                || !(handler instanceof HandlerMethod method) || !isBulkheaded(method)) {
+            return true;
+        }
+        if (!permits.tryAcquire()) {
+            log.warn("DB 벌크헤드 대기 시간 초과: {} {}", request.getMethod(), request.getRequestURI());
+            throw new ServiceUnavailableException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        request.setAttribute(ACQUIRED, new AtomicBoolean());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AtomicBoolean released = (AtomicBoolean) request.getAttribute(ACQUIRED);
+        if (released == null) {
+            return;
+        }
+        // ASYNC 디스패치 없이 끝나는 경우(클라이언트 연결 끊김 등)를 대비해 비동기 완료 시에도 돌려준다
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                release(released);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // 비동기 시작 직후의 afterCompletion은 호출되지 않으므로 여기서는 동기 완료 또는 ASYNC 디스패치 완료다
+        AtomicBoolean released = (AtomicBoolean) request.getAttribute(ACQUIRED);
+        if (released != null) {
+            request.removeAttribute(ACQUIRED);
+            release(released);
+        }
+    }
+
+    private void release(AtomicBoolean released) {
+        if (released.compareAndSet(false, true)) {
+            permits.release();
+        }
+    }
+
+    private boolean isBulkheaded(HandlerMethod method) {
+        return bulkheaded.computeIfAbsent(method.getMethod(), m -> {
+            DbBulkhead annotation = method.getMethodAnnotation(DbBulkhead.class);
+            if (annotation == null) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), DbBulkhead.class);
+            }
+            return annotation != null && (annotation.exceptWhen().isEmpty()
+                    || !environment.getProperty(annotation.exceptWhen(), Boolean.class, false));
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.store.service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 벌크헤드 허용(공정 세마포어). @DbBulkhead 요청(DbBulkheadInterceptor)과
+ * DB를 쓰는 백그라운드 작업(매장 가져오기 청크)이 같은 허용을 나눠 쓴다.
+ * - 허용 수(app.bulkhead.max-concurrent)는 기본적으로 Hikari maximum-pool-size와 같다.
+ *   풀보다 크게 잡으면 넘친 요청이 세마포어가 아니라 커넥션 풀에서 connection-timeout까지 기다리므로 기동을 멈춘다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.bulkhead", name = "enabled", havingValue = "true")
+@Slf4j
+public class DbBulkheadPermits {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public DbBulkheadPermits(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                             @Value("${app.bulkhead.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+                             @Value("${app.bulkhead.acquire-timeout:5s}") Duration acquireTimeout) {
+        if (maxConcurrent > poolSize) {
+            throw new IllegalStateException("app.bulkhead.max-concurrent(" + maxConcurrent
+                    + ")는 spring.datasource.hikari.maximum-pool-size(" + poolSize + ") 이하여야 합니다.");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        log.info("DB 벌크헤드 사용: maxConcurrent={}, poolSize={}, acquireTimeout={}ms",
+                maxConcurrent, poolSize, acquireTimeoutMillis);
+    }
+
+    /** acquire-timeout 안에 허용을 얻으면 true (요청용: 못 얻으면 호출자가 503으로 돌려보낸다) */
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** 허용을 얻을 때까지 기다린다 (백그라운드 작업용: 요청과 같은 FIFO 순서로 줄을 선다) */
+    public void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /** 현재 대기 중인 수(대략값) */
+    public int queueLength() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.store.service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별 지연 시간과 DB 시간 분해를 Micrometer에 기록한다(WebConfig에서 /api/stores, /api/reviews, /api/favorites에 등록).
+ *
+ * 메트릭(태그 endpoint=컨트롤러.메서드, 예: StoreController.listStores)
+ * - store.api.latency                : 인터셉터 진입 ~ 응답 완료(벌크헤드 대기 포함). p50/p90/p99/p99.9 게이지를 함께 낸다
+ * - store.api.db.connection.wait     : Hikari 풀에서 커넥션을 기다린 시간 (p99 게이지)
+ * - store.api.db.connection.held     : 커넥션을 잡고 있던 시간 — 풀을 태우는 호출 찾기용
+ * - store.api.db.sql                 : SQL 실행 시간
+ * - store.api.db.statements          : 요청당 SQL 수
+ * - store.api.serialization          : JSON 직렬화 시간
+ * - store.api.db.statement.budget.exceeded : SQL 문장 수가 예산(@StatementBudget / app.statement-budget.*)을 넘은 요청 수
+ * 백분위는 Micrometer 클라이언트 측 히스토그램(HdrHistogram 기반, 기본 2분 슬라이딩 윈도)으로 계산한다.
+ * 비동기(스트리밍) 핸들러는 다른 스레드에서 DB를 쓰므로 기록하지 않는다.
+ * 요청의 SQL 문장 수는 요청 속성 STATEMENTS_ATTRIBUTE로도 남겨 통합 테스트에서 검사할 수 있게 한다.
+ */
+@Component
+@Slf4j
+public class EndpointLatencyInterceptor implements AsyncHandlerInterceptor {
+
+    /** 요청 1건의 SQL 문장 수(Integer) 요청 속성 */
+    public static final String STATEMENTS_ATTRIBUTE = EndpointLatencyInterceptor.class.getName() + ".STATEMENTS";
+
+    private static final String STARTED = EndpointLatencyInterceptor.class.getName() + ".STARTED";
+
+    private final MeterRegistry registry;
+    private final Environment environment;
+    private final int defaultBudget;
+    private final Map<Method, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    public EndpointLatencyInterceptor(MeterRegistry registry, Environment environment) {
+        this.registry = registry;
+        this.environment = environment;
+        this.defaultBudget = environment.getProperty("app.statement-budget.default", Integer.class, 20);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(STARTED, System.nanoTime());
+            RequestTimings.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.removeAttribute(STARTED);
+        RequestTimings.finish();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTimings timings = RequestTimings.finish();
+        if (!(request.getAttribute(STARTED) instanceof Long started) || timings == null
+                || !(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        request.removeAttribute(STARTED);
+        request.setAttribute(STATEMENTS_ATTRIBUTE, timings.statements);
+        EndpointMeters endpoint = meters.computeIfAbsent(method.getMethod(),
+                m -> new EndpointMeters(registry, endpointName(method), budget(method)));
+        endpoint.record(System.nanoTime() - started, timings);
+        if (timings.statements > endpoint.statementBudget) {
+            endpoint.budgetExceeded.increment();
+            log.warn("SQL 문장 수 예산 초과: endpoint={}, statements={}, budget={}, uri={}",
+                    endpoint.endpoint, timings.statements, endpoint.statementBudget, request.getRequestURI());
+        }
+    }
+
+    /** 지금까지 호출된 엔드포인트의 메트릭 */
+    Collection<EndpointMeters> endpoints() {
+        return meters.values();
+    }
+
+    private static String endpointName(HandlerMethod method) {
+        return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+    }
+
+    /** 설정 → @StatementBudget → 기본값 순 */
+    private int budget(HandlerMethod method) {
+        StatementBudget annotation = method.getMethodAnnotation(StatementBudget.class);
+        Integer configured = environment.getProperty("app.statement-budget.endpoints." + endpointName(method), Integer.class);
+        if (configured != null) return configured;
+        return annotation != null ? annotation.value() : defaultBudget;
+    }
+
+    /** 엔드포인트 1개의 미터 묶음 */
+    static final class EndpointMeters {
+
+        final String endpoint;
+        final Timer latency;
+        final Timer connectionWait;
+        final Timer connectionHeld;
+        final Timer sql;
+        final DistributionSummary statements;
+        final Timer serialization;
+        final int statementBudget;
+        final Counter budgetExceeded;
+
+        EndpointMeters(MeterRegistry registry, String endpoint, int statementBudget) {
+            this.endpoint = endpoint;
+            this.statementBudget = statementBudget;
+            this.latency = Timer.builder("store.api.latency")
+                    .description("API 처리 시간(컨트롤러 메서드별)")
+                    .tag("endpoint", endpoint)
+                    .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                    .register(registry);
+            this.connectionWait = Timer.builder("store.api.db.connection.wait")
+                    .description("요청 중 Hikari 커넥션 대기 시간")
+                    .tag("endpoint", endpoint)
+                    .publishPercentiles(0.99)
+                    .register(registry);
+            this.connectionHeld = timer(registry, "store.api.db.connection.held", "요청 중 커넥션 점유 시간", endpoint);
+            this.sql = timer(registry, "store.api.db.sql", "요청 중 SQL 실행 시간", endpoint);
+            this.statements = DistributionSummary.builder("store.api.db.statements")
+                    .description("요청당 SQL 실행 수")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            this.serialization = timer(registry, "store.api.serialization", "JSON 응답 직렬화 시간", endpoint);
+            this.budgetExceeded = Counter.builder("store.api.db.statement.budget.exceeded")
+                    .description("SQL 문장 수 예산을 넘은 요청 수")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+        }
+
+        void record(long latencyNanos, RequestTimings timings) {
+            latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+            connectionWait.record(timings.connectionWaitNanos, TimeUnit.NANOSECONDS);
+            connectionHeld.record(timings.connectionHeldNanos, TimeUnit.NANOSECONDS);
+            sql.record(timings.sqlNanos, TimeUnit.NANOSECONDS);
+            statements.record(timings.statements);
+            serialization.record(timings.serializationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String description, String endpoint) {
+            return Timer.builder(name).description(description).tag("endpoint", endpoint).register(registry);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.store.service.config;
+
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /actuator/latency : 엔드포인트별 지연 시간 백분위와 DB 시간 분해 요약.
+ * 장애 중 "어떤 호출이 커넥션 풀을 태우는지"를 바로 보도록 커넥션 점유 시간 합계가 큰 순서로 정렬한다.
+ * 개별 미터는 /actuator/metrics/store.api.latency?tag=endpoint:... 로도 볼 수 있다.
+ */
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    private final EndpointLatencyInterceptor interceptor;
+
+    public LatencyEndpoint(EndpointLatencyInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    @ReadOperation
+    public List<EndpointLatency> latency() {
+        return interceptor.endpoints().stream()
+                .map(LatencyEndpoint::summarize)
+                .sorted(Comparator.comparingDouble(EndpointLatency::connectionHeldTotalMs).reversed())
+                .toList();
+    }
+
+    private static EndpointLatency summarize(EndpointLatencyInterceptor.EndpointMeters m) {
+        HistogramSnapshot latency = m.latency.takeSnapshot();
+        HistogramSnapshot wait = m.connectionWait.takeSnapshot();
+        return new EndpointLatency(
+                m.endpoint,
+                latency.count(),
+                percentile(latency, 0.5), percentile(latency, 0.9), percentile(latency, 0.99), percentile(latency, 0.999),
+                latency.max(TimeUnit.MILLISECONDS),
+                latency.mean(TimeUnit.MILLISECONDS),
+                m.connectionWait.mean(TimeUnit.MILLISECONDS),
+                percentile(wait, 0.99),
+                m.connectionHeld.mean(TimeUnit.MILLISECONDS),
+                m.connectionHeld.totalTime(TimeUnit.MILLISECONDS),
+                m.sql.mean(TimeUnit.MILLISECONDS),
+                m.statements.mean(),
+                m.statementBudget,
+                (long) m.budgetExceeded.count(),
+                m.serialization.mean(TimeUnit.MILLISECONDS));
+    }
+
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) return value.value(TimeUnit.MILLISECONDS);
+        }
+        return Double.NaN;
+    }
+
+    /** 엔드포인트 1개 요약(시간 단위 ms, mean은 요청당 평균) */
+    public record EndpointLatency(String endpoint, long count,
+                                  double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs, double meanMs,
+                                  double connectionWaitMeanMs, double connectionWaitP99Ms,
+                                  double connectionHeldMeanMs, double connectionHeldTotalMs,
+                                  double sqlMeanMs, double statementsMean, int statementBudget, long budgetExceeded,
+                                  double serializationMeanMs) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.store.service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본(Oracle Active Data Guard 대기 DB) 라우팅 (app.datasource.replica.enabled=true일 때만).
+ *
+ * 구성: LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource → {primary, replica} Hikari 풀
+ * - primary: spring.datasource.* / spring.datasource.hikari.*
+ * - replica: primary 설정을 복사한 뒤 app.datasource.replica.url/username/password,
+ *   app.datasource.replica.hikari.* 로 덮어쓴다.
+ * - 두 풀 모두 TimingDataSource로 감싸 요청별 커넥션 대기/SQL 시간을 그대로 기록하고,
+ *   Hikari 풀 메트릭(hikari.*, pool=store-primary|store-replica)을 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ReadYourWritesGuard guard, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("store-primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        HikariDataSource replica = new HikariDataSource();
+        primary.copyStateTo(replica);
+        replica.setJdbcUrl(binder.bind("app.datasource.replica.url", String.class).orElse(primary.getJdbcUrl()));
+        replica.setUsername(binder.bind("app.datasource.replica.username", String.class).orElse(primary.getUsername()));
+        replica.setPassword(binder.bind("app.datasource.replica.password", String.class).orElse(primary.getPassword()));
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("store-replica");
+        replica.setReadOnly(true);
+
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                new TimingDataSource(primary), new TimingDataSource(replica), guard, meterRegistry));
+    }
+}
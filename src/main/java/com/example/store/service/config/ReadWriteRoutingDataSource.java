@@ -0,0 +1,53 @@
+package com.example.store.service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 트랜잭션 성격에 따라 primary / replica 풀을 고르는 DataSource.
+ * - @Transactional(readOnly = true) → replica
+ *   Spring Data는 상속한 CRUD 조회(findById/findAll 등)만 readOnly다. 리포지토리에 선언한 쿼리 메서드는
+ *   트랜잭션 설정이 없으므로 서비스의 readOnly 트랜잭션 안에서 부를 때만 replica로 간다.
+ * - 그 외(쓰기, 트랜잭션 밖) → primary
+ * - readOnly여도 현재 사용자가 방금 썼으면(ReadYourWritesGuard) → primary
+ * 커넥션을 실제로 얻는 시점(첫 SQL)에 판단해야 하므로 LazyConnectionDataSourceProxy 안쪽에 둔다.
+ * 라우팅 결과는 store.db.route{target=primary|replica|primary-fallback} 카운터로 남긴다.
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Route { PRIMARY, REPLICA }
+
+    private final ReadYourWritesGuard guard;
+    private final Counter primary;
+    private final Counter replica;
+    private final Counter fallback;
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesGuard guard, MeterRegistry registry) {
+        this.guard = guard;
+        this.primary = Counter.builder("store.db.route").tag("target", "primary").register(registry);
+        this.replica = Counter.builder("store.db.route").tag("target", "replica").register(registry);
+        this.fallback = Counter.builder("store.db.route").tag("target", "primary-fallback").register(registry);
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primary.increment();
+            return Route.PRIMARY;
+        }
+        if (guard.currentUserRecentlyWrote()) {
+            fallback.increment();
+            return Route.PRIMARY;
+        }
+        replica.increment();
+        return Route.REPLICA;
+    }
+}
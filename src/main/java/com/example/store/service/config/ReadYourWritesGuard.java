@@ -0,0 +1,78 @@
+package com.example.store.service.config;
+
+import com.example.store.service.security.CurrentUserProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본 지연(staleness) 대비: 최근에 쓴 사용자의 읽기는 primary로 보낸다.
+ * - 리뷰/즐겨찾기 쓰기 직후 recordWrite(userId)를 부르면, app.datasource.replica.read-your-writes-window
+ *   (기본 5초) 동안 그 사용자의 readOnly 트랜잭션도 primary에서 실행된다.
+ * - 공개 조회(GET /api/reviews/stores/**, /api/stores/{id}/reviews)는 PublicEndpointBearerTokenResolver가
+ *   토큰을 꺼내지 않아 익명으로 처리된다. 이때도 Authorization 헤더가 있으면 라우팅 판단용으로만 토큰을 검증해
+ *   sub를 얻는다(JwtDecoder 검증 결과 캐시로 보통 해시 조회 1회). 복제본을 켰을 때만 불린다.
+ * - 인스턴스 메모리 기준이다. 다른 인스턴스로 간 읽기는 보호하지 않으므로 창은 복제 지연보다 넉넉히 잡는다.
+ * - 복제본을 쓰지 않으면(app.datasource.replica.enabled=false) 기록만 하고 아무 영향이 없다.
+ */
+@Component
+public class ReadYourWritesGuard {
+
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectProvider<JwtDecoder> jwtDecoder;
+    private final BearerTokenResolver tokenResolver = new DefaultBearerTokenResolver();
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesGuard(CurrentUserProvider currentUserProvider,
+                               ObjectProvider<JwtDecoder> jwtDecoder,
+                               @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        this.currentUserProvider = currentUserProvider;
+        this.jwtDecoder = jwtDecoder;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /** userId가 방금 primary에 썼음을 기록 */
+    public void recordWrite(String userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    /** 현재 요청 사용자가 창 안에서 쓴 적이 있는지 (익명/요청 밖이면 false) */
+    boolean currentUserRecentlyWrote() {
+        String userId = currentUserProvider.findCurrentUserId();
+        if (userId == null) {
+            userId = unresolvedBearerSubject();
+        }
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    /** 인증 없이 처리 중인 요청의 Bearer 토큰 sub (헤더가 없거나 유효하지 않으면 null) */
+    private String unresolvedBearerSubject() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        JwtDecoder decoder = jwtDecoder.getIfAvailable();
+        if (decoder == null) {
+            return null;
+        }
+        try {
+            String token = tokenResolver.resolve(attributes.getRequest());
+            return token != null ? decoder.decode(token).getSubject() : null;
+        } catch (OAuth2AuthenticationException | JwtException e) {
+            return null;
+        }
+    }
+}
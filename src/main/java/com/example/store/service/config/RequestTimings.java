@@ -0,0 +1,37 @@
+package com.example.store.service.config;
+
+/**
+ * 요청 1건의 시간 분해(커넥션 대기 / 커넥션 점유 / SQL 실행 / JSON 직렬화) 누적기.
+ * - 요청 스레드의 ThreadLocal에 둔다. 컨트롤러 → 서비스 → JDBC가 같은 스레드에서 돌기 때문에
+ *   TimingDataSource와 TimedJacksonHttpMessageConverter가 별도 전달 없이 여기에 더한다.
+ * - 요청 밖(스케줄러, 가져오기 작업 등)에서는 current()가 null이므로 아무것도 기록하지 않는다.
+ */
+final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    long connectionWaitNanos;
+    long connectionHeldNanos;
+    long sqlNanos;
+    int statements;
+    long serializationNanos;
+
+    private RequestTimings() {
+    }
+
+    static void start() {
+        CURRENT.set(new RequestTimings());
+    }
+
+    /** 현재 요청의 누적기(요청 밖이면 null) */
+    static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /** 누적기를 떼어내 반환한다(없으면 null) */
+    static RequestTimings finish() {
+        RequestTimings timings = CURRENT.get();
+        CURRENT.remove();
+        return timings;
+    }
+}
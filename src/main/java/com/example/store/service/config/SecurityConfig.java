@@ -1,23 +1,75 @@
 package com.example.store.service.config;
 
+import com.example.store.service.security.CachingJwtDecoder;
+import com.example.store.service.security.CurrentUserProvider;
+import com.example.store.service.security.JwksCache;
+import com.example.store.service.security.PublicEndpointBearerTokenResolver;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.Customizer;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.List;
+
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * - /actuator/health 외의 관리 엔드포인트(metrics, latency)는 app.management.allowed-groups
+     *   (기본 admin, ops) 중 하나가 cognito:groups에 있어야 한다. 일반 사용자 토큰은 403.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder,
+                                                   BearerTokenResolver bearerTokenResolver,
+                                                   @Value("${app.management.allowed-groups:admin,ops}") List<String> managementGroups) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
-                    .requestMatchers("/api/reviews/stores/{storeId}", "/api/reviews/{id}", "/api/stores/**", "/health").permitAll()
+                    .requestMatchers("/api/stores/export").authenticated()
+                    .requestMatchers("/api/reviews/stores/{storeId}", "/api/reviews/{id}", "/api/stores/**", "/health", "/actuator/health").permitAll()
+                    .requestMatchers("/actuator/**").access((authentication, context) ->
+                            new AuthorizationDecision(inAnyGroup(authentication.get(), managementGroups)))
                 .anyRequest().authenticated()
             ).oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(Customizer.withDefaults()));
+                        .bearerTokenResolver(bearerTokenResolver)
+                        .jwt(jwt -> jwt.decoder(jwtDecoder)));
         return http.build();
     }
+
+    /** 인증된 JWT의 cognito:groups에 allowed 중 하나라도 있으면 true */
+    private static boolean inAnyGroup(Authentication authentication, List<String> allowed) {
+        if (!(authentication instanceof JwtAuthenticationToken token)) {
+            return false;
+        }
+        List<String> groups = token.getToken().getClaimAsStringList(CurrentUserProvider.GROUPS_CLAIM);
+        return groups != null && groups.stream().anyMatch(allowed::contains);
+    }
+
+    /**
+     * 로컬 JWKS + 검증 결과 캐시 디코더 (기동/요청 모두 issuer·JWKS 네트워크 호출을 기다리지 않음).
+     * issuer-uri가 있으면 iss 클레임도 검증한다.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(JwksCache jwksCache,
+                                 @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}") String issuerUri,
+                                 @Value("${app.jwt.cache.max-size:10000}") long cacheMaxSize) {
+        OAuth2TokenValidator<Jwt> validator = issuerUri.isBlank()
+                ? JwtValidators.createDefault()
+                : JwtValidators.createDefaultWithIssuer(issuerUri);
+        return new CachingJwtDecoder(jwksCache, validator, cacheMaxSize);
+    }
+
+    @Bean
+    public BearerTokenResolver bearerTokenResolver() {
+        return new PublicEndpointBearerTokenResolver();
+    }
 }
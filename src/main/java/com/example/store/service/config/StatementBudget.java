@@ -0,0 +1,20 @@
+package com.example.store.service.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메서드 1회 요청당 허용 SQL 문장 수(N+1 회귀 감지용).
+ * - 초과하면 EndpointLatencyInterceptor가 경고 로그를 남기고 store.api.db.statement.budget.exceeded를 올린다.
+ * - 설정 app.statement-budget.endpoints.{컨트롤러}.{메서드}가 있으면 그 값이 우선이고,
+ *   둘 다 없으면 app.statement-budget.default를 쓴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    /** 허용 문장 수 */
+    int value();
+}
@@ -0,0 +1,34 @@
+package com.example.store.service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 응답 직렬화(응답 스트림 쓰기 포함) 시간을 RequestTimings에 더하는 Jackson 컨버터.
+ * WebConfig에서 기본 MappingJackson2HttpMessageConverter 자리를 대신한다.
+ */
+class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            timings.serializationNanos += System.nanoTime() - started;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.store.service.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 요청 중 DB 시간을 RequestTimings에 기록하는 DataSource 래퍼(Hikari 앞단).
+ * - getConnection() 소요 시간 = 풀에서 커넥션을 기다린 시간
+ * - getConnection() ~ close() = 커넥션 점유 시간(풀을 얼마나 잡고 있었는지)
+ * - Statement execute* 소요 시간/횟수 = SQL 실행 시간/문장 수(ResultSet 순회는 포함하지 않음)
+ * 대기/점유 시간은 요청 중에 얻은 커넥션만, SQL은 실행 시점의 요청 기준으로 센다.
+ * (요청 전에 열린 트랜잭션 — 예: @Transactional 테스트 — 안에서 실행된 SQL도 요청 문장 수에 들어간다)
+ */
+class TimingDataSource extends DelegatingDataSource {
+
+    TimingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(RequestTimings.current(), System.nanoTime(), super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(RequestTimings.current(), System.nanoTime(), super.getConnection(username, password));
+    }
+
+    private static Connection timed(RequestTimings timings, long requested, Connection connection) {
+        long acquired = System.nanoTime();
+        if (timings != null) {
+            timings.connectionWaitNanos += acquired - requested;
+        }
+        return (Connection) Proxy.newProxyInstance(TimingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection, timings, acquired));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /** timings: 커넥션을 얻은 요청(요청 밖이면 null) */
+    private record ConnectionHandler(Connection target, RequestTimings timings, long acquired) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (timings != null && !target.isClosed()) timings.connectionHeldNanos += System.nanoTime() - acquired;
+                    return TimingDataSource.invoke(target, method, args);
+                }
+                case "createStatement" -> {
+                    return statement(Statement.class, TimingDataSource.invoke(target, method, args));
+                }
+                case "prepareStatement" -> {
+                    return statement(PreparedStatement.class, TimingDataSource.invoke(target, method, args));
+                }
+                case "prepareCall" -> {
+                    return statement(CallableStatement.class, TimingDataSource.invoke(target, method, args));
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    return TimingDataSource.invoke(target, method, args);
+                }
+            }
+        }
+
+        private Object statement(Class<? extends Statement> type, Object statement) {
+            return Proxy.newProxyInstance(TimingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement));
+        }
+    }
+
+    private record StatementHandler(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            RequestTimings timings = RequestTimings.current();
+            if (timings == null || !method.getName().startsWith("execute")) {
+                return TimingDataSource.invoke(target, method, args);
+            }
+            long started = System.nanoTime();
+            try {
+                return TimingDataSource.invoke(target, method, args);
+            } finally {
+                timings.sqlNanos += System.nanoTime() - started;
+                timings.statements++;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.store.service.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource(Hikari)를 TimingDataSource로 감싼다.
+ * Hikari 풀 메트릭 등은 DelegatingDataSource를 벗겨 원본을 찾으므로 그대로 동작한다.
+ * 복제본 라우팅(ReadReplicaDataSourceConfig)은 풀마다 이미 감싸 두었으므로 건너뛴다.
+ */
+@Component
+class TimingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof LazyConnectionDataSourceProxy lazy && lazy.getTargetDataSource() instanceof ReadWriteRoutingDataSource) {
+            return bean;
+        }
+        if (bean instanceof DataSource dataSource && !(bean instanceof TimingDataSource)) {
+            return new TimingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.store.service.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC 설정.
+ * - API 지연 시간/DB 시간 분해 기록 인터셉터(벌크헤드 대기까지 포함하도록 먼저 등록)
+ * - DB 벌크헤드 인터셉터(app.bulkhead.enabled=true일 때만 등록)
+ * - JSON 직렬화 시간 기록용 Jackson 컨버터
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final EndpointLatencyInterceptor endpointLatency;
+    private final ObjectProvider<DbBulkheadInterceptor> dbBulkhead;
+
+    public WebConfig(EndpointLatencyInterceptor endpointLatency, ObjectProvider<DbBulkheadInterceptor> dbBulkhead) {
+        this.endpointLatency = endpointLatency;
+        this.dbBulkhead = dbBulkhead;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointLatency).addPathPatterns("/api/stores/**", "/api/reviews/**", "/api/favorites/**");
+        dbBulkhead.ifAvailable(registry::addInterceptor);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new TimedJacksonHttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                : converter);
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.store.service.controller;
 
+import com.example.store.service.config.DbBulkhead;
+import com.example.store.service.config.StatementBudget;
 import com.example.store.service.dto.FavStoreDto;
+import com.example.store.service.dto.FavoriteBulkRequest;
+import com.example.store.service.dto.FavoriteStatusRequest;
 import com.example.store.service.entity.FavStore;
 import com.example.store.service.service.FavoriteService;
 import lombok.RequiredArgsConstructor;
@@ -16,8 +20,11 @@ import java.util.List;
  * - POST /api/favorites?storeId=S1   : 추가 (userId는 JWT sub에서 추출)
  * - DELETE /api/favorites?storeId=S1 : 제거
  * - GET /api/favorites/status?storeId=S1 : 즐겨찾기 여부 확인
+ * - POST /api/favorites/status {"storeIds":["S1","S2"]} : 즐겨찾기 여부 일괄 확인
+ * - POST /api/favorites/bulk {"storeIds":["S1","S2"]}   : 일괄 추가(이미 있는 매장은 건너뜀)
  */
 @RestController
+@DbBulkhead
 @RequiredArgsConstructor
 @RequestMapping("/api/favorites")
 @Slf4j
@@ -32,6 +39,13 @@ public class FavoriteController {
         return favoriteService.addFavorite(userId, storeId);
     }
 
+    // [생성] 즐겨찾기 일괄 추가 - 새로 추가된 항목만 반환
+    @PostMapping("/bulk")
+    public List<FavStore> addBulk(@AuthenticationPrincipal Jwt jwt, @RequestBody FavoriteBulkRequest request) {
+        String userId = jwt.getClaimAsString("sub");
+        return favoriteService.addFavorites(userId, request.getStoreIds());
+    }
+
     // [삭제] 즐겨찾기 제거
     @DeleteMapping
     public void remove(@AuthenticationPrincipal Jwt jwt, @RequestParam String storeId) {
@@ -52,8 +66,18 @@ public class FavoriteController {
         return java.util.Collections.singletonMap("isFavorite", val);
     }
 
+    // [조회] 즐겨찾기 여부(일괄) - 목록 화면의 매장 카드 하트 표시용
+    @PostMapping("/status")
+    @StatementBudget(1)
+    public java.util.Map<String, Boolean> favoriteStatus(@AuthenticationPrincipal Jwt jwt,
+                                                         @RequestBody FavoriteStatusRequest request) {
+        String userId = jwt.getClaimAsString("sub");
+        return favoriteService.favoriteStatus(userId, request.getStoreIds());
+    }
+
     // [조회] 내 즐겨찾기 목록
     @GetMapping("/me")
+    @StatementBudget(1)
     public List<FavStoreDto> myFavorites(@AuthenticationPrincipal Jwt jwt) {
         String userId = jwt.getClaimAsString("sub");
         log.info("내 즐겨찾기 조회, userId={}", userId);
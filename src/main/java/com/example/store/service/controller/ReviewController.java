@@ -1,19 +1,33 @@
 package com.example.store.service.controller;
 
+import com.example.store.service.config.DbBulkhead;
+import com.example.store.service.config.StatementBudget;
 import com.example.store.service.dto.ReviewDto;
 import com.example.store.service.dto.CreateReviewRequestDto;
+import com.example.store.service.dto.CursorPage;
+import com.example.store.service.dto.ReviewSubmissionResponse;
 import com.example.store.service.dto.UpdateReviewRequestDto;
+import com.example.store.service.exception.NotFoundException;
 import com.example.store.service.service.ReviewService;
+import com.example.store.service.service.ReviewWriteBehindQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.net.URI;
 import java.util.List;
 
 /**
  * 리뷰 관련 REST API 엔드포인트.
  * - 사용자 식별자는 Cognito JWT의 sub 클레임을 사용한다.
+ * - 목록 API는 size 파라미터를 주면 커서 페이지(CursorPage)로 응답한다.
+ *   다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달한다.
+ * - write-behind 모드(app.review.write-behind.enabled=true)에서 리뷰 작성은 202 + 접수 상태로 응답하고,
+ *   최종 결과는 GET /api/reviews/submissions/{ticketId}로 조회한다.
+ * - DB를 쓰는 핸들러만 @DbBulkhead 대상이다(접수 상태 조회, write-behind 모드의 작성은 제외).
  */
 @RestController
 @RequiredArgsConstructor
@@ -22,53 +36,99 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ObjectProvider<ReviewWriteBehindQueue> writeBehind;
 
     // 특정 가게의 모든 리뷰
     @GetMapping("/stores/{storeId}")
+    @DbBulkhead
     public List<ReviewDto> getStoreReviews(@PathVariable String storeId) {
         return reviewService.getStoreReviews(storeId);
     }
 
+    // 특정 가게의 리뷰 (커서 페이지, 최신순)
+    @GetMapping(value = "/stores/{storeId}", params = "size")
+    @DbBulkhead
+    @StatementBudget(1)
+    public CursorPage<ReviewDto> getStoreReviewsPage(@PathVariable String storeId,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam int size) {
+        return reviewService.getStoreReviewsPage(storeId, cursor, size);
+    }
+
     // 내 모든 리뷰
     @GetMapping("/my")
+    @DbBulkhead
     public List<ReviewDto> getMyReviews() {
         return reviewService.getMyReviews();
     }
 
+    // 내 리뷰 (커서 페이지, 최신순)
+    @GetMapping(value = "/my", params = "size")
+    @DbBulkhead
+    @StatementBudget(1)
+    public CursorPage<ReviewDto> getMyReviewsPage(@RequestParam(required = false) String cursor,
+                                                  @RequestParam int size) {
+        return reviewService.getMyReviewsPage(cursor, size);
+    }
+
     // 특정 매장에서의 내 리뷰
     @GetMapping("/my/stores/{storeId}")
+    @DbBulkhead
     public List<ReviewDto> getMyReviewsByStore(@PathVariable String storeId) {
         return reviewService.getMyReviewsByStore(storeId);
     }
 
     // [별칭] 내 모든 리뷰 (설계안: GET /reviews)
     @GetMapping
+    @DbBulkhead
     public List<ReviewDto> getMyReviewsAlias() {
         return reviewService.getMyReviews();
     }
 
     // 리뷰 단건
     @GetMapping("/{id}")
+    @DbBulkhead
     public ReviewDto getReview(@PathVariable Long id) {
         log.info("리뷰 단건 컨트롤러");
         return reviewService.getReview(id);
     }
 
-    // 리뷰 작성
+    // 리뷰 작성 (write-behind 모드면 접수만 하고 202, DB를 쓰지 않으므로 벌크헤드 대상이 아니다)
     @PostMapping
-    public ReviewDto createReview(@RequestBody @Valid CreateReviewRequestDto dto) {
+    @DbBulkhead(exceptWhen = "app.review.write-behind.enabled")
+    public ResponseEntity<?> createReview(@RequestBody @Valid CreateReviewRequestDto dto) {
         log.info("리뷰 작성 컨트롤러");
-        return reviewService.createReview(dto);
+        ReviewWriteBehindQueue queue = writeBehind.getIfAvailable();
+        if (queue == null) {
+            return ResponseEntity.ok(reviewService.createReview(dto));
+        }
+        ReviewSubmissionResponse submission = queue.submit(dto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/reviews/submissions/" + submission.getTicketId()))
+                .body(submission);
+    }
+
+    // 리뷰 접수 상태 (write-behind 모드)
+    @GetMapping("/submissions/{ticketId}")
+    @StatementBudget(0)
+    public ReviewSubmissionResponse getSubmission(@PathVariable String ticketId) {
+        ReviewWriteBehindQueue queue = writeBehind.getIfAvailable();
+        if (queue == null) {
+            throw new NotFoundException("존재하지 않는 리뷰 접수입니다.");
+        }
+        return queue.status(ticketId);
     }
 
     // 리뷰 수정
     @PutMapping("/{id}")
+    @DbBulkhead
     public ReviewDto updateReview(@PathVariable Long id, @RequestBody @Valid UpdateReviewRequestDto dto) {
         return reviewService.updateReview(id, dto);
     }
 
     // 리뷰 삭제
     @DeleteMapping("/{id}")
+    @DbBulkhead
     public void deleteReview(@PathVariable Long id) {
         reviewService.deleteReview(id);
     }
@@ -1,23 +1,47 @@
 package com.example.store.service.controller;
 
+import com.example.store.service.config.DbBulkhead;
+import com.example.store.service.config.StatementBudget;
 import com.example.store.service.dto.CreateReviewRequestDto;
+import com.example.store.service.dto.CursorPage;
 import com.example.store.service.dto.ReviewDto;
-import com.example.store.service.dto.StoreResponse;
+import com.example.store.service.dto.StoreRatingResponse;
 import com.example.store.service.dto.StoreResponseWithLL;
-import com.example.store.service.entity.Store;
-import com.example.store.service.entity.StoreLocation;
+import com.example.store.service.security.CurrentUserProvider;
+import com.example.store.service.service.FavoriteCache;
+import com.example.store.service.service.FavoriteService;
 import com.example.store.service.service.ReviewService;
-import com.example.store.service.service.StoreImageService;
+import com.example.store.service.service.StoreCatalog;
+import com.example.store.service.service.StoreCatalogCachePolicy;
+import com.example.store.service.service.StoreCatalogPayloadCache;
+import com.example.store.service.service.StoreExportService;
+import com.example.store.service.service.StoreLeaderboard;
 import com.example.store.service.service.StoreService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * 스토어 관련 REST API 엔드포인트 집합.
- * - 목록/상세 조회
+ * - 목록/상세 조회 (StoreCatalog 메모리 스냅샷 기반, DB 미접근)
+ * - 목록/상세/카테고리 그룹은 ETag + Cache-Control을 붙이고, If-None-Match가 맞으면 본문 없이 304
+ * - 목록의 includeFavorite=true: 로그인 사용자면 즐겨찾기 여부(favorite)를 붙이고 private 캐시로 응답
+ * - 익명 공용 응답(목록 categoryCode/openNow, 카테고리 그룹)은 미리 직렬화·gzip한 본문(StoreCatalogPayloadCache)을 그대로 쓴다
+ * - DB를 직접 읽는 핸들러(이름/리뷰 별칭, 내보내기)만 @DbBulkhead 대상이다
  */
 @RestController
 @RequestMapping("/api/stores")
@@ -25,107 +49,171 @@ import java.util.Map;
 public class StoreController {
 
     private final StoreService service;
-    private final StoreImageService imageService;
+    private final StoreCatalog catalog;
     private final ReviewService reviewService;
+    private final StoreLeaderboard leaderboard;
+    private final StoreCatalogCachePolicy cachePolicy;
+    private final StoreExportService exportService;
+    private final FavoriteService favoriteService;
+    private final StoreCatalogPayloadCache payloadCache;
+    private final CurrentUserProvider currentUserProvider;
+    private final List<String> exportGroups;
 
-    public StoreController(StoreService service, StoreImageService imageService, ReviewService reviewService) {
+    public StoreController(StoreService service, StoreCatalog catalog, ReviewService reviewService,
+                           StoreLeaderboard leaderboard, StoreCatalogCachePolicy cachePolicy,
+                           StoreExportService exportService, FavoriteService favoriteService,
+                           StoreCatalogPayloadCache payloadCache, CurrentUserProvider currentUserProvider,
+                           @Value("${app.export.allowed-groups:admin,partner}") List<String> exportGroups) {
         this.service = service;
-        this.imageService = imageService;
+        this.catalog = catalog;
         this.reviewService = reviewService;
+        this.leaderboard = leaderboard;
+        this.cachePolicy = cachePolicy;
+        this.exportService = exportService;
+        this.favoriteService = favoriteService;
+        this.payloadCache = payloadCache;
+        this.currentUserProvider = currentUserProvider;
+        this.exportGroups = exportGroups;
     }
 
     //가게 이름 가져오기 - 추가
+    @DbBulkhead
     @GetMapping("/{storeId}/name")
     public String getStoreName(@PathVariable String storeId) {
         log.info("가게 이름 컨트롤러, 가게id={}", storeId);
         return service.getStoreName(storeId);
     }
 
-    /** 가게 목록 API (옵션: categoryCode로 필터링) */
+    /**
+     * 가게 목록 API - 카탈로그 스냅샷에서 응답
+     * - 옵션: categoryCode, openNow(영업중/영업종료), closingWithinMinutes(N분 이내 영업 종료)
+     * - closingWithinMinutes 응답은 분 단위로 바뀌므로 ETag 없이 Cache-Control: no-store
+     * - includeFavorite=true + Bearer 토큰: 사용자 즐겨찾기를 한 번 읽어 항목마다 favorite 표시
+     */
     @GetMapping
-    public List<StoreResponseWithLL> listStores(@RequestParam(value = "categoryCode", required = false) Integer categoryCode) {
+    @StatementBudget(2)
+    public ResponseEntity<?> listStores(@RequestParam(value = "categoryCode", required = false) Integer categoryCode,
+                                        @RequestParam(required = false) Boolean openNow,
+                                        @RequestParam(required = false) Integer closingWithinMinutes,
+                                        @RequestParam(defaultValue = "false") boolean includeFavorite,
+                                        @AuthenticationPrincipal Jwt jwt,
+                                        WebRequest request) {
         log.info("가게 목록 컨트롤러");
-        return service.getStoresByCategoryCode(categoryCode).stream()
-                .map(store -> {
-                    StoreResponseWithLL r = StoreResponseWithLL.fromEntity(store);
-                    r.setImageUrl(imageService.getImageUrl(r.getStoreId()));
-                    // 위경도: STORE_LOCATION에서 조회
-                    StoreLocation loc = service.getStoreLocation(r.getStoreId());
-                    if (loc != null) {
-                        r.setStoreLocation(loc.getAddress());
-                        r.setLongitude(loc.getLongitude());
-                        r.setLatitude(loc.getLatitude());
-                    }
-                    // 영업 상태 세팅
-                    r.setOpenNow(service.isOpenNow(store));
-                    r.setOpenStatus(service.openStatus(store));
-                    return r;
-                })
-                .toList();
+        String userId = includeFavorite && jwt != null ? jwt.getClaimAsString("sub") : null;
+        FavoriteCache.Favorites favorites = userId != null ? favoriteService.favorites(userId) : null;
+        if (closingWithinMinutes != null) {
+            // "N분 이내 영업 종료"는 매 분 결과가 바뀌는데 ETag/max-age는 영업 상태 전환 때만 바뀐다.
+            // 검증자를 붙이면 창에 들어온 매장이 있어도 304/CDN 캐시로 옛 목록이 나가므로 저장하지 않게 한다.
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore())
+                    .body(markFavorites(catalog.listStores(categoryCode, openNow, closingWithinMinutes), favorites));
+        }
+        String variant = "stores?categoryCode=" + categoryCode + "&openNow=" + openNow
+                + (favorites != null ? "&favorites=" + userId + ":" + favorites.hashCode() : "");
+        if (favorites == null) {
+            return serialized(request, variant, () -> catalog.listStores(categoryCode, openNow, null));
+        }
+        return conditional(request, variant, true,
+                () -> markFavorites(catalog.listStores(categoryCode, openNow, null), favorites));
     }
 
-    /** 가게 상세 API */
+    /** 가게 목록 API (커서 페이지, STORE_ID 순) - size 파라미터가 있을 때 */
+    @GetMapping(params = "size")
+    @StatementBudget(2)
+    public CursorPage<StoreResponseWithLL> listStoresPage(@RequestParam(value = "categoryCode", required = false) Integer categoryCode,
+                                                          @RequestParam(required = false) Boolean openNow,
+                                                          @RequestParam(required = false) Integer closingWithinMinutes,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam int size,
+                                                          @RequestParam(defaultValue = "false") boolean includeFavorite,
+                                                          @AuthenticationPrincipal Jwt jwt) {
+        log.info("가게 목록(페이지) 컨트롤러");
+        CursorPage<StoreResponseWithLL> page = catalog.listStoresPage(categoryCode, openNow, closingWithinMinutes, cursor, size);
+        if (includeFavorite && jwt != null) {
+            markFavorites(page.getItems(), favoriteService.favorites(jwt.getClaimAsString("sub")));
+        }
+        return page;
+    }
+
+    /**
+     * 가게 전체 내보내기 API (파트너 동기화용, application/x-ndjson)
+     * - cognito:groups에 app.export.allowed-groups(기본 admin, partner) 중 하나가 있어야 한다.
+     * - DB 커서에서 읽는 즉시 한 줄씩 스트리밍하므로 매장 수와 무관하게 메모리 사용량이 일정하다.
+     * - 동시 내보내기 수는 StoreExportService가 제한한다(초과 시 503).
+     * - 스트림이 끝날 때까지 커넥션을 쥐고 있으므로 DB 벌크헤드 허용도 스트림 종료 시점에 돌려준다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @DbBulkhead
+    public ResponseEntity<StreamingResponseBody> exportStores() {
+        currentUserProvider.requireAnyGroup(exportGroups);
+        log.info("가게 내보내기 컨트롤러");
+        StoreExportService.Export export = exportService.open();
+        StreamingResponseBody body = export::writeNdjson;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /** 가게 상세 API - 카탈로그 스냅샷에서 응답 */
     @GetMapping("/{storeId}")
-    public StoreResponseWithLL storeDetail(@PathVariable String storeId) {
+    @StatementBudget(1)
+    public ResponseEntity<StoreResponseWithLL> storeDetail(@PathVariable String storeId, WebRequest request) {
         log.info("가게 상세 컨트롤러");
-        Store store = service.getStore(storeId);
-        StoreResponseWithLL response = StoreResponseWithLL.fromEntity(store);
-        response.setImageUrl(imageService.getImageUrl(response.getStoreId()));
-        // 위경도: STORE_LOCATION에서 조회
-        StoreLocation loc = service.getStoreLocation(response.getStoreId());
-        if (loc != null) {
-            response.setStoreLocation(loc.getAddress());
-            response.setLongitude(loc.getLongitude());
-            response.setLatitude(loc.getLatitude());
-        }
-        // 영업 상태 세팅
-        response.setOpenNow(service.isOpenNow(store));
-        response.setOpenStatus(service.openStatus(store));
-        return response;
+        return conditional(request, "stores/" + storeId, false, () -> catalog.getStore(storeId));
+    }
+
+    /**
+     * 주변 가게 API: 좌표 기준 가까운 k개를 거리순으로 반환 (카탈로그 스냅샷의 KD-tree 색인 사용)
+     * - GET /api/stores/nearby?lat=37.5&lng=127.0&k=10&categoryCode=1&openNow=true&closingWithinMinutes=30
+     */
+    @GetMapping("/nearby")
+    @StatementBudget(1)
+    public List<StoreResponseWithLL> nearbyStores(@RequestParam double lat,
+                                                  @RequestParam double lng,
+                                                  @RequestParam(defaultValue = "10") int k,
+                                                  @RequestParam(required = false) Integer categoryCode,
+                                                  @RequestParam(required = false) Boolean openNow,
+                                                  @RequestParam(required = false) Integer closingWithinMinutes) {
+        log.info("주변 가게 컨트롤러");
+        return catalog.nearby(lat, lng, k, categoryCode, openNow, closingWithinMinutes);
+    }
+
+    /**
+     * 평점 상위 가게 API: 베이지안 평균 점수 내림차순 (메모리 리더보드, REVIEW 미조회)
+     * - GET /api/stores/top?categoryCode=1&n=10
+     */
+    @GetMapping("/top")
+    @StatementBudget(1)
+    public List<StoreResponseWithLL> topStores(@RequestParam(required = false) Integer categoryCode,
+                                               @RequestParam(defaultValue = "10") int n) {
+        return leaderboard.top(categoryCode, n);
+    }
+
+    /** 가게 평점 집계 API (리뷰 수/평균/1~5 히스토그램) */
+    @GetMapping("/{storeId}/rating")
+    public StoreRatingResponse getStoreRating(@PathVariable String storeId) {
+        return catalog.getRating(storeId);
     }
 
     /** 가게 위치(위경도) 전용 API */
     @GetMapping("/{storeId}/location")
     public Map<String, String> getStoreLocation(@PathVariable String storeId) {
         log.info("위경도 컨트롤러");
-        StoreLocation loc = service.getStoreLocation(storeId);
-        if (loc == null) {
-            throw new IllegalArgumentException("위치 정보가 없습니다.");
-        }
-        return Map.of(
-                "latitude", loc.getLatitude(),
-                "longitude", loc.getLongitude()
-        );
+        return catalog.getLocation(storeId);
     }
 
     /** 가게 목록을 카테고리명(한식/일식/양식/중식/카페)으로 그룹핑하여 반환 */
     @GetMapping("/group-by-category")
-    public Map<String, List<StoreResponse>> groupByCategory() {
-        List<Store> stores = service.getAllStores(); // 전체 스토어 조회
-
-        return stores.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        store -> store.getCategory() != null ? store.getCategory().getKoreanName() : "기타", // 변경
-                        java.util.stream.Collectors.mapping(
-                                store -> {
-                                    StoreResponse r = StoreResponse.fromEntity(store);
-                                    r.setImageUrl(imageService.getImageUrl(r.getStoreId()));
-                                    r.setOpenNow(service.isOpenNow(store));
-                                    r.setOpenStatus(service.openStatus(store));
-                                    return r;
-                                },
-                                java.util.stream.Collectors.toList()
-                        )
-                ));
+    public ResponseEntity<?> groupByCategory(WebRequest request) {
+        return serialized(request, "stores/group-by-category", catalog::groupByCategory);
     }
 
     /** [별칭] 가게 리뷰 목록 (설계안 호환: GET /stores/{storeId}/reviews) */
+    @DbBulkhead
     @GetMapping("/{storeId}/reviews")
     public List<ReviewDto> storeReviewsAlias(@PathVariable String storeId) {
         return reviewService.getStoreReviews(storeId);
     }
 
     /** [별칭] 가게 리뷰 작성 (설계안 호환: POST /stores/{storeId}/reviews) */
+    @DbBulkhead
     @PostMapping("/{storeId}/reviews")
     public ReviewDto createStoreReviewAlias(@PathVariable String storeId,
                                             @RequestBody CreateReviewRequestDto dto) {
@@ -133,4 +221,84 @@ public class StoreController {
         dto.setStoreId(storeId);
         return reviewService.createReview(dto);
     }
+
+    private static List<StoreResponseWithLL> markFavorites(List<StoreResponseWithLL> stores, FavoriteCache.Favorites favorites) {
+        if (favorites != null) {
+            stores.forEach(store -> store.setFavorite(favorites.contains(store.getStoreId())));
+        }
+        return stores;
+    }
+
+    /**
+     * 조건부 GET 응답: ETag가 If-None-Match와 같으면 본문을 만들지 않고 304.
+     */
+    private <T> ResponseEntity<T> conditional(WebRequest request, String variant, boolean perUser, Supplier<T> body) {
+        StoreCatalogCachePolicy.Freshness freshness = cachePolicy.evaluate(variant);
+        CacheControl cacheControl = cacheControl(freshness, perUser);
+        if (request.checkNotModified(freshness.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(freshness.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(freshness.etag()).cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * 익명 공용 조건부 GET: conditional()과 같은 검증자/유효 시간에, 본문은 캐시된 직렬화 바이트를 그대로 쓴다.
+     * - Accept-Encoding이 gzip을 허용하면 gzip 바이트 + Content-Encoding: gzip. 표현마다 ETag를 구분한다(-gzip).
+     */
+    private ResponseEntity<?> serialized(WebRequest request, String variant, Supplier<?> body) {
+        StoreCatalogCachePolicy.Freshness freshness = cachePolicy.evaluate(variant);
+        CacheControl cacheControl = cacheControl(freshness, false);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? freshness.etag().substring(0, freshness.etag().length() - 1) + "-gzip\"" : freshness.etag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        StoreCatalogPayloadCache.Payload payload = payloadCache.get(variant, freshness.etag(), body);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().eTag(etag).cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING).contentType(MediaType.APPLICATION_JSON);
+        return gzip ? ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip()) : ok.body(payload.json());
+    }
+
+    /**
+     * 공용 캐시(CDN)도 저장할 수 있도록 public, 유효 시간은 StoreCatalogCachePolicy 계산값
+     * 사용자별 내용이 섞이거나(perUser) 인스턴스마다 다른 서명 URL이 들어 있으면 private: 브라우저/앱만 저장하고 CDN은 저장하지 않는다
+     */
+    private static CacheControl cacheControl(StoreCatalogCachePolicy.Freshness freshness, boolean perUser) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(freshness.maxAgeSeconds()));
+        cacheControl = perUser || freshness.instanceSpecific() ? cacheControl.cachePrivate() : cacheControl.cachePublic();
+        if (freshness.staleWhileRevalidateSeconds() > 0) {
+            cacheControl = cacheControl.staleWhileRevalidate(Duration.ofSeconds(freshness.staleWhileRevalidateSeconds()));
+        }
+        return cacheControl;
+    }
+
+    /** Accept-Encoding이 gzip(또는 *)을 q > 0으로 허용하는지 */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean accepted = true;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (accepted) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,135 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.config.StatementBudget;
+import com.example.store.service.service.StoreImageDiskCache;
+import com.example.store.service.service.StoreImageProxyService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 매장 이미지 프록시 API.
+ * - GET /api/stores/{storeId}/image?w=320 : 폭을 줄인 JPEG 파생본 (디스크 캐시)
+ * - ETag/If-None-Match(304), Range(단일 범위, 206/416), If-Range 지원. 여러 범위 요청은 전체(200)로 응답한다.
+ * - 본문은 힙을 거치지 않는다: Tomcat sendfile이 가능하면 파일 이름/범위만 넘기고(서블릿 반환 후 커널이 전송),
+ *   아니면 FileChannel.transferTo로 응답 스트림에 보낸다.
+ * - 외부 호스트 이미지는 원래 URL로 302
+ */
+@RestController
+@RequestMapping("/api/stores")
+@Slf4j
+public class StoreImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final StoreImageProxyService proxyService;
+    private final CacheControl cacheControl;
+
+    public StoreImageController(StoreImageProxyService proxyService,
+                                @Value("${app.image-proxy.max-age:1d}") Duration maxAge) {
+        this.proxyService = proxyService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping("/{storeId}/image")
+    @StatementBudget(1)
+    public void image(@PathVariable String storeId,
+                      @RequestParam(required = false) Integer w,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        StoreImageProxyService.StoreImage image = proxyService.image(storeId, w);
+        if (image.externalUrl() != null) {
+            response.setStatus(HttpStatus.FOUND.value());
+            response.setHeader(HttpHeaders.LOCATION, image.externalUrl());
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(image.etag())) {
+            return;
+        }
+
+        StoreImageDiskCache.Entry file = image.file();
+        long length = file.size();
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = singleRange(request, image.etag());
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                start = length;
+            }
+            if (start >= length) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+        response.setContentLengthLong(end - start + 1);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.file())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * 적용할 단일 Range. Range가 없거나, 여러 범위거나, 형식이 틀리거나, If-Range가 현재 ETag와 다르면 null(전체 응답).
+     */
+    private static HttpRange singleRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.dto.StoreImportJobResponse;
+import com.example.store.service.security.CurrentUserProvider;
+import com.example.store.service.service.StoreImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+
+/**
+ * 관리자 매장 일괄 가져오기 API (cognito:groups에 app.import.admin-group 포함 사용자만).
+ * - POST /api/admin/stores/import (multipart: file, format=csv|ndjson) : 작업 등록 → 202 + 작업 상태
+ * - GET /api/admin/stores/import/{jobId}                             : 진행 상황/행 단위 오류 조회
+ */
+@RestController
+@RequestMapping("/api/admin/stores/import")
+@Slf4j
+public class StoreImportController {
+
+    private final StoreImportService importService;
+    private final CurrentUserProvider currentUserProvider;
+    private final String adminGroup;
+
+    public StoreImportController(StoreImportService importService,
+                                 CurrentUserProvider currentUserProvider,
+                                 @Value("${app.import.admin-group:admin}") String adminGroup) {
+        this.importService = importService;
+        this.currentUserProvider = currentUserProvider;
+        this.adminGroup = adminGroup;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StoreImportJobResponse> submit(@RequestParam("file") MultipartFile file,
+                                                         @RequestParam(required = false) String format) {
+        currentUserProvider.requireGroup(adminGroup);
+        log.info("매장 가져오기 컨트롤러, 파일={}", file.getOriginalFilename());
+        StoreImportJobResponse job = importService.submit(file, format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/stores/import/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public StoreImportJobResponse status(@PathVariable String jobId) {
+        currentUserProvider.requireGroup(adminGroup);
+        return importService.status(jobId);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.store.service.dto;
+
+import com.example.store.service.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지 응답 DTO.
+ *
+ * 규칙
+ * - items: 현재 페이지 항목
+ * - nextCursor: 다음 페이지 요청 시 cursor 파라미터로 그대로 전달. 마지막 페이지면 null
+ * - 커서는 마지막 항목의 정렬 키(= 식별자)를 base64url로 감싼 불투명 문자열이다.
+ *   클라이언트는 내용을 해석하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /** 페이지 크기 상한 */
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+
+    private String nextCursor;
+
+    /** 정렬 키 → 커서 문자열 */
+    public static String encodeCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 커서 문자열 → 정렬 키 (null/빈 값이면 null = 첫 페이지) */
+    public static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    /** 커서 문자열 → 숫자 정렬 키 (리뷰 ID 등) */
+    public static Long decodeLongCursor(String cursor) {
+        String key = decodeCursor(cursor);
+        if (key == null) return null;
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    /** 페이지 크기 검증(1~MAX_SIZE) */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestException("size는 1에서 " + MAX_SIZE + " 사이여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.store.service.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기 일괄 추가 요청 DTO (POST /api/favorites/bulk).
+ * - storeIds: 추가할 매장 ID 목록(최대 FavoriteService.MAX_BATCH개, 중복/이미 추가된 매장은 건너뜀)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FavoriteBulkRequest {
+
+    private List<String> storeIds;
+}
@@ -0,0 +1,19 @@
+package com.example.store.service.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기 여부 일괄 조회 요청 DTO (POST /api/favorites/status).
+ * - storeIds: 화면에 보이는 매장 ID 목록(최대 FavoriteService.MAX_BATCH개, 중복은 한 번만 조회)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FavoriteStatusRequest {
+
+    private List<String> storeIds;
+}
@@ -0,0 +1,29 @@
+package com.example.store.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 리뷰 접수(write-behind 모드) 상태 응답 DTO.
+ *
+ * 규칙
+ * - status: PENDING → COMPLETED | REJECTED | FAILED
+ *   REJECTED는 중복 리뷰(uk_review_store_user) 등 요청 자체의 문제, FAILED는 재시도 후에도 저장하지 못한 경우
+ * - reviewId: COMPLETED일 때만 값이 있다
+ * - 접수 상태는 완료 후 app.review.write-behind.ticket-ttl 동안, 최근 max-tickets건까지만 보관한다.
+ *   그 뒤에는 status=UNKNOWN(결과 모름, 실패 아님)이므로 내 리뷰 목록으로 확인한다
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewSubmissionResponse {
+
+    private String ticketId;
+    private String status;
+    private String storeId;
+    private Long reviewId;
+    private String message;
+    private Instant submittedAt;
+    private Instant completedAt;
+}
@@ -0,0 +1,42 @@
+package com.example.store.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 매장 일괄 가져오기 작업 상태 응답 DTO.
+ *
+ * 규칙
+ * - status: QUEUED → RUNNING → COMPLETED | FAILED (FAILED는 파일 형식 오류 등 작업 전체 중단)
+ * - processedRows = importedRows + failedRows
+ * - bytesRead/totalBytes: 업로드 파일 기준 진행률
+ * - errors: 행 단위 오류(최대 app.import.max-errors개까지만 보관, 개수는 failedRows로 확인)
+ */
+@Getter
+@AllArgsConstructor
+public class StoreImportJobResponse {
+
+    private String jobId;
+    private String status;
+    private String format;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private long bytesRead;
+    private long totalBytes;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String message;
+    private List<RowError> errors;
+
+    /**
+     * @param row     데이터 행 번호(헤더 제외, 1부터)
+     * @param storeId 해당 행의 storeId(읽지 못했으면 null)
+     * @param message 오류 사유
+     */
+    public record RowError(long row, String storeId, String message) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.store.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * 매장 평점 집계 응답 DTO.
+ * - storeId: 매장 식별자
+ * - count: 리뷰 수
+ * - average: 평균 평점(리뷰가 없으면 null)
+ * - histogram: 평점(1~5)별 리뷰 수
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreRatingResponse {
+
+    private String storeId;
+
+    private long count;
+
+    private Double average;
+
+    private Map<Integer, Long> histogram;
+}
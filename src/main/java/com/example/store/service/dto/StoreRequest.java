@@ -6,16 +6,22 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 
+import java.time.LocalTime;
+
 /**
  * 가게 등록/수정 요청 DTO.
  *
  * 사용/매핑
- * - 대상 테이블: STORES
+ * - 대상 테이블: STORES, STORES_LOCATION
+ * - 사용처: 관리자 매장 일괄 가져오기(CSV 헤더 / NDJSON 필드 이름이 아래 필드 이름과 같다)
  * - 컬럼 매핑 및 필요 이유
+ *   - storeId    -> STORES.STORE_ID          : 식별자(있으면 갱신, 없으면 등록)
  *   - storeName  -> STORES.STORE_NAME        : 목록/상세 표기용 필수 텍스트
  *   - categoryCode -> STORES.CATEGORY_CODE   : 목록 필터/그룹핑 기준
- *   - storeLocation -> STORES.STORE_LOCATION : 화면 표기용 주소 문자열
+ *   - categoryName -> CATEGORY.CATEGORY_NAME : categoryCode 대신 이름(한식/일식/...)으로 지정할 때
+ *   - storeLocation -> STORES_LOCATION.STORE_LOCATION : 화면 표기용 주소 문자열
  *   - seatNum    -> STORES.SEAT_NUM          : 여유 좌석 계산의 모수(전체 좌석 수)
+ *   - longitude/latitude -> STORES_LOCATION.LONGITUDE/LATITUDE : 주변 검색/지도 표시
  * - 영업 시간은 OPEN_TIME/CLOSE_TIME 컬럼을 사용합니다(등록 화면에서도 해당 값 사용 권장).
  */
 @Getter
@@ -24,12 +30,26 @@ import lombok.Builder;
 @AllArgsConstructor
 @Builder
 public class StoreRequest {
+    /** STORES.STORE_ID: 최대 20자 */
+    private String storeId;
     /** STORES.STORE_NAME: 목록/상세 표기용 */
     private String storeName;
     /** STORES.CATEGORY_CODE: 목록 필터/그룹핑 기준 */
     private Integer categoryCode;
-    /** STORES.STORE_LOCATION: 화면 표기용 주소 */
+    /** CATEGORY.CATEGORY_NAME: categoryCode가 없을 때 코드로 변환 */
+    private String categoryName;
+    /** STORES_LOCATION.STORE_LOCATION: 화면 표기용 주소 */
     private String storeLocation;
     /** STORES.SEAT_NUM: 여유 좌석 계산(= seatNum - inUsingSeat) */
     private int seatNum;
+    /** STORES.OPEN_TIME (HH:mm) */
+    private LocalTime openTime;
+    /** STORES.CLOSE_TIME (HH:mm) */
+    private LocalTime closeTime;
+    /** STORES.IMAGE_URL: 비어 있으면 기존 값 유지 */
+    private String imageUrl;
+    /** STORES_LOCATION.LONGITUDE */
+    private String longitude;
+    /** STORES_LOCATION.LATITUDE */
+    private String latitude;
 }
@@ -1,5 +1,6 @@
 package com.example.store.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import java.time.LocalTime;
 import com.example.store.service.entity.Store;
@@ -18,9 +19,14 @@ import com.example.store.service.entity.StoreLocation;
  *   - openTime       -> STORES.OPEN_TIME
  *   - closeTime      -> STORES.CLOSE_TIME
  * - STORE_LOCATION
+ *   - storeLocation      -> STORES_LOCATION.STORE_LOCATION (프로젝션 조회 시)
  *   - latitude/longitude -> STORE_LOCATION.LATITUDE/LONGITUDE
  * - 파생/계산
  *   - openNow/openStatus : OPEN/CLOSE 기반 현재 시간 계산
+ *   - distanceMeters     : 주변 매장 검색(/api/stores/nearby) 시에만 포함
+ *   - ratingCount/ratingAverage : 매장 평점 집계(StoreRatingAggregates)
+ *   - ratingScore        : 베이지안 평균 점수. 평점 상위 매장(/api/stores/top) 조회 시에만 포함
+ *   - favorite           : 로그인 사용자의 즐겨찾기 여부. includeFavorite=true 요청 시에만 포함
  */
 @Getter
 @Setter
@@ -68,6 +74,45 @@ public class StoreResponseWithLL {
     /** 파생: 현재 영업 상태 라벨("영업중"/"영업종료") */
     private String openStatus;
 
+    /** 파생: 리뷰 수 */
+    private Long ratingCount;
+
+    /** 파생: 평균 평점(리뷰가 없으면 null) */
+    private Double ratingAverage;
+
+    /** 파생: 검색 좌표로부터의 거리(m). 주변 매장 검색에서만 채움 */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceMeters;
+
+    /** 파생: 리더보드 순위 점수(베이지안 평균). 평점 상위 매장 조회에서만 채움 */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double ratingScore;
+
+    /** 파생: 로그인 사용자의 즐겨찾기 여부. includeFavorite=true로 목록 조회 시에만 채움 */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean favorite;
+
+    /**
+     * JPQL 생성자 프로젝션용 (StoreRepository.findAllWithLocation 등).
+     * - STORES/STORES_LOCATION/CATEGORY 한 번의 조인으로 채울 수 있는 컬럼만 받는다.
+     * - openNow/openStatus는 조회 시점에 계산하므로 여기서는 비워 둔다.
+     */
+    public StoreResponseWithLL(String storeId, String storeName, Integer categoryCode, String categoryName,
+                               String storeLocation, int seatNum, LocalTime openTime, LocalTime closeTime,
+                               String imageUrl, String longitude, String latitude) {
+        this.storeId = storeId;
+        this.storeName = storeName;
+        this.categoryCode = categoryCode;
+        this.categoryName = categoryName;
+        this.storeLocation = storeLocation;
+        this.seatNum = seatNum;
+        this.openTime = openTime;
+        this.closeTime = closeTime;
+        this.imageUrl = imageUrl;
+        this.longitude = longitude;
+        this.latitude = latitude;
+    }
+
     public static StoreResponseWithLL fromEntity(Store store) {
         // Category 처리
         Category category = store.getCategory();
@@ -27,7 +27,8 @@ public class FavStore { // [중요] 파일명은 FavStore.java, public class도
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fav_store_seq")
-    @SequenceGenerator(name = "fav_store_seq", sequenceName = "FAV_STORE_FAV_STORE_ID_SEQ", allocationSize = 1)
+    // pooled 할당: 시퀀스 1회 조회로 ID 50개 확보 (DB 시퀀스도 INCREMENT BY 50, db/oracle/002_pooled_sequences.sql)
+    @SequenceGenerator(name = "fav_store_seq", sequenceName = "FAV_STORE_FAV_STORE_ID_SEQ", allocationSize = 50)
     private Long favStoreId; // PK(대체키)
 
     @Column(name = "STORE_ID", length = 20, nullable = false)
@@ -7,8 +7,8 @@ import lombok.*;
 @Table(
     name = "REVIEW",
     indexes = {
-        @Index(name = "idx_review_store", columnList = "STORE_ID"),
-        @Index(name = "idx_review_user", columnList = "USER_ID")
+        @Index(name = "idx_review_store", columnList = "STORE_ID, REVIEW_ID"),
+        @Index(name = "idx_review_user", columnList = "USER_ID, REVIEW_ID")
     },
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_review_store_user", columnNames = {"STORE_ID", "USER_ID"})
@@ -17,7 +17,7 @@ import lombok.*;
 /**
  * REVIEW 테이블 매핑 엔티티.
  * - 유니크 제약: (STORE_ID, USER_ID)
- * - 인덱스: STORE_ID, USER_ID
+ * - 인덱스: (STORE_ID, REVIEW_ID), (USER_ID, REVIEW_ID) - 커서 페이징(최신순) 탐색용
  */
 @Getter @Setter
 @NoArgsConstructor
@@ -26,7 +26,8 @@ import lombok.*;
 public class Review {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
-    @SequenceGenerator(name = "review_seq", sequenceName = "REVIEW_REVIEW_ID_SEQ", allocationSize = 1)
+    // pooled 할당: 시퀀스 1회 조회로 ID 50개 확보 (DB 시퀀스도 INCREMENT BY 50, db/oracle/002_pooled_sequences.sql)
+    @SequenceGenerator(name = "review_seq", sequenceName = "REVIEW_REVIEW_ID_SEQ", allocationSize = 50)
     private Long reviewId;
 
     @Column(name = "STORE_ID", length = 20, nullable = false)
@@ -0,0 +1,12 @@
+package com.example.store.service.entity;
+
+/**
+ * REVIEW 집계 프로젝션: 매장별·평점별 리뷰 수.
+ */
+public interface StoreScoreCountMapping {
+    String getStoreId();
+
+    Integer getScore();
+
+    Long getReviewCount();
+}
@@ -0,0 +1,11 @@
+package com.example.store.service.exception;
+
+/**
+ * 일시적 과부하(DB 동시 처리 한도 초과 등)로 요청을 처리할 수 없음을 표현하는 예외.
+ * GlobalExceptionHandler에서 503(SERVICE_UNAVAILABLE) + Retry-After로 매핑된다.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,9 @@
 package com.example.store.service.repository;
 
 import com.example.store.service.entity.Review;
+import com.example.store.service.entity.StoreScoreCountMapping;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,14 +15,18 @@ import java.util.Optional;
  *
  * 설계 메모
  * - 엔티티: Review (PK: Long reviewId)
- * - 유니크 제약(서비스/DDL): 동일 사용자(USER_ID)가 동일 매장(STORE_ID)에 하나의 리뷰만 작성 가능
+ * - 유니크 제약(DDL uk_review_store_user): 동일 사용자(USER_ID)가 동일 매장(STORE_ID)에 하나의 리뷰만 작성 가능.
+ *   중복 작성은 사전 조회 없이 INSERT의 제약 위반(DataIntegrityViolationException)으로 판별한다(동시 요청에도 안전)
  * - 인덱스 권장: STORE_ID, USER_ID 각각 인덱싱하여 목록/내 리뷰 조회 최적화
  *
  * 트랜잭션/성능 가이드
- * - 목록은 페이징(Pageable)·정렬(Sort)을 붙여 확장하는 것을 권장 (예: 최신 작성순 등)
- * - 평균 평점 계산은 서비스/쿼리에서 집계 함수로 처리하거나 캐시/물리화 고려
+ * - 목록은 커서(keyset) 페이징 메서드를 사용한다: 최신 작성순(REVIEW_ID 내림차순) + "REVIEW_ID < 커서" 조건.
+ *   OFFSET을 쓰지 않으므로 깊은 페이지도 첫 페이지와 같은 비용으로 읽는다.
+ *   (STORE_ID, REVIEW_ID)/(USER_ID, REVIEW_ID) 복합 인덱스 전제.
+ * - 평균 평점은 StoreRatingAggregates(메모리 집계)에서 제공한다. 기동/재계산 시 countByStoreIdAndScore 1회 사용
+ * - 수정/삭제는 ReviewRepositoryCustom(변경 전 점수를 같은 문장에서 반환, DB 왕복 1회)을 사용한다
  */
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
 
     /**
      * 특정 매장 리뷰 전체 조회.
@@ -32,6 +37,28 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     List<Review> findByStoreId(String storeId);
 
+    /**
+     * 특정 매장 리뷰 첫 페이지(최신순).
+     * - ORDER BY를 (STORE_ID, REVIEW_ID) 인덱스 순서와 맞춰 역방향 인덱스 스캔으로 정렬 없이 읽는다.
+     *
+     * @param storeId 매장 식별자
+     * @param limit   최대 행 수
+     */
+    @Query("select r from Review r where r.storeId = :storeId " +
+            "order by r.storeId desc, r.reviewId desc")
+    List<Review> findStorePage(@Param("storeId") String storeId, Limit limit);
+
+    /**
+     * 특정 매장 리뷰 다음 페이지(최신순): reviewId < 커서.
+     *
+     * @param storeId  매장 식별자
+     * @param reviewId 이전 페이지 마지막 리뷰 ID
+     * @param limit    최대 행 수
+     */
+    @Query("select r from Review r where r.storeId = :storeId and r.reviewId < :reviewId " +
+            "order by r.storeId desc, r.reviewId desc")
+    List<Review> findStorePageAfter(@Param("storeId") String storeId, @Param("reviewId") Long reviewId, Limit limit);
+
     /**
      * 특정 사용자가 작성한 리뷰 전체 조회.
      *
@@ -41,42 +68,32 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByUserId(String userId);
 
     /**
-     * 특정 매장에 대한 사용자 본인의 단일 리뷰 조회.
-     * - 리뷰 중복 작성 방지 체크에 사용됩니다.
-     *
-     * @param storeId 매장 식별자
-     * @param userId  사용자 식별자
-     * @return 존재 시 Optional<Review>, 없으면 Optional.empty()
+     * 특정 사용자 리뷰 첫 페이지(최신순). (USER_ID, REVIEW_ID) 인덱스 역방향 스캔.
      */
-    Optional<Review> findByStoreIdAndUserId(String storeId, String userId);
+    @Query("select r from Review r where r.userId = :userId " +
+            "order by r.userId desc, r.reviewId desc")
+    List<Review> findUserPage(@Param("userId") String userId, Limit limit);
 
     /**
-     * 특정 사용자-매장 조합의 리뷰 존재 여부 확인 (성능 최적화).
-     * - DB에 해당 레코드가 존재하는지만 효율적으로 확인합니다.
-     *
-     * @param storeId 매장 식별자
-     * @param userId  사용자 식별자
-     * @return 존재하면 true, 없으면 false
+     * 특정 사용자 리뷰 다음 페이지(최신순): reviewId < 커서.
      */
-    boolean existsByStoreIdAndUserId(String storeId, String userId);
+    @Query("select r from Review r where r.userId = :userId and r.reviewId < :reviewId " +
+            "order by r.userId desc, r.reviewId desc")
+    List<Review> findUserPageAfter(@Param("userId") String userId, @Param("reviewId") Long reviewId, Limit limit);
 
     /**
-     * 리뷰 내용/점수 수정 (작성자 본인 조건 포함).
-     * - 영향받은 행 수를 반환(0이면 권한 없음 또는 대상 없음)
+     * 특정 매장에 대한 사용자 본인의 단일 리뷰 조회.
+     *
+     * @param storeId 매장 식별자
+     * @param userId  사용자 식별자
+     * @return 존재 시 Optional<Review>, 없으면 Optional.empty()
      */
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update Review r set r.comment = :comment, r.score = :score " +
-            "where r.reviewId = :reviewId and r.userId = :userId")
-    int updateContentAndScoreByReviewIdAndUserId(@Param("reviewId") Long reviewId,
-                                                 @Param("userId") String userId,
-                                                 @Param("comment") String comment,
-                                                 @Param("score") Integer score);
+    Optional<Review> findByStoreIdAndUserId(String storeId, String userId);
 
     /**
-     * 리뷰 삭제 (작성자 본인 조건 포함).
-     * - 영향받은 행 수를 반환(0이면 권한 없음 또는 대상 없음)
+     * 매장별·평점별 리뷰 수 집계(평점 집계 재계산용).
      */
-    @Modifying
-    @Query("delete from Review r where r.reviewId = :reviewId and r.userId = :userId")
-    int deleteByReviewIdAndUserId(@Param("reviewId") Long reviewId, @Param("userId") String userId);
-}
\ No newline at end of file
+    @Query("select r.storeId as storeId, r.score as score, count(r) as reviewCount " +
+            "from Review r group by r.storeId, r.score")
+    List<StoreScoreCountMapping> countByStoreIdAndScore();
+}
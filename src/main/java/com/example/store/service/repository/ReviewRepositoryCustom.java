@@ -0,0 +1,30 @@
+package com.example.store.service.repository;
+
+import java.util.Optional;
+
+/**
+ * 리뷰 수정/삭제를 DB 왕복 1회로 처리하는 JDBC 조각(fragment).
+ * - 평점 집계 보정에 필요한 "변경 전" STORE_ID/SCORE를 수정/삭제와 같은 문장에서 돌려받는다.
+ * - 작성자 본인 조건(USER_ID)을 WHERE에 포함하므로 결과가 비어 있으면 "대상 없음 또는 권한 없음"이다.
+ *   둘을 구분해야 할 때만(실패 경로) existsById로 한 번 더 조회한다.
+ */
+public interface ReviewRepositoryCustom {
+
+    /**
+     * 리뷰 내용/점수 수정 후 수정 전 매장/점수 반환.
+     *
+     * @return 수정된 행이 없으면 Optional.empty()
+     */
+    Optional<PreviousScore> updateReturningPrevious(Long reviewId, String userId, String comment, Integer score);
+
+    /**
+     * 리뷰 삭제 후 삭제된 행의 매장/점수 반환.
+     *
+     * @return 삭제된 행이 없으면 Optional.empty()
+     */
+    Optional<PreviousScore> deleteReturningPrevious(Long reviewId, String userId);
+
+    /** 변경 전 REVIEW.STORE_ID / REVIEW.SCORE */
+    record PreviousScore(String storeId, Integer score) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.store.service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Optional;
+
+/**
+ * ReviewRepositoryCustom 구현.
+ *
+ * 설계 메모
+ * - JdbcTemplate은 JPA 트랜잭션에 묶인 같은 커넥션을 사용한다(JpaTransactionManager가 DataSource에 커넥션을 노출).
+ *   이 메서드들 앞에서 영속성 컨텍스트에 적재한 Review가 없어야 한다(서비스는 엔티티를 읽지 않는다).
+ * - Oracle 19: UPDATE ... RETURNING은 변경 "후" 값만 돌려주므로, 수정은 익명 PL/SQL 블록 1개
+ *   (SELECT ... FOR UPDATE → ROWID로 UPDATE)로 보낸다. 블록 하나가 DB 왕복 1회다.
+ *   삭제는 DELETE ... RETURNING INTO(삭제된 행 값 = 변경 전 값)를 그대로 쓴다.
+ * - 그 외(테스트 H2): SELECT ... FROM OLD TABLE (UPDATE/DELETE ...)로 변경 전 행을 같은 문장에서 읽는다.
+ * - DB 종류는 첫 호출 때 커넥션 메타데이터로 한 번만 판별한다.
+ */
+@RequiredArgsConstructor
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+
+    /** 바인드 순서: REVIEW_ID, USER_ID, COMENT, SCORE, OUT STORE_ID, OUT SCORE */
+    private static final String ORACLE_UPDATE_SQL = """
+            declare
+              r rowid; s REVIEW.STORE_ID%type; o REVIEW.SCORE%type;
+            begin
+              begin
+                select ROWID, STORE_ID, SCORE into r, s, o from REVIEW
+                 where REVIEW_ID = ? and USER_ID = ? for update;
+                update REVIEW set COMENT = ?, SCORE = ? where ROWID = r;
+              exception when no_data_found then null;
+              end;
+              ? := s;
+              ? := o;
+            end;""";
+
+    /** 바인드 순서: REVIEW_ID, USER_ID, OUT STORE_ID, OUT SCORE */
+    private static final String ORACLE_DELETE_SQL = """
+            declare
+              s REVIEW.STORE_ID%type; o REVIEW.SCORE%type;
+            begin
+              delete from REVIEW where REVIEW_ID = ? and USER_ID = ?
+              returning STORE_ID, SCORE into s, o;
+              if sql%rowcount = 0 then s := null; o := null; end if;
+              ? := s;
+              ? := o;
+            end;""";
+
+    private static final String DELTA_UPDATE_SQL =
+            "select STORE_ID, SCORE from OLD TABLE (" +
+            "update REVIEW set COMENT = ?, SCORE = ? where REVIEW_ID = ? and USER_ID = ?)";
+
+    private static final String DELTA_DELETE_SQL =
+            "select STORE_ID, SCORE from OLD TABLE (delete from REVIEW where REVIEW_ID = ? and USER_ID = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean oracle;
+
+    @Override
+    public Optional<PreviousScore> updateReturningPrevious(Long reviewId, String userId, String comment, Integer score) {
+        if (isOracle()) {
+            return Optional.ofNullable(jdbcTemplate.execute(ORACLE_UPDATE_SQL, (CallableStatement cs) -> {
+                cs.setLong(1, reviewId);
+                cs.setString(2, userId);
+                cs.setString(3, comment);
+                cs.setObject(4, score, Types.INTEGER);
+                cs.registerOutParameter(5, Types.VARCHAR);
+                cs.registerOutParameter(6, Types.INTEGER);
+                cs.execute();
+                return previous(cs.getString(5), cs.getObject(6, Integer.class));
+            }));
+        }
+        return Optional.ofNullable(jdbcTemplate.execute(DELTA_UPDATE_SQL, (PreparedStatement ps) -> {
+            ps.setString(1, comment);
+            ps.setObject(2, score, Types.INTEGER);
+            ps.setLong(3, reviewId);
+            ps.setString(4, userId);
+            return first(ps);
+        }));
+    }
+
+    @Override
+    public Optional<PreviousScore> deleteReturningPrevious(Long reviewId, String userId) {
+        if (isOracle()) {
+            return Optional.ofNullable(jdbcTemplate.execute(ORACLE_DELETE_SQL, (CallableStatement cs) -> {
+                cs.setLong(1, reviewId);
+                cs.setString(2, userId);
+                cs.registerOutParameter(3, Types.VARCHAR);
+                cs.registerOutParameter(4, Types.INTEGER);
+                cs.execute();
+                return previous(cs.getString(3), cs.getObject(4, Integer.class));
+            }));
+        }
+        return Optional.ofNullable(jdbcTemplate.execute(DELTA_DELETE_SQL, (PreparedStatement ps) -> {
+            ps.setLong(1, reviewId);
+            ps.setString(2, userId);
+            return first(ps);
+        }));
+    }
+
+    // STORE_ID는 NOT NULL이므로 null이면 변경된 행이 없다는 뜻
+    private static PreviousScore previous(String storeId, Integer score) {
+        return storeId != null ? new PreviousScore(storeId, score) : null;
+    }
+
+    private static PreviousScore first(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? new PreviousScore(rs.getString(1), rs.getObject(2, Integer.class)) : null;
+        }
+    }
+
+    private boolean isOracle() {
+        Boolean result = oracle;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                    con.getMetaData().getDatabaseProductName().startsWith("Oracle"));
+            oracle = result;
+        }
+        return result;
+    }
+}
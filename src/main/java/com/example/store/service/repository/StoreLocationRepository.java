@@ -17,10 +17,9 @@ import java.util.Optional;
  * - 데이터가 없을 수 있으므로 Optional로 반환하며, 서비스 레이어에서 null 처리/예외 처리한다.
  *
  * 주요 사용처
- * - StoreService.getStoreLocation(storeId): 단건 좌표 조회(목록/상세 응답에 좌표 주입).
- * - StoreController:
- *   - GET /api/stores/{id}/location: 좌표 전용 API 응답 구성.
- *   - 목록/상세 응답에서 위경도 필드 채움(서비스를 통해 조회).
+ * - 목록/상세/GET /api/stores/{id}/location 응답의 좌표는 StoreCatalog 스냅샷
+ *   (StoreRepository.findAllWithLocation 조인 1회)에서 채우므로 요청 경로에서 이 레포지토리를 거치지 않는다.
+ * - 스키마(ddl-auto)와 단건 좌표 확인(findByStoreId)용으로 남겨 둔다.
  *
  * 성능 가이드
  * - 단건 조회(findByStoreId)는 PK/UK 인덱스 기반으로 O(1)에 가깝게 동작.
@@ -1,7 +1,9 @@
 package com.example.store.service.repository;
 
+import com.example.store.service.dto.StoreResponseWithLL;
 import com.example.store.service.entity.StoreNameMapping;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import com.example.store.service.entity.Store;
 import java.util.List;
 
@@ -16,6 +18,8 @@ import java.util.List;
  * 트랜잭션/성능 가이드
  * - 목록은 필터(카테고리 등) + 페이징/정렬(Sort) 조합을 권장
  * - 좌표 기반 조회가 필요하면 DB 공간 인덱스/외부 검색(예: 엘라스틱) 검토
+ * - 응답용 조회는 DTO 프로젝션(findAllWithLocation)을 사용한다.
+ *   STORES + STORES_LOCATION + CATEGORY를 한 번의 조인으로 읽어 N+1(이미지/위치/카테고리 지연 로딩)을 피한다.
  */
 public interface StoreRepository extends JpaRepository<Store, String> {
 
@@ -30,4 +34,16 @@ public interface StoreRepository extends JpaRepository<Store, String> {
 
 	StoreNameMapping findByStoreId(String storeId);
 
+	/**
+	 * 전체 매장 응답 행 조회(STORES + STORES_LOCATION + CATEGORY 단일 조인).
+	 * - 매장 수와 무관하게 SQL 1회
+	 * - openNow/openStatus는 채우지 않는다(조회 시점 계산)
+	 */
+	@Query("select new com.example.store.service.dto.StoreResponseWithLL(" +
+			"s.storeId, s.storeName, c.code, c.koreanName, l.address, s.seatNum, " +
+			"s.openTime, s.closeTime, s.imageUrl, l.longitude, l.latitude) " +
+			"from Store s left join s.category c left join StoreLocation l on l.storeId = s.storeId " +
+			"order by s.storeId")
+	List<StoreResponseWithLL> findAllWithLocation();
+
 }
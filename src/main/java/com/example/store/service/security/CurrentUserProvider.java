@@ -6,44 +6,83 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 현재 인증된 사용자의 식별자(userId)를 제공하는 컴포넌트.
  * - JWT 기반 인증에서 sub 클레임을 userId로 사용한다.
+ * - 관리자 등 권한 그룹은 Cognito cognito:groups 클레임으로 판단한다.
  */
 @Component
 public class CurrentUserProvider {
 
+    /** Cognito 사용자 그룹 클레임 */
+    public static final String GROUPS_CLAIM = "cognito:groups";
+
     /**
      * SecurityContext에서 JWT를 찾아 sub 클레임을 반환한다.
      * 인증 정보가 없거나 JWT가 없으면 403을 발생시킨다.
      */
     public String getCurrentUserId() {
+        String sub = currentJwt().getClaimAsString("sub");
+        if (sub == null || sub.isBlank()) {
+            throw new ForbiddenException("유효하지 않은 토큰입니다.");
+        }
+        return sub;
+    }
+
+    /**
+     * 현재 사용자가 group(cognito:groups)에 속하지 않으면 403을 발생시킨다.
+     */
+    public void requireGroup(String group) {
+        requireAnyGroup(List.of(group));
+    }
+
+    /**
+     * 현재 사용자가 allowed 중 어느 그룹(cognito:groups)에도 속하지 않으면 403을 발생시킨다.
+     */
+    public void requireAnyGroup(Collection<String> allowed) {
+        List<String> groups = currentJwt().getClaimAsStringList(GROUPS_CLAIM);
+        if (groups == null || groups.stream().noneMatch(allowed::contains)) {
+            throw new ForbiddenException("권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 인증된 요청이면 sub, 아니면(익명/요청 밖) null. 예외를 던지지 않는다.
+     */
+    public String findCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        Jwt jwt = jwtOf(authentication);
+        return jwt != null ? jwt.getClaimAsString("sub") : null;
+    }
+
+    private Jwt currentJwt() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new ForbiddenException("인증되지 않았습니다.");
         }
 
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof Jwt jwt) {
-            String sub = jwt.getClaimAsString("sub");
-            if (sub == null || sub.isBlank()) {
-                throw new ForbiddenException("유효하지 않은 토큰입니다.");
-            }
-            return sub;
+        Jwt jwt = jwtOf(authentication);
+        if (jwt == null) {
+            throw new ForbiddenException("JWT를 찾을 수 없습니다.");
         }
+        return jwt;
+    }
 
-        // 일부 구현체에서 credentials에 Jwt가 들어오는 경우 대비
-        Object credentials = authentication.getCredentials();
-        if (credentials instanceof Jwt jwtCred) {
-            String sub = jwtCred.getClaimAsString("sub");
-            if (sub == null || sub.isBlank()) {
-                throw new ForbiddenException("유효하지 않은 토큰입니다.");
-            }
-            return sub;
+    private static Jwt jwtOf(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt;
         }
 
-        throw new ForbiddenException("JWT를 찾을 수 없습니다.");
+        // 일부 구현체에서 credentials에 Jwt가 들어오는 경우 대비
+        if (authentication.getCredentials() instanceof Jwt jwtCred) {
+            return jwtCred;
+        }
+        return null;
     }
 }
-
-
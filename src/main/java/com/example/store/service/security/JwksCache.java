@@ -0,0 +1,105 @@
+package com.example.store.service.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cognito JWKS(서명 공개키 목록) 로컬 캐시.
+ *
+ * 설계 메모
+ * - 요청 스레드는 네트워크를 타지 않는다. 키 목록은 스케줄러가 기동 직후 1회, 이후 app.jwt.jwks-refresh-interval-ms
+ *   주기로 받아 volatile 필드에 바꿔 끼운다. 기동도 JWKS/issuer 조회를 기다리지 않는다.
+ * - 토큰의 kid가 목록에 없으면(키 교체 직후) 그 토큰은 401로 거절하고 백그라운드 갱신만 앞당긴다.
+ *   (최소 간격 MIN_ON_DEMAND_INTERVAL_MS — 잘못된 kid를 반복해 보내도 JWKS 호출이 늘지 않음)
+ * - 갱신 실패 시 기존 키 목록을 유지한다.
+ * - jwk-set-uri가 없으면 issuer-uri + /.well-known/jwks.json (Cognito 규약)을 쓴다.
+ */
+@Component
+@Slf4j
+public class JwksCache implements JWKSource<SecurityContext> {
+
+    private static final long MIN_ON_DEMAND_INTERVAL_MS = 30_000;
+    private static final int CONNECT_TIMEOUT_MS = 2_000;
+    private static final int READ_TIMEOUT_MS = 5_000;
+    private static final int SIZE_LIMIT_BYTES = 64 * 1024;
+
+    private final String jwkSetUri;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile JWKSet jwkSet;
+    private volatile long lastAttemptNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(MIN_ON_DEMAND_INTERVAL_MS);
+
+    @Autowired
+    public JwksCache(@Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}") String jwkSetUri,
+                     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}") String issuerUri) {
+        this.jwkSetUri = !jwkSetUri.isBlank() ? jwkSetUri : stripTrailingSlash(issuerUri) + "/.well-known/jwks.json";
+    }
+
+    /** 키 목록을 직접 넣는다(테스트/로컬 발급기용) */
+    JwksCache(JWKSet jwkSet) {
+        this.jwkSetUri = null;
+        this.jwkSet = jwkSet;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) {
+        JWKSet current = jwkSet;
+        List<JWK> keys = current != null ? selector.select(current) : List.of();
+        if (keys.isEmpty()) {
+            refreshInBackground();
+        }
+        return keys;
+    }
+
+    /** 주기 갱신(기동 직후 1회 포함). 실패 시 기존 목록 유지 */
+    @Scheduled(fixedDelayString = "${app.jwt.jwks-refresh-interval-ms:300000}", initialDelay = 0)
+    public void refresh() {
+        if (jwkSetUri == null || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        lastAttemptNanos = System.nanoTime();
+        try {
+            JWKSet loaded = JWKSet.load(URI.create(jwkSetUri).toURL(), CONNECT_TIMEOUT_MS, READ_TIMEOUT_MS, SIZE_LIMIT_BYTES);
+            JWKSet previous = jwkSet;
+            jwkSet = loaded;
+            if (previous == null || !previous.getKeys().equals(loaded.getKeys())) {
+                log.info("JWKS 갱신: keys={}", loaded.getKeys().size());
+            }
+        } catch (IOException | ParseException | RuntimeException e) {
+            log.warn("JWKS 갱신 실패, 기존 키 목록을 유지합니다: uri={}, {}", jwkSetUri, e.toString());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /** 키 목록 적재 여부 */
+    public boolean isLoaded() {
+        return jwkSet != null;
+    }
+
+    private void refreshInBackground() {
+        if (jwkSetUri == null || refreshing.get()
+                || System.nanoTime() - lastAttemptNanos < TimeUnit.MILLISECONDS.toNanos(MIN_ON_DEMAND_INTERVAL_MS)) {
+            return;
+        }
+        Thread.ofVirtual().name("jwks-refresh").start(this::refresh);
+    }
+
+    private static String stripTrailingSlash(String uri) {
+        return uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.store.service.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * 공개 조회 요청은 Authorization 헤더가 있어도 Bearer 토큰을 꺼내지 않는다(= JWT 파싱/검증 생략, 익명 처리).
+ * - 대상: GET /api/stores/** (includeFavorite=true, /api/stores/export 제외), GET /api/reviews/stores/**, GET /health, GET /actuator/health
+ * - /api/stores/export는 관리자/파트너 그룹 확인이 필요해 토큰을 그대로 꺼낸다.
+ * - /api/reviews/{id}는 /api/reviews/my와 경로 패턴이 겹쳐 대상에서 뺀다.
+ * - 그 밖의 요청은 DefaultBearerTokenResolver와 같다.
+ * - 복제본 라우팅의 read-your-writes 판단은 이 요청들에서도 헤더의 토큰을 따로 확인한다(ReadYourWritesGuard).
+ */
+public class PublicEndpointBearerTokenResolver implements BearerTokenResolver {
+
+    private static final PathPatternRequestMatcher.Builder GET = PathPatternRequestMatcher.withDefaults();
+
+    private final RequestMatcher publicReads = new OrRequestMatcher(
+            GET.matcher(HttpMethod.GET, "/api/stores/**"),
+            GET.matcher(HttpMethod.GET, "/api/reviews/stores/**"),
+            GET.matcher(HttpMethod.GET, "/health"),
+            GET.matcher(HttpMethod.GET, "/actuator/health"));
+    private final RequestMatcher protectedReads = GET.matcher(HttpMethod.GET, "/api/stores/export");
+    private final BearerTokenResolver delegate = new DefaultBearerTokenResolver();
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        if (publicReads.matches(request) && !protectedReads.matches(request)
+                && !"true".equalsIgnoreCase(request.getParameter("includeFavorite"))) {
+            return null;
+        }
+        return delegate.resolve(request);
+    }
+}
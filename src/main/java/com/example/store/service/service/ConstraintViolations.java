@@ -0,0 +1,41 @@
+package com.example.store.service.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * DataIntegrityViolationException이 어떤 제약 위반인지 판별한다.
+ * - 중복 판단은 특정 유니크 제약(uk_review_store_user, uk_fav_store_user)일 때만 한다.
+ *   NOT NULL/길이 초과/FK 위반 등 다른 위반을 "이미 작성" 으로 바꾸면 원인이 가려진다.
+ * - Hibernate가 뽑은 제약 이름(Oracle: 스키마.이름, H2: 이름_INDEX_n)을 먼저 보고,
+ *   없으면 드라이버 메시지에서 이름을 찾는다(대소문자 무시).
+ */
+final class ConstraintViolations {
+
+    static final String REVIEW_STORE_USER = "uk_review_store_user";
+    static final String FAV_STORE_USER = "uk_fav_store_user";
+
+    private ConstraintViolations() {
+    }
+
+    /** e가 constraintName 제약 위반이면 true */
+    static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        String name = constraintName.toUpperCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toUpperCase(Locale.ROOT).contains(name);
+            }
+            if (cause instanceof SQLException sql && sql.getMessage() != null
+                    && sql.getMessage().toUpperCase(Locale.ROOT).contains(name)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.store.service.service;
+
+import com.example.store.service.repository.FavStoreRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 사용자별 즐겨찾기 캐시(매장 번호 비트맵).
+ *
+ * 설계 메모
+ * - 값: 사용자의 즐겨찾기 매장을 StoreOrdinals 번호 집합(Favorites)으로 보관한다.
+ *   즐겨찾기가 적으면 정렬된 int 배열, 많으면 long 비트맵 중 작은 쪽을 쓴다.
+ * - 처음 조회할 때 FAV_STORE에서 STORE_ID만 한 번 읽어 채우고(지연 적재),
+ *   이후 여부 확인/목록 표시는 DB 왕복 없이 처리한다.
+ * - 추가/삭제는 커밋 후 해당 사용자 항목이 캐시에 있을 때만 비트를 켜고/끈다(copy-on-write).
+ *   적재 중인 같은 키에 대한 갱신은 Caffeine이 적재 완료까지 기다리므로 결과가 어긋나지 않는다.
+ * - 크기 제한: 항목 바이트 수 가중치 합이 app.favorites.cache.max-weight-bytes(기본 64MB)를 넘으면
+ *   최근에 덜 쓰인 사용자부터 내보낸다. 사용자 수와 무관하게 메모리 상한이 고정된다.
+ * - 여러 인스턴스가 함께 쓰면 다른 인스턴스의 변경은 보이지 않으므로
+ *   app.favorites.cache.expire-after-write(기본 10분) 후 다시 적재한다.
+ */
+@Service
+public class FavoriteCache {
+
+    private final FavStoreRepository favStoreRepository;
+    private final StoreOrdinals storeOrdinals;
+    private final Cache<String, Favorites> cache;
+
+    public FavoriteCache(FavStoreRepository favStoreRepository,
+                         StoreOrdinals storeOrdinals,
+                         @Value("${app.favorites.cache.max-weight-bytes:67108864}") long maxWeightBytes,
+                         @Value("${app.favorites.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.favStoreRepository = favStoreRepository;
+        this.storeOrdinals = storeOrdinals;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String userId, Favorites favorites) -> userId.length() * 2 + favorites.weightBytes())
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /** 사용자 즐겨찾기 집합(없으면 FAV_STORE에서 적재) */
+    public Favorites get(String userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /** 즐겨찾기 여부 */
+    public boolean isFavorite(String userId, String storeId) {
+        return get(userId).contains(storeId);
+    }
+
+    /** 추가 반영(커밋 후, 캐시에 있는 사용자만) */
+    public void recordAdded(String userId, String storeId) {
+        afterCommit(() -> {
+            int ordinal = storeOrdinals.assign(storeId);
+            cache.asMap().computeIfPresent(userId, (id, favorites) -> favorites.with(ordinal));
+        });
+    }
+
+    /** 삭제 반영(커밋 후, 캐시에 있는 사용자만) */
+    public void recordRemoved(String userId, String storeId) {
+        afterCommit(() -> {
+            int ordinal = storeOrdinals.find(storeId);
+            if (ordinal < 0) return;
+            cache.asMap().computeIfPresent(userId, (id, favorites) -> favorites.without(ordinal));
+        });
+    }
+
+    private Favorites load(String userId) {
+        int[] ordinals = favStoreRepository.findStoreIdsByUserId(userId).stream()
+                .mapToInt(storeOrdinals::assign)
+                .toArray();
+        return Favorites.of(storeOrdinals, ordinals);
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 즉시 실행 */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 불변 즐겨찾기 번호 집합.
+     * - sorted: 정렬된 번호 배열(희소), bits: 비트맵(밀집). 둘 중 하나만 사용
+     */
+    public static final class Favorites {
+
+        private static final int[] NO_ORDINALS = new int[0];
+
+        private final StoreOrdinals storeOrdinals;
+        private final int[] sorted;
+        private final long[] bits;
+        private final int count;
+
+        private Favorites(StoreOrdinals storeOrdinals, int[] sorted, long[] bits, int count) {
+            this.storeOrdinals = storeOrdinals;
+            this.sorted = sorted;
+            this.bits = bits;
+            this.count = count;
+        }
+
+        /** 번호 목록으로 생성(작은 표현 선택) */
+        static Favorites of(StoreOrdinals storeOrdinals, int[] ordinals) {
+            int[] distinct = Arrays.stream(ordinals).distinct().sorted().toArray();
+            int max = distinct.length == 0 ? -1 : distinct[distinct.length - 1];
+            int bitmapWords = (max >>> 6) + 1;
+            if (distinct.length == 0 || (long) distinct.length * Integer.BYTES <= (long) bitmapWords * Long.BYTES) {
+                return new Favorites(storeOrdinals, distinct.length == 0 ? NO_ORDINALS : distinct, null, distinct.length);
+            }
+            long[] bits = new long[bitmapWords];
+            for (int ordinal : distinct) bits[ordinal >>> 6] |= 1L << ordinal;
+            return new Favorites(storeOrdinals, null, bits, distinct.length);
+        }
+
+        public boolean contains(String storeId) {
+            return containsOrdinal(storeOrdinals.find(storeId));
+        }
+
+        public int size() {
+            return count;
+        }
+
+        boolean containsOrdinal(int ordinal) {
+            if (ordinal < 0) return false;
+            if (bits != null) {
+                int word = ordinal >>> 6;
+                return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+            }
+            return Arrays.binarySearch(sorted, ordinal) >= 0;
+        }
+
+        Favorites with(int ordinal) {
+            if (containsOrdinal(ordinal)) return this;
+            int[] next = Arrays.copyOf(ordinals(), count + 1);
+            next[count] = ordinal;
+            return of(storeOrdinals, next);
+        }
+
+        Favorites without(int ordinal) {
+            if (!containsOrdinal(ordinal)) return this;
+            return of(storeOrdinals, Arrays.stream(ordinals()).filter(o -> o != ordinal).toArray());
+        }
+
+        /** 캐시 가중치(대략적인 바이트 수) */
+        int weightBytes() {
+            return 32 + (bits != null ? bits.length * Long.BYTES : sorted.length * Integer.BYTES);
+        }
+
+        private int[] ordinals() {
+            if (bits == null) return sorted;
+            int[] result = new int[count];
+            int n = 0;
+            for (int word = 0; word < bits.length; word++) {
+                long w = bits[word];
+                while (w != 0) {
+                    result[n++] = (word << 6) + Long.numberOfTrailingZeros(w);
+                    w &= w - 1;
+                }
+            }
+            return result;
+        }
+
+        /** 같은 집합이면 같은 값(응답 ETag 구성용) */
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(ordinals());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Favorites other && Arrays.equals(ordinals(), other.ordinals());
+        }
+    }
+}
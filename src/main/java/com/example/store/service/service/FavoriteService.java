@@ -1,63 +1,158 @@
 package com.example.store.service.service;
 
+import com.example.store.service.config.ReadYourWritesGuard;
 import com.example.store.service.dto.FavStoreDto;
 import com.example.store.service.entity.FavStore;
 import com.example.store.service.entity.Store;
-import com.example.store.service.entity.StoreNameMapping;
 import com.example.store.service.exception.BadRequestException;
 import com.example.store.service.exception.NotFoundException;
 import com.example.store.service.repository.FavStoreRepository;
 import com.example.store.service.repository.StoreRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * 즐겨찾기 비즈니스 로직.
- * - 생성 시 storeId로 Store 조회 → storeName 세팅 (클라이언트 입력값은 신뢰하지 않음)
- * - 중복 방지, 삭제, 사용자 목록 조회
+ * - 생성 시 storeId는 카탈로그 스냅샷으로 검증 (클라이언트 입력값은 신뢰하지 않음)
+ * - 중복 방지(유니크 제약), 삭제, 사용자 목록 조회
+ * - 즐겨찾기 여부는 사용자별 캐시(FavoriteCache)로 판단: 사용자당 첫 조회에만 FAV_STORE를 읽는다
  */
 @Service
-@RequiredArgsConstructor
 public class FavoriteService { // [중요] 파일명은 FavoriteService.java
 
+    /** 즐겨찾기 일괄 조회/추가 최대 매장 수 */
+    public static final int MAX_BATCH = 200;
+
     private final FavStoreRepository favStoreRepository;
     private final StoreRepository storeRepository;
+    private final StoreCatalog catalog;
+    private final FavoriteCache favoriteCache;
+    private final ReadYourWritesGuard readYourWrites;
+    private final TransactionTemplate transactionTemplate;
+
+    public FavoriteService(FavStoreRepository favStoreRepository,
+                           StoreRepository storeRepository,
+                           StoreCatalog catalog,
+                           FavoriteCache favoriteCache,
+                           ReadYourWritesGuard readYourWrites,
+                           PlatformTransactionManager transactionManager) {
+        this.favStoreRepository = favStoreRepository;
+        this.storeRepository = storeRepository;
+        this.catalog = catalog;
+        this.favoriteCache = favoriteCache;
+        this.readYourWrites = readYourWrites;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 즐겨찾기 추가.
-     * - 동일 사용자/가게 중복 방지
-     * - STORE_NAME은 Store에서 조회해 비정규화로 저장
+     * - 매장 존재는 카탈로그 스냅샷으로 확인(DB 조회 없음)
+     * - 동일 사용자/가게 중복은 사전 조회 대신 INSERT의 유니크 제약 위반으로 판별(동시 중복 요청도 1건만 성공)
      */
     public FavStore addFavorite(String userId, String storeId) {
-        // [변경] 존재 여부만 확인하는 existsBy... 메소드 사용
-        if (favStoreRepository.existsByStoreIdAndUserId(storeId, userId)) {
-            throw new BadRequestException("이미 즐겨찾기에 추가된 매장입니다.");
+        if (!catalog.exists(storeId)) {
+            throw new NotFoundException("존재하지 않는 매장입니다.");
+        }
+
+        FavStore fav = newFavorite(userId, storeId);
+
+        FavStore saved;
+        try {
+            saved = favStoreRepository.saveAndFlush(fav);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, ConstraintViolations.FAV_STORE_USER)) {
+                throw new BadRequestException("이미 즐겨찾기에 추가된 매장입니다.");
+            }
+            throw e;
         }
-        // [중요] storeId 유효성 및 매장명 확보
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new NotFoundException("존재하지 않는 매장입니다."));
+        readYourWrites.recordWrite(userId);
+        favoriteCache.recordAdded(userId, storeId);
+        return saved;
+    }
 
-        FavStore fav = FavStore.builder()
-                .userId(userId)
-                .storeId(storeId)
-                .build();
+    /**
+     * 즐겨찾기 일괄 추가.
+     * - 이미 즐겨찾기인 매장은 건너뛴다(멱등)
+     * - 존재하지 않는 매장이 섞여 있으면 전체를 거부한다(NotFoundException)
+     * - 한 트랜잭션에서 saveAll: pooled 시퀀스 + JDBC 배치로 INSERT를 묶어 보낸다
+     * - 캐시에 없던 중복(다른 인스턴스/동시 요청이 먼저 추가)으로 배치가 제약 위반이면
+     *   행마다 트랜잭션을 나눠 다시 넣고 이미 있는 행만 건너뛴다
+     *
+     * @return 새로 추가된 즐겨찾기
+     */
+    public List<FavStore> addFavorites(String userId, List<String> storeIds) {
+        Set<String> requested = distinctStoreIds(storeIds);
+        FavoriteCache.Favorites favorites = favoriteCache.get(userId);
+        List<String> toAdd = requested.stream().filter(storeId -> !favorites.contains(storeId)).toList();
+        if (toAdd.isEmpty()) {
+            return List.of();
+        }
+
+        List<FavStore> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                Set<String> found = storeRepository.findAllById(toAdd).stream()
+                        .map(Store::getStoreId)
+                        .collect(Collectors.toSet());
+                List<String> missing = toAdd.stream().filter(storeId -> !found.contains(storeId)).toList();
+                if (!missing.isEmpty()) {
+                    throw new NotFoundException("존재하지 않는 매장입니다: " + missing);
+                }
+                return favStoreRepository.saveAll(toAdd.stream().map(storeId -> newFavorite(userId, storeId)).toList());
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isViolationOf(e, ConstraintViolations.FAV_STORE_USER)) {
+                throw e;
+            }
+            saved = addOneByOne(userId, toAdd);
+        }
+        readYourWrites.recordWrite(userId);
+        toAdd.forEach(storeId -> favoriteCache.recordAdded(userId, storeId));
+        return saved;
+    }
+
+    /** 제약 위반이 난 일괄 추가: 행마다 트랜잭션을 나눠 이미 있는 행만 건너뛴다 */
+    private List<FavStore> addOneByOne(String userId, List<String> storeIds) {
+        List<FavStore> saved = new ArrayList<>();
+        for (String storeId : storeIds) {
+            try {
+                saved.add(transactionTemplate.execute(status -> favStoreRepository.save(newFavorite(userId, storeId))));
+            } catch (DataIntegrityViolationException e) {
+                if (!ConstraintViolations.isViolationOf(e, ConstraintViolations.FAV_STORE_USER)) {
+                    throw e;
+                }
+                // 이미 즐겨찾기
+            }
+        }
+        return saved;
+    }
 
-        return favStoreRepository.save(fav);
+    private static FavStore newFavorite(String userId, String storeId) {
+        return FavStore.builder().userId(userId).storeId(storeId).build();
     }
 
     /**
-     * 즐겨찾기 제거.
+     * 즐겨찾기 제거 (DELETE 1문장, 삭제 행 수로 존재 여부 판단).
      */
     @Transactional
     public void removeFavorite(String userId, String storeId) {
-        long deleted = favStoreRepository.deleteByStoreIdAndUserId(storeId, userId);
+        int deleted = favStoreRepository.deleteByStoreIdAndUserId(storeId, userId);
         if (deleted == 0) {
             throw new NotFoundException("즐겨찾기에 없습니다.");
         }
+        readYourWrites.recordWrite(userId);
+        favoriteCache.recordRemoved(userId, storeId);
     }
 
     /**
@@ -66,19 +161,49 @@ public class FavoriteService { // [중요] 파일명은 FavoriteService.java
      * - 목록은 사용자 도메인에서 제공
      */
     public boolean isFavorite(String userId, String storeId) {
-        // [변경] 존재 여부만 확인하는 최적화된 메소드 사용
-        return favStoreRepository.existsByStoreIdAndUserId(storeId, userId);
+        return favoriteCache.isFavorite(userId, storeId);
+    }
+
+    /**
+     * 즐겨찾기 여부(여러 건) 조회.
+     * - 요청 순서를 유지한 storeId → 여부 맵. 캐시된 사용자는 DB 조회 없음
+     */
+    public Map<String, Boolean> favoriteStatus(String userId, List<String> storeIds) {
+        Set<String> requested = distinctStoreIds(storeIds);
+        FavoriteCache.Favorites favorites = favoriteCache.get(userId);
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (String storeId : requested) {
+            result.put(storeId, favorites.contains(storeId));
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 즐겨찾기 집합 (매장 목록에 즐겨찾기 여부를 붙일 때 사용).
+     */
+    public FavoriteCache.Favorites favorites(String userId) {
+        return favoriteCache.get(userId);
+    }
+
+    /** 일괄 요청 storeIds 검증(비어 있지 않고 중복 제거 후 MAX_BATCH 이하), 요청 순서 유지 */
+    private static Set<String> distinctStoreIds(List<String> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            throw new BadRequestException("storeIds가 비어 있습니다.");
+        }
+        Set<String> requested = new LinkedHashSet<>(storeIds);
+        if (requested.size() > MAX_BATCH) {
+            throw new BadRequestException("storeIds는 최대 " + MAX_BATCH + "개까지 요청할 수 있습니다.");
+        }
+        return requested;
     }
 
     /**
      * 내 즐겨찾기 목록 조회.
+     * - 매장명은 STORES 조인으로 한 번에 가져온다(즐겨찾기 수와 무관하게 SQL 1회)
+     * - readOnly: 복제본 라우팅 대상(방금 쓴 사용자는 primary)
      */
+    @Transactional(readOnly = true)
     public List<FavStoreDto> listFavorites(String userId) {
-        return favStoreRepository.findByUserId(userId).stream().map(favStore -> {
-            StoreNameMapping storeNameMapping = storeRepository.findByStoreId(favStore.getStoreId());
-            String storeName = (storeNameMapping != null) ? storeNameMapping.getStoreName() : "Unknown Store";
-
-            return new FavStoreDto(favStore.getStoreId(), favStore.getUserId(), storeName);
-        }).collect(Collectors.toList());
+        return favStoreRepository.findWithStoreNameByUserId(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.store.service.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * 로컬 디렉터리(app.image-proxy.filesystem.root)를 버킷 대신 쓰는 원본 소스. 객체 키 = 상대 경로.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.image-proxy", name = "source", havingValue = "filesystem")
+public class FileSystemStoreImageSource implements StoreImageSource {
+
+    private final Path root;
+
+    public FileSystemStoreImageSource(@Value("${app.image-proxy.filesystem.root}") Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public InputStream open(String objectKey) throws IOException {
+        Path file = root.resolve(objectKey).normalize();
+        if (!file.startsWith(root)) {
+            // ../ 로 루트 밖을 가리키는 키
+            throw new NoSuchFileException(objectKey);
+        }
+        return Files.newInputStream(file);
+    }
+}
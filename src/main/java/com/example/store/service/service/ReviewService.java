@@ -1,6 +1,8 @@
 package com.example.store.service.service;
 
+import com.example.store.service.config.ReadYourWritesGuard;
 import com.example.store.service.dto.CreateReviewRequestDto;
+import com.example.store.service.dto.CursorPage;
 import com.example.store.service.dto.ReviewDto;
 import com.example.store.service.dto.UpdateReviewRequestDto;
 import com.example.store.service.entity.Review;
@@ -8,8 +10,11 @@ import com.example.store.service.exception.BadRequestException;
 import com.example.store.service.exception.ForbiddenException;
 import com.example.store.service.exception.NotFoundException;
 import com.example.store.service.repository.ReviewRepository;
+import com.example.store.service.repository.ReviewRepositoryCustom.PreviousScore;
 import com.example.store.service.security.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,17 +25,24 @@ import java.util.stream.Collectors;
  * 리뷰 비즈니스 로직.
  * - 사용자 식별자는 클라이언트가 주지 않고(JWT sub 사용) 서비스 인자로 전달받는다.
  * - 평점 범위(1~5) 검증, 중복 작성 방지, 본인 권한 검증 포함.
+ * - 쓰기는 DB 왕복을 최소화한다: 작성은 INSERT 1회(중복은 유니크 제약 위반으로 판별),
+ *   수정/삭제는 변경 전 점수를 함께 돌려받는 문장 1회(실패했을 때만 원인 구분용 조회 1회 추가).
+ * - 작성/수정/삭제 시 StoreRatingAggregates(매장 평점 집계)를 커밋 후 갱신한다.
+ * - 조회는 readOnly 트랜잭션(복제본 라우팅 대상). 쓴 사용자는 잠시 primary에서 읽는다(ReadYourWritesGuard).
  */
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
-    // storeId -> storeName 조회용
-    private final com.example.store.service.repository.StoreRepository storeRepository;
+    // storeId 존재 확인용(스냅샷)
+    private final StoreCatalog catalog;
     private final CurrentUserProvider currentUserProvider;
+    private final StoreRatingAggregates ratingAggregates;
+    private final ReadYourWritesGuard readYourWrites;
 
     // 특정 가게의 리뷰 목록
+    @Transactional(readOnly = true)
     public List<ReviewDto> getStoreReviews(String storeId) {
         return reviewRepository.findByStoreId(storeId).stream()
                 .map(ReviewDto::fromEntity)
@@ -38,6 +50,7 @@ public class ReviewService {
     }
 
     // 내 모든 리뷰
+    @Transactional(readOnly = true)
     public List<ReviewDto> getMyReviews() {
         String userId = currentUserProvider.getCurrentUserId();
         return reviewRepository.findByUserId(userId).stream()
@@ -45,7 +58,33 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
+    // 특정 가게의 리뷰 목록(커서 페이지, 최신순)
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDto> getStoreReviewsPage(String storeId, String cursor, int size) {
+        CursorPage.validateSize(size);
+        Long after = CursorPage.decodeLongCursor(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Review> rows = after == null
+                ? reviewRepository.findStorePage(storeId, limit)
+                : reviewRepository.findStorePageAfter(storeId, after, limit);
+        return toPage(rows, size);
+    }
+
+    // 내 리뷰(커서 페이지, 최신순)
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDto> getMyReviewsPage(String cursor, int size) {
+        CursorPage.validateSize(size);
+        String userId = currentUserProvider.getCurrentUserId();
+        Long after = CursorPage.decodeLongCursor(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Review> rows = after == null
+                ? reviewRepository.findUserPage(userId, limit)
+                : reviewRepository.findUserPageAfter(userId, after, limit);
+        return toPage(rows, size);
+    }
+
     // 특정 가게에서의 내 리뷰
+    @Transactional(readOnly = true)
     public List<ReviewDto> getMyReviewsByStore(String storeId) {
         String userId = currentUserProvider.getCurrentUserId();
         return reviewRepository.findByStoreIdAndUserId(storeId, userId)
@@ -54,6 +93,7 @@ public class ReviewService {
     }
 
     // 리뷰 단건
+    @Transactional(readOnly = true)
     public ReviewDto getReview(Long id) {
         return reviewRepository.findById(id)
                 .map(ReviewDto::fromEntity)
@@ -61,61 +101,90 @@ public class ReviewService {
     }
 
     // 리뷰 작성
+    // - 매장 존재는 카탈로그 스냅샷으로 확인(DB 조회 없음)
+    // - 중복 작성은 사전 조회 대신 INSERT의 유니크 제약 위반으로 판별: 동시 중복 요청도 정확히 1건만 성공
     public ReviewDto createReview(CreateReviewRequestDto dto) {
         String userId = currentUserProvider.getCurrentUserId();
         validateScore(dto.getScore());
-
-        // [변경] 존재 여부만 확인하는 existsBy... 메소드 사용
-        if (reviewRepository.existsByStoreIdAndUserId(dto.getStoreId(), userId)) {
-            throw new BadRequestException("이미 작성한 리뷰입니다.");
+        if (!catalog.exists(dto.getStoreId())) {
+            throw new NotFoundException("존재하지 않는 매장입니다.");
         }
 
-        // storeId 유효성 및 최신 매장명 확보
-        com.example.store.service.entity.Store store = storeRepository.findById(dto.getStoreId())
-                .orElseThrow(() -> new NotFoundException("존재하지 않는 매장입니다."));
-
         Review review = Review.builder()
                 .storeId(dto.getStoreId())
                 .userId(userId)
                 .comment(dto.getComment())
                 .score(dto.getScore())
                 .build();
-        return ReviewDto.fromEntity(reviewRepository.save(review));
+        Review saved;
+        try {
+            saved = reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, ConstraintViolations.REVIEW_STORE_USER)) {
+                throw new BadRequestException("이미 작성한 리뷰입니다.");
+            }
+            throw e;
+        }
+        readYourWrites.recordWrite(userId);
+        ratingAggregates.recordCreated(saved.getStoreId(), saved.getScore());
+        return ReviewDto.fromEntity(saved);
     }
 
     // 리뷰 수정(작성자 본인만)
+    // - UPDATE 1문장이 수정 전 매장/점수(평점 집계 보정용)를 함께 돌려준다. 응답은 알고 있는 값으로 구성(재조회 없음)
     @Transactional
     public ReviewDto updateReview(Long id, UpdateReviewRequestDto dto) {
         String userId = currentUserProvider.getCurrentUserId();
         validateScore(dto.getScore());
-        boolean exists = reviewRepository.existsById(id);
-        if (!exists) {
-            throw new NotFoundException("리뷰 없음");
-        }
-        int updated = reviewRepository.updateContentAndScoreByReviewIdAndUserId(
-                id, userId, dto.getComment(), dto.getScore());
-        if (updated == 0) {
-            throw new ForbiddenException("수정 권한이 없습니다.");
+        PreviousScore before = reviewRepository
+                .updateReturningPrevious(id, userId, dto.getComment(), dto.getScore())
+                .orElseThrow(() -> notUpdatable(id, "수정 권한이 없습니다."));
+        readYourWrites.recordWrite(userId);
+        if (before.score() != null) {
+            ratingAggregates.recordUpdated(before.storeId(), before.score(), dto.getScore());
         }
-        return reviewRepository.findById(id)
-                .map(ReviewDto::fromEntity)
-                .orElseThrow(() -> new NotFoundException("리뷰 없음"));
+        return ReviewDto.builder()
+                .reviewId(id)
+                .storeId(before.storeId())
+                .userId(userId)
+                .comment(dto.getComment())
+                .score(dto.getScore())
+                .build();
     }
 
     // 리뷰 삭제(작성자 본인만)
+    // - DELETE 1문장이 삭제된 행의 매장/점수를 돌려준다
     @Transactional
     public void deleteReview(Long id) {
         String userId = currentUserProvider.getCurrentUserId();
-        boolean exists = reviewRepository.existsById(id);
-        if (!exists) {
-            throw new NotFoundException("리뷰 없음");
-        }
-        int deleted = reviewRepository.deleteByReviewIdAndUserId(id, userId);
-        if (deleted == 0) {
-            throw new ForbiddenException("삭제 권한이 없습니다.");
+        PreviousScore before = reviewRepository.deleteReturningPrevious(id, userId)
+                .orElseThrow(() -> notUpdatable(id, "삭제 권한이 없습니다."));
+        readYourWrites.recordWrite(userId);
+        if (before.score() != null) {
+            ratingAggregates.recordDeleted(before.storeId(), before.score());
         }
     }
 
+    // 수정/삭제된 행이 없을 때만 한 번 더 조회해 원인 구분: 리뷰가 있으면 403(남의 리뷰), 없으면 404
+    private RuntimeException notUpdatable(Long id, String forbiddenMessage) {
+        return reviewRepository.existsById(id)
+                ? new ForbiddenException(forbiddenMessage)
+                : new NotFoundException("리뷰 없음");
+    }
+
+    // size+1개 조회 결과 → 페이지 (초과분이 있으면 다음 커서 생성)
+    private CursorPage<ReviewDto> toPage(List<Review> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ReviewDto> items = rows.stream()
+                .limit(size)
+                .map(ReviewDto::fromEntity)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext
+                ? CursorPage.encodeCursor(String.valueOf(items.get(items.size() - 1).getReviewId()))
+                : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
     // 평점 범위 검증(1~5)
     private void validateScore(Integer score) {
         if (score == null || score < 1 || score > 5) {
@@ -0,0 +1,324 @@
+package com.example.store.service.service;
+
+import com.example.store.service.config.ReadYourWritesGuard;
+import com.example.store.service.dto.CreateReviewRequestDto;
+import com.example.store.service.dto.ReviewSubmissionResponse;
+import com.example.store.service.entity.Review;
+import com.example.store.service.exception.BadRequestException;
+import com.example.store.service.exception.NotFoundException;
+import com.example.store.service.exception.ServiceUnavailableException;
+import com.example.store.service.repository.ReviewRepository;
+import com.example.store.service.repository.StoreRepository;
+import com.example.store.service.security.CurrentUserProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 작성 write-behind 모드 (app.review.write-behind.enabled=true).
+ *
+ * 설계 메모
+ * - 요청 스레드는 DB를 쓰지 않는다: 평점 범위와 매장 존재(카탈로그 스냅샷)만 확인하고 제한 크기 큐에 넣은 뒤
+ *   접수 번호(ticket)를 돌려준다(202). 최종 결과는 GET /api/reviews/submissions/{ticketId}로 조회한다.
+ * - 큐가 가득 차면 바로 503 + Retry-After로 거절한다(요청 스레드를 붙잡지 않는 백프레셔).
+ * - 전용 쓰기 스레드 1개가 큐에서 최대 batch-size개씩 꺼내 트랜잭션 1개로 저장한다.
+ *   REVIEW_ID는 pooled 시퀀스(50개 단위), INSERT는 hibernate.jdbc.batch_size로 묶여 나간다.
+ * - 중복 리뷰는 미리 조회하지 않고 uk_review_store_user 위반으로 판단한다. 배치가 제약 위반으로 실패하면
+ *   그 배치만 행 단위 트랜잭션으로 다시 저장해 위반한 행만 REJECTED로 남긴다.
+ *   중복 메시지는 uk_review_store_user 위반에만 쓰고, 그 밖의 제약 위반은 입력 오류로 거절한다.
+ *   같은 사용자·매장 리뷰가 아직 큐에 있으면 접수 단계에서 바로 거절한다.
+ * - 그 밖의 DB 오류는 배치를 max-attempts번까지 다시 시도하고, 그래도 실패하면 FAILED로 남긴다.
+ * - 큐는 메모리에만 있으므로 종료 시 남은 항목을 모두 저장한 뒤 내려간다(강제 종료 시 미저장 접수는 유실된다).
+ * - 접수 상태 보관: 처리 중인 접수는 queued(큐 크기만큼)에, 끝난 접수는 ticket-ttl과 max-tickets(기본 queue-capacity)로
+ *   제한한 캐시에 둔다. 끝난 접수는 리뷰 내용(comment)을 버린다. 보관 한도로 먼저 빠진 접수는 404가 아니라 UNKNOWN으로 응답한다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.review.write-behind", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReviewWriteBehindQueue {
+
+    public static final String PENDING = "PENDING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String REJECTED = "REJECTED";
+    public static final String FAILED = "FAILED";
+    /** 보관 기간/개수 한도로 결과를 더 이상 갖고 있지 않은 접수 */
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReviewRepository reviewRepository;
+    private final StoreRepository storeRepository;
+    private final StoreCatalog catalog;
+    private final CurrentUserProvider currentUserProvider;
+    private final StoreRatingAggregates ratingAggregates;
+    private final ReadYourWritesGuard readYourWrites;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final BlockingQueue<Ticket> queue;
+    /** 큐에 있는 (매장, 사용자) → 접수. 큐 안 중복 차단용 */
+    private final ConcurrentHashMap<String, Ticket> pending = new ConcurrentHashMap<>();
+    /** 큐에 있거나 쓰는 중인 접수 (접수 번호 → 접수) */
+    private final ConcurrentHashMap<String, Ticket> queued = new ConcurrentHashMap<>();
+    /** 끝난 접수 (접수 번호 → 접수), ticket-ttl/max-tickets 제한 */
+    private final Cache<String, Ticket> tickets;
+    private final Counter rejectedFull;
+    private final DistributionSummary batchSizes;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public ReviewWriteBehindQueue(ReviewRepository reviewRepository,
+                                  StoreRepository storeRepository,
+                                  StoreCatalog catalog,
+                                  CurrentUserProvider currentUserProvider,
+                                  StoreRatingAggregates ratingAggregates,
+                                  ReadYourWritesGuard readYourWrites,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.review.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${app.review.write-behind.batch-size:50}") int batchSize,
+                                  @Value("${app.review.write-behind.max-attempts:3}") int maxAttempts,
+                                  @Value("${app.review.write-behind.ticket-ttl:10m}") Duration ticketTtl,
+                                  @Value("${app.review.write-behind.max-tickets:${app.review.write-behind.queue-capacity:10000}}") long maxTickets) {
+        this.reviewRepository = reviewRepository;
+        this.storeRepository = storeRepository;
+        this.catalog = catalog;
+        this.currentUserProvider = currentUserProvider;
+        this.ratingAggregates = ratingAggregates;
+        this.readYourWrites = readYourWrites;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = Caffeine.newBuilder().expireAfterWrite(ticketTtl).maximumSize(maxTickets).build();
+        this.rejectedFull = meterRegistry.counter("store.review.queue.rejected");
+        this.batchSizes = DistributionSummary.builder("store.review.batch.size").register(meterRegistry);
+        meterRegistry.gauge("store.review.queue.size", queue, BlockingQueue::size);
+        this.writer = new Thread(this::drain, "review-writer");
+        this.writer.start();
+    }
+
+    /**
+     * 리뷰 접수. 검증에 통과하면 큐에 넣고 PENDING 상태를 돌려준다.
+     */
+    public ReviewSubmissionResponse submit(CreateReviewRequestDto dto) {
+        String userId = currentUserProvider.getCurrentUserId();
+        if (dto.getScore() == null || dto.getScore() < 1 || dto.getScore() > 5) {
+            throw new BadRequestException("평점은 1에서 5 사이여야 합니다.");
+        }
+        String storeId = dto.getStoreId();
+        // 스냅샷 갱신 전에 추가된 매장만 DB로 확인한다
+        if (catalog.current().ordinalOf(storeId) < 0 && !storeRepository.existsById(storeId)) {
+            throw new NotFoundException("존재하지 않는 매장입니다.");
+        }
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), storeId, userId, dto.getComment(), dto.getScore());
+        if (pending.putIfAbsent(ticket.key(), ticket) != null) {
+            throw new BadRequestException("이미 작성한 리뷰입니다.");
+        }
+        // 쓰기 스레드가 응답 전에 끝낼 수 있으므로 PENDING 응답은 큐에 넣기 전에 만든다
+        ReviewSubmissionResponse accepted = ticket.toResponse();
+        queued.put(ticket.id, ticket);
+        if (!running || !queue.offer(ticket)) {
+            queued.remove(ticket.id);
+            pending.remove(ticket.key(), ticket);
+            rejectedFull.increment();
+            throw new ServiceUnavailableException("리뷰 접수가 많아 잠시 후 다시 시도해 주세요.");
+        }
+        return accepted;
+    }
+
+    /**
+     * 본인 접수 상태 조회.
+     * - 다른 사용자 접수면 404
+     * - 보관 기간/개수 한도로 이미 빠진 접수(또는 모르는 번호)면 UNKNOWN: 결과는 내 리뷰 목록으로 확인한다
+     */
+    public ReviewSubmissionResponse status(String ticketId) {
+        String userId = currentUserProvider.getCurrentUserId();
+        Ticket ticket = queued.get(ticketId);
+        if (ticket == null) {
+            ticket = tickets.getIfPresent(ticketId);
+        }
+        if (ticket == null) {
+            return new ReviewSubmissionResponse(ticketId, UNKNOWN, null, null,
+                    "접수 결과 보관 기간이 지났습니다. 내 리뷰 목록에서 확인해 주세요.", null, null);
+        }
+        if (!ticket.userId.equals(userId)) {
+            throw new NotFoundException("존재하지 않는 리뷰 접수입니다.");
+        }
+        return ticket.toResponse();
+    }
+
+    /** 대기 중인 접수 수 */
+    public int queued() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(SHUTDOWN_TIMEOUT.toMillis());
+        if (writer.isAlive()) {
+            log.warn("리뷰 쓰기 스레드가 종료되지 않았습니다. 미저장 접수={}", queue.size());
+            writer.interrupt();
+        }
+    }
+
+    private void drain() {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Ticket first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("리뷰 배치 처리 중 예외", e);
+                batch.forEach(ticket -> ticket.finish(FAILED, null, "리뷰를 저장하지 못했습니다."));
+            } finally {
+                for (Ticket ticket : batch) {
+                    pending.remove(ticket.key(), ticket);
+                    // 끝난 캐시에 먼저 넣고 빼서 조회 사이에 비는 순간이 없게 한다
+                    tickets.put(ticket.id, ticket);
+                    queued.remove(ticket.id);
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Ticket> batch) throws InterruptedException {
+        batchSizes.record(batch.size());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<Review> saved = transactionTemplate.execute(status -> reviewRepository.saveAll(toEntities(batch)));
+                for (int i = 0; i < batch.size(); i++) {
+                    completed(batch.get(i), saved.get(i));
+                }
+                return;
+            } catch (DataIntegrityViolationException e) {
+                writeOneByOne(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("리뷰 배치 저장 실패({}건), 재시도 {}회 초과", batch.size(), maxAttempts, e);
+                    batch.forEach(ticket -> ticket.finish(FAILED, null, "리뷰를 저장하지 못했습니다."));
+                    return;
+                }
+                log.warn("리뷰 배치 저장 실패({}건), {}번째 재시도: {}", batch.size(), attempt, e.toString());
+                Thread.sleep(200L * attempt);
+            }
+        }
+    }
+
+    /** 제약 위반이 난 배치: 행마다 트랜잭션을 나눠 위반한 행만 거절한다 */
+    private void writeOneByOne(List<Ticket> batch) {
+        for (Ticket ticket : batch) {
+            try {
+                Review saved = transactionTemplate.execute(status -> reviewRepository.save(toEntity(ticket)));
+                completed(ticket, saved);
+            } catch (DataIntegrityViolationException e) {
+                if (ConstraintViolations.isViolationOf(e, ConstraintViolations.REVIEW_STORE_USER)) {
+                    ticket.finish(REJECTED, null, "이미 작성한 리뷰입니다.");
+                } else {
+                    // 길이 초과/NOT NULL/FK(매장 삭제) 등: 다시 보내도 같은 결과인 입력 오류
+                    log.warn("리뷰 저장 거절(제약 위반): ticket={}, {}", ticket.id, e.getMostSpecificCause().toString());
+                    ticket.finish(REJECTED, null, "리뷰를 저장할 수 없는 요청입니다.");
+                }
+            } catch (RuntimeException e) {
+                log.error("리뷰 저장 실패: ticket={}", ticket.id, e);
+                ticket.finish(FAILED, null, "리뷰를 저장하지 못했습니다.");
+            }
+        }
+    }
+
+    private void completed(Ticket ticket, Review saved) {
+        readYourWrites.recordWrite(ticket.userId);
+        ratingAggregates.recordCreated(saved.getStoreId(), saved.getScore());
+        ticket.finish(COMPLETED, saved.getReviewId(), null);
+    }
+
+    private static List<Review> toEntities(List<Ticket> batch) {
+        List<Review> reviews = new ArrayList<>(batch.size());
+        batch.forEach(ticket -> reviews.add(toEntity(ticket)));
+        return reviews;
+    }
+
+    private static Review toEntity(Ticket ticket) {
+        return Review.builder()
+                .storeId(ticket.storeId)
+                .userId(ticket.userId)
+                .comment(ticket.comment)
+                .score(ticket.score)
+                .build();
+    }
+
+    /** 접수 1건(요청 스레드가 만들고 쓰기 스레드가 결과를 채운다) */
+    private static final class Ticket {
+        final String id;
+        final String storeId;
+        final String userId;
+        /** 저장 전까지만 보관(끝나면 null) */
+        volatile String comment;
+        final int score;
+        final Instant submittedAt = Instant.now();
+        volatile String status = PENDING;
+        volatile Long reviewId;
+        volatile String message;
+        volatile Instant completedAt;
+
+        Ticket(String id, String storeId, String userId, String comment, int score) {
+            this.id = id;
+            this.storeId = storeId;
+            this.userId = userId;
+            this.comment = comment;
+            this.score = score;
+        }
+
+        String key() {
+            return storeId + '\u0000' + userId;
+        }
+
+        /** PENDING일 때만 결과를 기록한다 */
+        void finish(String status, Long reviewId, String message) {
+            if (!PENDING.equals(this.status)) {
+                return;
+            }
+            this.reviewId = reviewId;
+            this.message = message;
+            this.comment = null;
+            this.completedAt = Instant.now();
+            this.status = status;
+        }
+
+        ReviewSubmissionResponse toResponse() {
+            return new ReviewSubmissionResponse(id, status, storeId, reviewId, message, submittedAt, completedAt);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.store.service.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * S3 버킷(app.s3.bucket.name)에서 이미지 원본을 읽는다. 기본 소스.
+ * app.s3.endpoint를 주면 S3 호환 로컬 서버를 path-style로 사용한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.image-proxy", name = "source", havingValue = "s3", matchIfMissing = true)
+public class S3StoreImageSource implements StoreImageSource, DisposableBean {
+
+    private final S3Client s3;
+    private final String bucket;
+
+    public S3StoreImageSource(@Value("${app.s3.bucket.name:}") String bucket,
+                              @Value("${cloud.aws.region.static:ap-northeast-2}") String region,
+                              @Value("${app.s3.endpoint:}") String endpoint) {
+        var builder = S3Client.builder().region(Region.of(region));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        this.s3 = builder.build();
+        this.bucket = bucket;
+    }
+
+    @Override
+    public InputStream open(String objectKey) throws NoSuchFileException {
+        try {
+            return s3.getObject(request -> request.bucket(bucket).key(objectKey));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(objectKey);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        s3.close();
+    }
+}
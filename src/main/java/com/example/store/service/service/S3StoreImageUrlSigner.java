@@ -0,0 +1,57 @@
+package com.example.store.service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * S3 presigned GET URL 서명기 (app.s3.presign.enabled=true일 때만).
+ * - 서명은 로컬 HMAC 계산이라 네트워크 호출이 없다. 자격 증명은 기본 체인(IRSA/환경변수/인스턴스 프로파일)을 쓴다.
+ * - app.s3.endpoint를 주면 S3 호환 로컬 서버(MinIO, LocalStack 등)용 path-style URL을 만든다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.s3.presign", name = "enabled", havingValue = "true")
+@Slf4j
+public class S3StoreImageUrlSigner implements StoreImageUrlSigner, DisposableBean {
+
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final Duration ttl;
+
+    public S3StoreImageUrlSigner(@Value("${app.s3.bucket.name}") String bucket,
+                                 @Value("${cloud.aws.region.static:ap-northeast-2}") String region,
+                                 @Value("${app.s3.endpoint:}") String endpoint,
+                                 @Value("${app.s3.presign.ttl:15m}") Duration ttl) {
+        S3Presigner.Builder builder = S3Presigner.builder().region(Region.of(region));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        this.presigner = builder.build();
+        this.bucket = bucket;
+        this.ttl = ttl;
+        log.info("매장 이미지 presigned URL 사용: bucket={}, ttl={}", bucket, ttl);
+    }
+
+    @Override
+    public SignedUrl sign(String objectKey) {
+        PresignedGetObjectRequest presigned = presigner.presignGetObject(request -> request
+                .signatureDuration(ttl)
+                .getObjectRequest(get -> get.bucket(bucket).key(objectKey)));
+        return new SignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+
+    @Override
+    public void destroy() {
+        presigner.close();
+    }
+}
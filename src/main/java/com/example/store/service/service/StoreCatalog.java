@@ -0,0 +1,329 @@
+package com.example.store.service.service;
+
+import com.example.store.service.dto.CursorPage;
+import com.example.store.service.dto.StoreRatingResponse;
+import com.example.store.service.dto.StoreResponse;
+import com.example.store.service.dto.StoreResponseWithLL;
+import com.example.store.service.exception.BadRequestException;
+import com.example.store.service.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 매장 카탈로그 읽기 모델.
+ * - STORES/STORES_LOCATION/CATEGORY를 단일 조인 쿼리(StoreRepository.findAllWithLocation)로 읽어
+ *   메모리 스냅샷(StoreCatalogSnapshot)으로 적재하고,
+ *   목록/상세/카테고리 그룹 조회를 DB 접근 없이 스냅샷에서 응답한다.
+ * - openNow/openStatus와 영업 상태 필터는 StoreOpenHours 비트셋으로 판정한다(매장당 O(1)).
+ * - 갱신: 기동 완료 시 1회 + app.catalog.refresh-interval-ms 주기(기본 5분).
+ *   새 스냅샷을 만든 뒤 volatile 참조를 교체하므로 조회 중인 요청은 이전 스냅샷을 끝까지 사용한다.
+ * - 적재 실패 시 기존 스냅샷을 유지하고 로그만 남긴다.
+ * - 내용이 바뀐 스냅샷으로 교체되면 StoreCatalogRefreshedEvent를 발행한다.
+ */
+@Service
+@Slf4j
+public class StoreCatalog {
+
+    /** 주변 매장 검색 최대 개수 */
+    static final int MAX_NEARBY = 100;
+
+    /** closingWithinMinutes 상한(하루) */
+    static final int MAX_CLOSING_WITHIN = 24 * 60;
+
+    private final StoreRepository storeRepository;
+    private final StoreRatingAggregates ratingAggregates;
+    private final StoreOpenHours openHours;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoreImageService imageService;
+
+    private volatile StoreCatalogSnapshot snapshot;
+
+    public StoreCatalog(StoreRepository storeRepository,
+                        StoreRatingAggregates ratingAggregates,
+                        StoreOpenHours openHours,
+                        ApplicationEventPublisher eventPublisher,
+                        StoreImageService imageService) {
+        this.storeRepository = storeRepository;
+        this.ratingAggregates = ratingAggregates;
+        this.openHours = openHours;
+        this.eventPublisher = eventPublisher;
+        this.imageService = imageService;
+    }
+
+    /** 현재 스냅샷. 아직 적재 전이면 호출 스레드에서 1회 적재한다. */
+    public StoreCatalogSnapshot current() {
+        StoreCatalogSnapshot current = snapshot;
+        if (current != null) return current;
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+                eventPublisher.publishEvent(new StoreCatalogRefreshedEvent(snapshot));
+            }
+            return snapshot;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (RuntimeException e) {
+            log.error("매장 카탈로그 초기 적재 실패, 첫 조회 시 재시도합니다.", e);
+        }
+    }
+
+    /** 주기적 갱신. 실패 시 기존 스냅샷 유지. */
+    @Scheduled(fixedDelayString = "${app.catalog.refresh-interval-ms:300000}",
+            initialDelayString = "${app.catalog.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            StoreCatalogSnapshot loaded = load();
+            StoreCatalogSnapshot previous = snapshot;
+            snapshot = loaded;
+            if (previous == null || previous.version() != loaded.version()) {
+                log.info("매장 카탈로그 갱신: stores={}, version={}", loaded.size(), Long.toHexString(loaded.version()));
+                eventPublisher.publishEvent(new StoreCatalogRefreshedEvent(loaded));
+            }
+        } catch (RuntimeException e) {
+            log.error("매장 카탈로그 갱신 실패, 기존 스냅샷을 유지합니다.", e);
+        }
+    }
+
+    /** 단일 조인 프로젝션 쿼리 1회로 스냅샷 생성 */
+    private StoreCatalogSnapshot load() {
+        long started = System.nanoTime();
+        List<StoreResponseWithLL> rows = storeRepository.findAllWithLocation();
+        StoreCatalogSnapshot.Builder builder = StoreCatalogSnapshot.builder(rows.size());
+        for (StoreResponseWithLL row : rows) {
+            builder.add(row.getStoreId(), row.getStoreName(), row.getCategoryCode(), row.getCategoryName(),
+                    row.getStoreLocation(), row.getSeatNum(), row.getOpenTime(), row.getCloseTime(),
+                    row.getImageUrl(), row.getLongitude(), row.getLatitude());
+        }
+        StoreCatalogSnapshot loaded = builder.build();
+        log.debug("매장 카탈로그 적재: stores={}, {}ms", loaded.size(), (System.nanoTime() - started) / 1_000_000);
+        return loaded;
+    }
+
+    // ===================== 조회 =====================
+
+    /**
+     * 가게 목록 (옵션 필터)
+     *
+     * @param categoryCode         카테고리
+     * @param openNow              영업 상태(true=영업중만 / false=영업종료만)
+     * @param closingWithinMinutes 영업중이면서 N분 이내 종료(1~1440)
+     */
+    public List<StoreResponseWithLL> listStores(Integer categoryCode, Boolean openNow, Integer closingWithinMinutes) {
+        StoreCatalogSnapshot s = current();
+        StoreOpenHours.OpenSet open = openHours.current(s);
+        IntPredicate filter = openFilter(s, open, openNow, closingWithinMinutes);
+        int[] ordinals = s.ordinals(categoryCode);
+        List<StoreResponseWithLL> result = new ArrayList<>(filter == null ? ordinals.length : 16);
+        for (int ordinal : ordinals) {
+            if (filter == null || filter.test(ordinal)) {
+                result.add(toResponseWithLL(s, ordinal, open));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 가게 목록 커서 페이지 (STORE_ID 오름차순).
+     * - 커서 = 이전 페이지 마지막 STORE_ID. 스냅샷 정렬 배열에서 이진 탐색으로 시작 위치를 찾는다.
+     */
+    public CursorPage<StoreResponseWithLL> listStoresPage(Integer categoryCode, Boolean openNow,
+                                                          Integer closingWithinMinutes, String cursor, int size) {
+        CursorPage.validateSize(size);
+        String after = CursorPage.decodeCursor(cursor);
+        StoreCatalogSnapshot s = current();
+        StoreOpenHours.OpenSet open = openHours.current(s);
+        IntPredicate filter = openFilter(s, open, openNow, closingWithinMinutes);
+        int[] ordinals = s.ordinals(categoryCode);
+        List<StoreResponseWithLL> items = new ArrayList<>(size);
+        boolean hasMore = false;
+        for (int i = s.seekAfter(ordinals, after); i < ordinals.length; i++) {
+            if (filter != null && !filter.test(ordinals[i])) continue;
+            if (items.size() == size) {
+                hasMore = true;
+                break;
+            }
+            items.add(toResponseWithLL(s, ordinals[i], open));
+        }
+        String nextCursor = hasMore
+                ? CursorPage.encodeCursor(items.get(items.size() - 1).getStoreId())
+                : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    /** 가게 상세 (없으면 IllegalArgumentException → 400, 기존 StoreService.getStore와 동일) */
+    public StoreResponseWithLL getStore(String storeId) {
+        StoreCatalogSnapshot s = current();
+        int ordinal = s.ordinalOf(storeId);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Store not found");
+        }
+        return toResponseWithLL(s, ordinal, openHours.current(s));
+    }
+
+    /**
+     * 매장 존재 여부 (쓰기 경로의 storeId 검증용).
+     * - 스냅샷에 있으면 DB 조회 없음. 스냅샷 갱신 전에 추가된 매장만 existsById로 확인한다.
+     */
+    public boolean exists(String storeId) {
+        return current().ordinalOf(storeId) >= 0 || (storeId != null && storeRepository.existsById(storeId));
+    }
+
+    /**
+     * storeId 순서대로 응답 생성(스냅샷에 없는 매장은 건너뜀).
+     * - 리더보드 등 다른 읽기 모델이 고른 매장 목록을 응답으로 바꿀 때 사용
+     */
+    public List<StoreResponseWithLL> getStores(List<String> storeIds) {
+        StoreCatalogSnapshot s = current();
+        StoreOpenHours.OpenSet open = openHours.current(s);
+        List<StoreResponseWithLL> result = new ArrayList<>(storeIds.size());
+        for (String storeId : storeIds) {
+            int ordinal = s.ordinalOf(storeId);
+            if (ordinal >= 0) {
+                result.add(toResponseWithLL(s, ordinal, open));
+            }
+        }
+        return result;
+    }
+
+    /** 매장 평점 집계 (매장이 없으면 IllegalArgumentException → 400) */
+    public StoreRatingResponse getRating(String storeId) {
+        if (current().ordinalOf(storeId) < 0) {
+            throw new IllegalArgumentException("Store not found");
+        }
+        return ratingAggregates.toResponse(storeId);
+    }
+
+    /** 위경도 (위치 정보가 없으면 IllegalArgumentException) */
+    public Map<String, String> getLocation(String storeId) {
+        StoreCatalogSnapshot s = current();
+        int ordinal = s.ordinalOf(storeId);
+        if (ordinal < 0 || s.latitudeText(ordinal) == null || s.longitudeText(ordinal) == null) {
+            throw new IllegalArgumentException("위치 정보가 없습니다.");
+        }
+        return Map.of(
+                "latitude", s.latitudeText(ordinal),
+                "longitude", s.longitudeText(ordinal)
+        );
+    }
+
+    /**
+     * 좌표 기준 가까운 매장 k개(가까운 순).
+     *
+     * @param lat          위도(-90~90)
+     * @param lng          경도(-180~180)
+     * @param k            개수(1~100)
+     * @param categoryCode 카테고리 필터(선택)
+     * @param openNow      영업 상태 필터(선택, true=영업중만 / false=영업종료만)
+     * @param closingWithinMinutes 영업중이면서 N분 이내 종료(선택, 1~1440)
+     */
+    public List<StoreResponseWithLL> nearby(double lat, double lng, int k, Integer categoryCode,
+                                            Boolean openNow, Integer closingWithinMinutes) {
+        if (!StoreSpatialIndex.isValid(lat, lng)) {
+            throw new BadRequestException("위경도 범위가 올바르지 않습니다.");
+        }
+        if (k < 1 || k > MAX_NEARBY) {
+            throw new BadRequestException("k는 1에서 " + MAX_NEARBY + " 사이여야 합니다.");
+        }
+        StoreCatalogSnapshot s = current();
+        StoreOpenHours.OpenSet open = openHours.current(s);
+        IntPredicate filter = openFilter(s, open, openNow, closingWithinMinutes);
+        if (categoryCode != null) {
+            IntPredicate category = ordinal -> categoryCode.equals(s.categoryCode(ordinal));
+            filter = filter == null ? category : category.and(filter);
+        }
+
+        StoreSpatialIndex.Result found = s.spatialIndex().nearest(lat, lng, k, filter);
+        List<StoreResponseWithLL> result = new ArrayList<>(found.ordinals().length);
+        for (int i = 0; i < found.ordinals().length; i++) {
+            StoreResponseWithLL r = toResponseWithLL(s, found.ordinals()[i], open);
+            r.setDistanceMeters(Math.round(found.distanceMeters()[i] * 10) / 10.0);
+            result.add(r);
+        }
+        return result;
+    }
+
+    /** 카테고리명(없으면 "기타")으로 그룹핑한 가게 목록 */
+    public Map<String, List<StoreResponse>> groupByCategory() {
+        StoreCatalogSnapshot s = current();
+        StoreOpenHours.OpenSet open = openHours.current(s);
+        Map<String, List<StoreResponse>> grouped = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < s.size(); ordinal++) {
+            String key = s.categoryName(ordinal) != null ? s.categoryName(ordinal) : "기타";
+            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(toResponse(s, ordinal, open));
+        }
+        return grouped;
+    }
+
+    /**
+     * 영업 상태 필터(openNow, closingWithinMinutes). 둘 다 없으면 null.
+     * - 비트셋 조회라 매장당 O(1)
+     */
+    private static IntPredicate openFilter(StoreCatalogSnapshot s, StoreOpenHours.OpenSet open,
+                                           Boolean openNow, Integer closingWithinMinutes) {
+        IntPredicate filter = null;
+        if (openNow != null) {
+            filter = ordinal -> open.isOpen(ordinal) == openNow;
+        }
+        if (closingWithinMinutes != null) {
+            if (closingWithinMinutes < 1 || closingWithinMinutes > MAX_CLOSING_WITHIN) {
+                throw new BadRequestException("closingWithinMinutes는 1에서 " + MAX_CLOSING_WITHIN + " 사이여야 합니다.");
+            }
+            IntPredicate closing = ordinal -> open.isClosingWithin(s, ordinal, closingWithinMinutes);
+            filter = filter == null ? closing : filter.and(closing);
+        }
+        return filter;
+    }
+
+    private StoreResponseWithLL toResponseWithLL(StoreCatalogSnapshot s, int ordinal, StoreOpenHours.OpenSet openSet) {
+        boolean open = openSet.isOpen(ordinal);
+        StoreRatingAggregates.Rating rating = ratingAggregates.get(s.storeId(ordinal));
+        return StoreResponseWithLL.builder()
+                .storeId(s.storeId(ordinal))
+                .storeName(s.storeName(ordinal))
+                .categoryCode(s.categoryCode(ordinal))
+                .categoryName(s.categoryName(ordinal))
+                .storeLocation(s.address(ordinal))
+                .seatNum(s.seatNum(ordinal))
+                .openTime(s.openTime(ordinal))
+                .closeTime(s.closeTime(ordinal))
+                .imageUrl(imageService.resolve(s.imageUrl(ordinal)))
+                .longitude(s.longitudeText(ordinal))
+                .latitude(s.latitudeText(ordinal))
+                .openNow(open)
+                .openStatus(open ? "영업중" : "영업종료")
+                .ratingCount(rating.count())
+                .ratingAverage(rating.average())
+                .build();
+    }
+
+    private StoreResponse toResponse(StoreCatalogSnapshot s, int ordinal, StoreOpenHours.OpenSet openSet) {
+        boolean open = openSet.isOpen(ordinal);
+        return StoreResponse.builder()
+                .storeId(s.storeId(ordinal))
+                .storeName(s.storeName(ordinal))
+                .categoryCode(s.categoryCode(ordinal))
+                .categoryName(s.categoryName(ordinal))
+                .seatNum(s.seatNum(ordinal))
+                .openTime(s.openTime(ordinal))
+                .closeTime(s.closeTime(ordinal))
+                .imageUrl(imageService.resolve(s.imageUrl(ordinal)))
+                .openNow(open)
+                .openStatus(open ? "영업중" : "영업종료")
+                .build();
+    }
+}
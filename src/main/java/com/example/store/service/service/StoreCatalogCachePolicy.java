@@ -0,0 +1,102 @@
+package com.example.store.service.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 카탈로그 응답(목록/상세/카테고리 그룹)의 HTTP 캐시 검증자(ETag)와 유효 시간 계산.
+ *
+ * ETag 구성(강한 검증자)
+ * - 카탈로그 스냅샷 version (매장 데이터 내용 해시)
+ * - 평점 집계 contentHash (ratingCount/ratingAverage 내용 해시)
+ * - 가장 최근 영업 상태 전환 시각 (openNow/openStatus) — 어느 매장이든 열리거나 닫히면 값이 바뀐다
+ * - 이미지 서명 구성값 (presign을 쓰면 인스턴스 난수 + 재서명 세대 — 304로 만료된/다른 인스턴스의 URL을 쓰지 않게)
+ * - 응답 종류(variant: 경로 + 필터)
+ * 프로세스 안 카운터를 쓰지 않으므로 presign을 끄면(기본) 같은 데이터·같은 시각의 응답은 인스턴스/재기동과 무관하게 ETag가 같고,
+ * 내용이 다르면 ETag도 다르다(로드밸런서 뒤에서도 304가 맞다).
+ * presign을 켜면 본문(서명 URL)과 ETag가 인스턴스마다 다르므로 instanceSpecific=true: 공용 캐시(CDN)에 두지 않는다.
+ * 모든 값이 모두 메모리에 있으므로 If-None-Match 비교는 DB/응답 생성 없이 끝난다.
+ *
+ * 유효 시간
+ * - max-age = min(app.catalog.cache.max-age-seconds, 다음 영업 상태 전환까지 남은 초)
+ * - stale-while-revalidate도 다음 전환 시각을 넘지 않게 줄인다(전환 이후 stale openNow 방지).
+ */
+@Service
+public class StoreCatalogCachePolicy {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final StoreCatalog catalog;
+    private final StoreRatingAggregates ratingAggregates;
+    private final StoreImageService imageService;
+    private final StoreOpenHours openHours;
+    private final long maxAgeSeconds;
+    private final long staleWhileRevalidateSeconds;
+
+    public StoreCatalogCachePolicy(StoreCatalog catalog,
+                                   StoreRatingAggregates ratingAggregates,
+                                   StoreImageService imageService,
+                                   StoreOpenHours openHours,
+                                   @Value("${app.catalog.cache.max-age-seconds:60}") long maxAgeSeconds,
+                                   @Value("${app.catalog.cache.stale-while-revalidate-seconds:30}") long staleWhileRevalidateSeconds) {
+        this.catalog = catalog;
+        this.ratingAggregates = ratingAggregates;
+        this.imageService = imageService;
+        this.openHours = openHours;
+        this.maxAgeSeconds = maxAgeSeconds;
+        this.staleWhileRevalidateSeconds = staleWhileRevalidateSeconds;
+    }
+
+    /**
+     * 현재 시점의 검증자/유효 시간.
+     *
+     * @param variant 응답 종류 구분값(예: "stores?categoryCode=1", "stores/S001")
+     */
+    public Freshness evaluate(String variant) {
+        StoreCatalogSnapshot s = catalog.current();
+        ZonedDateTime now = openHours.now();
+        int minute = now.getHour() * 60 + now.getMinute();
+        long today = now.toLocalDate().toEpochDay() * MINUTES_PER_DAY;
+
+        short[] transitions = s.transitionMinutes();
+        long lastTransition = 0;
+        long secondsUntilNext = Long.MAX_VALUE;
+        if (transitions.length > 0) {
+            int passed = countAtOrBefore(transitions, minute);
+            lastTransition = passed > 0
+                    ? today + transitions[passed - 1]
+                    : today - MINUTES_PER_DAY + transitions[transitions.length - 1];
+            int next = passed < transitions.length ? transitions[passed] : transitions[0] + MINUTES_PER_DAY;
+            secondsUntilNext = (next - minute) * 60L - now.getSecond();
+        }
+
+        String etag = String.format("\"%x-%x-%x-%x-%x\"",
+                s.version(), ratingAggregates.contentHash(), lastTransition, imageService.validatorToken(), variant.hashCode());
+        long maxAge = Math.min(maxAgeSeconds, secondsUntilNext);
+        long stale = Math.min(staleWhileRevalidateSeconds, secondsUntilNext - maxAge);
+        return new Freshness(etag, maxAge, stale, imageService.presigning());
+    }
+
+    /** 정렬된 전환 시각 중 minute 이하인 개수(이진 탐색) */
+    private static int countAtOrBefore(short[] sorted, int minute) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= minute) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @param etag                        강한 ETag(따옴표 포함)
+     * @param maxAgeSeconds               Cache-Control max-age
+     * @param staleWhileRevalidateSeconds Cache-Control stale-while-revalidate (0이면 생략)
+     * @param instanceSpecific            본문/ETag가 이 인스턴스에서만 유효(서명 URL 포함) — private으로 응답
+     */
+    public record Freshness(String etag, long maxAgeSeconds, long staleWhileRevalidateSeconds, boolean instanceSpecific) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.store.service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 익명 카탈로그 응답(목록 categoryCode/openNow, 카테고리 그룹)의 직렬화 결과 캐시.
+ * - 응답 종류(variant)별로 JSON 바이트와 gzip 바이트를 함께 보관하고, ETag(StoreCatalogCachePolicy)가 바뀔 때만 다시 만든다.
+ *   ETag에 스냅샷/평점/영업 상태 전환/이미지 서명 세대가 모두 들어 있으므로 본문이 달라지는 시점과 같다.
+ * - 같은 variant를 여러 요청이 동시에 다시 만들지 않도록 variant 단위로 한 번만 만든다.
+ * - 한 번만 압축하므로 gzip은 최고 압축 수준을 쓴다.
+ * - 메모리 상한: app.catalog.payload-cache.max-weight-bytes (JSON + gzip 바이트 합)
+ */
+@Service
+public class StoreCatalogPayloadCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Payload> payloads;
+    private final Counter hits;
+    private final Counter misses;
+
+    public StoreCatalogPayloadCache(ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.catalog.payload-cache.max-weight-bytes:67108864}") long maxWeightBytes) {
+        this.objectMapper = objectMapper;
+        this.payloads = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String variant, Payload payload) -> payload.json().length + payload.gzip().length)
+                .build();
+        this.hits = meterRegistry.counter("store.catalog.payload", "result", "hit");
+        this.misses = meterRegistry.counter("store.catalog.payload", "result", "miss");
+    }
+
+    /**
+     * 직렬화된 응답 본문.
+     *
+     * @param etag 본문을 만든 시점의 ETag(따옴표 포함)
+     * @param json JSON(UTF-8) 바이트
+     * @param gzip json의 gzip 바이트
+     */
+    public record Payload(String etag, byte[] json, byte[] gzip) {
+    }
+
+    /**
+     * variant의 현재 본문. 캐시된 본문의 ETag가 etag와 같으면 그대로, 다르면 body로 다시 만든다.
+     */
+    public Payload get(String variant, String etag, Supplier<?> body) {
+        Payload cached = payloads.getIfPresent(variant);
+        if (cached != null && cached.etag().equals(etag)) {
+            hits.increment();
+            return cached;
+        }
+        return payloads.asMap().compute(variant, (key, current) -> {
+            if (current != null && current.etag().equals(etag)) {
+                hits.increment();
+                return current;
+            }
+            misses.increment();
+            return render(etag, body.get());
+        });
+    }
+
+    private Payload render(String etag, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new Payload(etag, json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카탈로그 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
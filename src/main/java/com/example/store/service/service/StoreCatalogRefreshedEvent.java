@@ -0,0 +1,9 @@
+package com.example.store.service.service;
+
+/**
+ * 매장 카탈로그 스냅샷이 교체되었음을 알리는 이벤트(내용이 바뀐 경우에만 발행).
+ *
+ * @param snapshot 새 스냅샷
+ */
+public record StoreCatalogRefreshedEvent(StoreCatalogSnapshot snapshot) {
+}
@@ -0,0 +1,376 @@
+package com.example.store.service.service;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 매장 카탈로그 읽기 모델 스냅샷 (STORES + STORES_LOCATION + CATEGORY).
+ *
+ * 설계 메모
+ * - 불변 객체. 갱신 시에는 새 스냅샷을 만들어 통째로 교체한다(StoreCatalog 참조).
+ * - struct-of-arrays 레이아웃: 매장 하나 = 각 배열의 같은 인덱스(ordinal).
+ *   좌석 수/카테고리 코드/영업 시작·종료(분 단위)/위경도는 primitive 배열로 보관한다.
+ * - ordinal 순서는 STORE_ID 오름차순이며, 카테고리별 ordinal 목록도 같은 순서를 유지한다.
+ * - 반복되는 문자열(카테고리명, 주소, 좌표 문자열 등)은 빌드 시 중복 제거한다.
+ * - version: 내용 기반 해시. 같은 데이터를 다시 읽으면 같은 값이 나온다.
+ * - 좌표 k-NN 검색용 StoreSpatialIndex를 함께 만들어 보관한다(스냅샷 교체 = 색인 교체).
+ * - 영업 상태가 바뀌는 시각(분) 목록을 미리 정렬해 두어, 응답 캐시 검증자(ETag)가 openNow 변화를 반영할 수 있게 한다.
+ */
+public final class StoreCatalogSnapshot {
+
+    /** 카테고리 코드 없음 */
+    public static final int NO_CATEGORY = Integer.MIN_VALUE;
+
+    /** OPEN_TIME/CLOSE_TIME 없음 */
+    public static final int NO_TIME = -1;
+
+    private final long version;
+    private final Instant loadedAt;
+
+    private final String[] storeIds;
+    private final String[] storeNames;
+    private final int[] categoryCodes;
+    private final String[] categoryNames;
+    private final String[] addresses;
+    private final int[] seatNums;
+    private final short[] openMinutes;
+    private final short[] closeMinutes;
+    private final String[] imageUrls;
+    private final String[] longitudeTexts;
+    private final String[] latitudeTexts;
+    private final double[] longitudes;
+    private final double[] latitudes;
+
+    private final Map<String, Integer> ordinalByStoreId;
+    private final Map<Integer, int[]> ordinalsByCategory;
+    private final int[] allOrdinals;
+    private final StoreSpatialIndex spatialIndex;
+    private final short[] transitionMinutes;
+
+    private StoreCatalogSnapshot(Builder b, int[] order, Instant loadedAt) {
+        int n = order.length;
+        this.loadedAt = loadedAt;
+        this.storeIds = new String[n];
+        this.storeNames = new String[n];
+        this.categoryCodes = new int[n];
+        this.categoryNames = new String[n];
+        this.addresses = new String[n];
+        this.seatNums = new int[n];
+        this.openMinutes = new short[n];
+        this.closeMinutes = new short[n];
+        this.imageUrls = new String[n];
+        this.longitudeTexts = new String[n];
+        this.latitudeTexts = new String[n];
+        this.longitudes = new double[n];
+        this.latitudes = new double[n];
+        this.ordinalByStoreId = new HashMap<>(n * 4 / 3 + 1);
+
+        Map<Integer, List<Integer>> byCategory = new LinkedHashMap<>();
+        long hash = 1125899906842597L;
+        for (int i = 0; i < n; i++) {
+            int src = order[i];
+            storeIds[i] = b.storeIds.get(src);
+            storeNames[i] = b.storeNames.get(src);
+            categoryCodes[i] = b.categoryCodes[src];
+            categoryNames[i] = b.categoryNames.get(src);
+            addresses[i] = b.addresses.get(src);
+            seatNums[i] = b.seatNums[src];
+            openMinutes[i] = b.openMinutes[src];
+            closeMinutes[i] = b.closeMinutes[src];
+            imageUrls[i] = b.imageUrls.get(src);
+            longitudeTexts[i] = b.longitudeTexts.get(src);
+            latitudeTexts[i] = b.latitudeTexts.get(src);
+            longitudes[i] = parseCoordinate(longitudeTexts[i]);
+            latitudes[i] = parseCoordinate(latitudeTexts[i]);
+            ordinalByStoreId.put(storeIds[i], i);
+            byCategory.computeIfAbsent(categoryCodes[i], k -> new ArrayList<>()).add(i);
+
+            hash = 31 * hash + Objects.hash(storeIds[i], storeNames[i], categoryNames[i], addresses[i],
+                    imageUrls[i], longitudeTexts[i], latitudeTexts[i]);
+            hash = 31 * hash + categoryCodes[i];
+            hash = 31 * hash + seatNums[i];
+            hash = 31 * hash + openMinutes[i];
+            hash = 31 * hash + closeMinutes[i];
+        }
+        this.version = hash;
+
+        Map<Integer, int[]> categories = new HashMap<>();
+        byCategory.forEach((code, ordinals) ->
+                categories.put(code, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        this.ordinalsByCategory = categories;
+        this.allOrdinals = new int[n];
+        Arrays.setAll(allOrdinals, i -> i);
+        this.spatialIndex = StoreSpatialIndex.build(latitudes, longitudes);
+        this.transitionMinutes = buildTransitionMinutes(openMinutes, closeMinutes);
+    }
+
+    /** 빈 스냅샷 */
+    public static StoreCatalogSnapshot empty() {
+        return builder(0).build();
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    // ===================== 조회 =====================
+
+    public long version() {
+        return version;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public int size() {
+        return storeIds.length;
+    }
+
+    /** 좌표 k-NN 색인 */
+    public StoreSpatialIndex spatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * 어느 매장이든 영업 상태가 바뀌는 시각(자정 기준 분) 목록. 오름차순, 중복 없음.
+     * - 24시간/시간 미등록 매장은 상태가 바뀌지 않으므로 포함하지 않는다.
+     * - 내부 배열을 그대로 반환하므로 호출자는 수정하면 안 된다.
+     */
+    public short[] transitionMinutes() {
+        return transitionMinutes;
+    }
+
+    /** storeId → ordinal (없으면 -1) */
+    public int ordinalOf(String storeId) {
+        if (storeId == null) return -1;
+        Integer ordinal = ordinalByStoreId.get(storeId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * 카테고리별 ordinal 목록(STORE_ID 오름차순). categoryCode가 null이면 전체.
+     * - 내부 배열을 그대로 반환하므로 호출자는 수정하면 안 된다.
+     */
+    public int[] ordinals(Integer categoryCode) {
+        if (categoryCode == null) return allOrdinals;
+        int[] ordinals = ordinalsByCategory.get(categoryCode);
+        return ordinals != null ? ordinals : new int[0];
+    }
+
+    /**
+     * ordinal 목록(STORE_ID 오름차순)에서 storeId보다 큰 첫 위치(커서 탐색, 이진 탐색).
+     * - storeId가 null이면 0
+     */
+    public int seekAfter(int[] ordinals, String storeId) {
+        if (storeId == null) return 0;
+        int lo = 0;
+        int hi = ordinals.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (storeIds[ordinals[mid]].compareTo(storeId) <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    public String storeId(int ordinal) {
+        return storeIds[ordinal];
+    }
+
+    public String storeName(int ordinal) {
+        return storeNames[ordinal];
+    }
+
+    /** 카테고리 코드(없으면 null) */
+    public Integer categoryCode(int ordinal) {
+        int code = categoryCodes[ordinal];
+        return code == NO_CATEGORY ? null : code;
+    }
+
+    public String categoryName(int ordinal) {
+        return categoryNames[ordinal];
+    }
+
+    public String address(int ordinal) {
+        return addresses[ordinal];
+    }
+
+    public int seatNum(int ordinal) {
+        return seatNums[ordinal];
+    }
+
+    /** 영업 시작(자정 이후 분, 없으면 NO_TIME) */
+    public int openMinute(int ordinal) {
+        return openMinutes[ordinal];
+    }
+
+    /** 영업 종료(자정 이후 분, 없으면 NO_TIME) */
+    public int closeMinute(int ordinal) {
+        return closeMinutes[ordinal];
+    }
+
+    public LocalTime openTime(int ordinal) {
+        return toLocalTime(openMinutes[ordinal]);
+    }
+
+    public LocalTime closeTime(int ordinal) {
+        return toLocalTime(closeMinutes[ordinal]);
+    }
+
+    public String imageUrl(int ordinal) {
+        return imageUrls[ordinal];
+    }
+
+    public String longitudeText(int ordinal) {
+        return longitudeTexts[ordinal];
+    }
+
+    public String latitudeText(int ordinal) {
+        return latitudeTexts[ordinal];
+    }
+
+    /** 파싱된 경도(없거나 형식 오류면 NaN) */
+    public double longitude(int ordinal) {
+        return longitudes[ordinal];
+    }
+
+    /** 파싱된 위도(없거나 형식 오류면 NaN) */
+    public double latitude(int ordinal) {
+        return latitudes[ordinal];
+    }
+
+    /**
+     * 주어진 시각(자정 기준 분)에 영업중인지 판단.
+     * - StoreService.isOpenAt과 동일한 규칙: 시작=종료면 24시간, 종료<시작이면 심야 구간
+     * - OPEN/CLOSE 중 하나라도 없으면 false
+     */
+    public boolean isOpenAt(int ordinal, int minuteOfDay) {
+        int open = openMinutes[ordinal];
+        int close = closeMinutes[ordinal];
+        if (open == NO_TIME || close == NO_TIME) return false;
+        if (open == close) return true;
+        if (close > open) {
+            return minuteOfDay >= open && minuteOfDay < close;
+        }
+        return minuteOfDay >= open || minuteOfDay < close;
+    }
+
+    private static short[] buildTransitionMinutes(short[] openMinutes, short[] closeMinutes) {
+        boolean[] seen = new boolean[24 * 60];
+        int count = 0;
+        for (int i = 0; i < openMinutes.length; i++) {
+            short open = openMinutes[i];
+            short close = closeMinutes[i];
+            if (open == NO_TIME || close == NO_TIME || open == close) continue;
+            if (!seen[open]) { seen[open] = true; count++; }
+            if (!seen[close]) { seen[close] = true; count++; }
+        }
+        short[] minutes = new short[count];
+        int n = 0;
+        for (short m = 0; m < seen.length; m++) {
+            if (seen[m]) minutes[n++] = m;
+        }
+        return minutes;
+    }
+
+    private static LocalTime toLocalTime(short minuteOfDay) {
+        return minuteOfDay == NO_TIME ? null : LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    private static double parseCoordinate(String text) {
+        if (text == null || text.isBlank()) return Double.NaN;
+        try {
+            return Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * 스냅샷 빌더. 행 단위로 add() 한 뒤 build()에서 STORE_ID 순으로 정렬해 배열을 만든다.
+     * - 스레드 안전하지 않음(로더 한 스레드에서만 사용)
+     */
+    public static final class Builder {
+        private final List<String> storeIds;
+        private final List<String> storeNames;
+        private final List<String> categoryNames;
+        private final List<String> addresses;
+        private final List<String> imageUrls;
+        private final List<String> longitudeTexts;
+        private final List<String> latitudeTexts;
+        private int[] categoryCodes;
+        private int[] seatNums;
+        private short[] openMinutes;
+        private short[] closeMinutes;
+        private int size;
+
+        private final Map<String, String> strings = new HashMap<>();
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            storeIds = new ArrayList<>(capacity);
+            storeNames = new ArrayList<>(capacity);
+            categoryNames = new ArrayList<>(capacity);
+            addresses = new ArrayList<>(capacity);
+            imageUrls = new ArrayList<>(capacity);
+            longitudeTexts = new ArrayList<>(capacity);
+            latitudeTexts = new ArrayList<>(capacity);
+            categoryCodes = new int[capacity];
+            seatNums = new int[capacity];
+            openMinutes = new short[capacity];
+            closeMinutes = new short[capacity];
+        }
+
+        public Builder add(String storeId, String storeName, Integer categoryCode, String categoryName,
+                           String address, int seatNum, LocalTime openTime, LocalTime closeTime,
+                           String imageUrl, String longitude, String latitude) {
+            if (size == categoryCodes.length) {
+                int capacity = size * 2;
+                categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+                seatNums = Arrays.copyOf(seatNums, capacity);
+                openMinutes = Arrays.copyOf(openMinutes, capacity);
+                closeMinutes = Arrays.copyOf(closeMinutes, capacity);
+            }
+            storeIds.add(storeId);
+            storeNames.add(storeName);
+            categoryNames.add(dedupe(categoryName));
+            addresses.add(dedupe(address));
+            imageUrls.add(imageUrl);
+            longitudeTexts.add(dedupe(longitude));
+            latitudeTexts.add(dedupe(latitude));
+            categoryCodes[size] = categoryCode != null ? categoryCode : NO_CATEGORY;
+            seatNums[size] = seatNum;
+            openMinutes[size] = toMinute(openTime);
+            closeMinutes[size] = toMinute(closeTime);
+            size++;
+            return this;
+        }
+
+        public StoreCatalogSnapshot build() {
+            Integer[] boxed = new Integer[size];
+            for (int i = 0; i < size; i++) boxed[i] = i;
+            Arrays.sort(boxed, (a, c) -> storeIds.get(a).compareTo(storeIds.get(c)));
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) order[i] = boxed[i];
+            return new StoreCatalogSnapshot(this, order, Instant.now());
+        }
+
+        private String dedupe(String value) {
+            if (value == null) return null;
+            String existing = strings.putIfAbsent(value, value);
+            return existing != null ? existing : value;
+        }
+
+        private static short toMinute(LocalTime time) {
+            return time == null ? NO_TIME : (short) (time.getHour() * 60 + time.getMinute());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.store.service.service;
+
+import com.example.store.service.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매장 카탈로그 전체 NDJSON 내보내기 (파트너 동기화용).
+ *
+ * 설계 메모
+ * - STORES + STORES_LOCATION + CATEGORY를 forward-only/read-only 커서 하나로 읽고,
+ *   행을 받는 즉시 JSON 한 줄로 응답 스트림에 쓴다. 목록/엔티티를 메모리에 쌓지 않으므로
+ *   매장 수와 무관하게 메모리 사용량이 일정하다.
+ * - fetch size(app.export.fetch-size, 기본 500)로 왕복 횟수를 줄인다(Oracle 드라이버 기본값 10).
+ * - 첫 행은 바로 flush 해 첫 바이트가 곧바로 나가게 하고, 이후에는 fetch 단위로 flush 한다.
+ * - 필드 이름은 StoreResponseWithLL과 같다(openNow 등 조회 시점 파생 필드는 제외).
+ * - 커서가 열려 있는 동안 DB 커넥션 1개를 점유하므로 동시 내보내기 수를 app.export.max-concurrent(기본 2)로
+ *   제한한다. 허가가 없으면 기다리지 않고 503 + Retry-After로 거절한다(open → Export.writeNdjson/close에서 반납).
+ */
+@Service
+@Slf4j
+public class StoreExportService {
+
+    private static final String EXPORT_SQL =
+            "select s.STORE_ID, s.STORE_NAME, s.CATEGORY_CODE, c.CATEGORY_NAME, l.STORE_LOCATION, " +
+            "s.SEAT_NUM, s.OPEN_TIME, s.CLOSE_TIME, s.IMAGE_URL, l.LONGITUDE, l.LATITUDE " +
+            "from STORES s " +
+            "left join CATEGORY c on c.CATEGORY_CODE = s.CATEGORY_CODE " +
+            "left join STORES_LOCATION l on l.STORE_ID = s.STORE_ID " +
+            "order by s.STORE_ID";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final Semaphore permits;
+
+    public StoreExportService(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${app.export.fetch-size:500}") int fetchSize,
+                              @Value("${app.export.max-concurrent:2}") int maxConcurrent) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 허가 1개를 잡는다. 동시 내보내기가 상한이면 503.
+     * - 허가는 Export.writeNdjson이 끝나거나 close 하면 반납된다.
+     */
+    public Export open() {
+        if (!permits.tryAcquire()) {
+            throw new ServiceUnavailableException("매장 내보내기가 이미 진행 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return new Export();
+    }
+
+    /** 허가를 잡은 내보내기 1건. 한 번만 반납한다 */
+    public final class Export implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Export() {
+        }
+
+        public long writeNdjson(OutputStream out) throws IOException {
+            try {
+                return StoreExportService.this.writeNdjson(out);
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * 전체 매장을 NDJSON(행마다 JSON 객체 1개 + 개행)으로 out에 쓴다.
+     * - out은 닫지 않는다(호출자 소유).
+     *
+     * @return 내보낸 매장 수
+     */
+    public long writeNdjson(OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long[] count = new long[1];
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            try {
+                jdbcTemplate.query(con -> {
+                    PreparedStatement ps = con.prepareStatement(EXPORT_SQL,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    return ps;
+                }, rs -> {
+                    try {
+                        writeRow(gen, rs);
+                        long n = ++count[0];
+                        if (n == 1 || n % fetchSize == 0) gen.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 끊김 등: 커서는 JdbcTemplate이 닫는다
+                throw e.getCause();
+            }
+        }
+        log.info("매장 NDJSON 내보내기: stores={}, {}ms", count[0], (System.nanoTime() - started) / 1_000_000);
+        return count[0];
+    }
+
+    private static void writeRow(JsonGenerator gen, ResultSet rs) throws IOException, SQLException {
+        gen.writeStartObject();
+        gen.writeStringField("storeId", rs.getString("STORE_ID"));
+        gen.writeStringField("storeName", rs.getString("STORE_NAME"));
+        int categoryCode = rs.getInt("CATEGORY_CODE");
+        if (rs.wasNull()) gen.writeNullField("categoryCode");
+        else gen.writeNumberField("categoryCode", categoryCode);
+        gen.writeStringField("categoryName", rs.getString("CATEGORY_NAME"));
+        gen.writeStringField("storeLocation", rs.getString("STORE_LOCATION"));
+        gen.writeNumberField("seatNum", rs.getInt("SEAT_NUM"));
+        writeTime(gen, "openTime", rs.getTime("OPEN_TIME"));
+        writeTime(gen, "closeTime", rs.getTime("CLOSE_TIME"));
+        gen.writeStringField("imageUrl", rs.getString("IMAGE_URL"));
+        gen.writeStringField("longitude", rs.getString("LONGITUDE"));
+        gen.writeStringField("latitude", rs.getString("LATITUDE"));
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    /** LocalTime은 애플리케이션 ObjectMapper 직렬화 규칙을 그대로 따른다 */
+    private static void writeTime(JsonGenerator gen, String field, Time time) throws IOException {
+        gen.writeObjectField(field, time != null ? time.toLocalTime() : null);
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.store.service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이미지 파생본 디스크 캐시 (app.image-proxy.cache-dir, 총 크기 app.image-proxy.cache-max-bytes 이하).
+ * - 파일 이름 = 캐시 키. 임시 파일에 쓴 뒤 원자적으로 옮기므로 읽는 쪽은 완성된 파일만 본다.
+ * - 인덱스(키 → 크기)는 접근 순서 LinkedHashMap이며, 상한을 넘으면 가장 오래 쓰지 않은 파일부터 지운다.
+ * - 기동 시 디렉터리를 훑어 인덱스를 다시 만든다(수정 시각 순). 남은 임시 파일은 지운다.
+ * - 같은 키를 여러 요청이 동시에 찾으면 한 요청만 만들고 나머지는 그 결과를 기다린다.
+ * - 밀려난 파일은 곧바로 지우지 않고 app.image-proxy.eviction-grace(기본 1분) 뒤에 지운다.
+ *   get이 돌려준 Entry는 응답을 보낼 때(sendfile은 서블릿 반환 뒤) 파일을 여는데, 그 사이에 지워지면 전송이 실패하기 때문.
+ *   유예 중인 파일은 totalBytes에 넣지 않는다. 유예 중 같은 키가 다시 만들어지면 지우지 않는다.
+ */
+@Component
+@Slf4j
+public class StoreImageDiskCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path dir;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    /** 삭제 대기 중인 밀려난 키 (밀려난 순서 = 삭제 예정 시각 순). index 락으로 보호 */
+    private final ArrayDeque<Evicted> evicted = new ArrayDeque<>();
+    private final Duration evictionGrace;
+    private final Clock clock;
+    private long totalBytes;
+
+    @Autowired
+    public StoreImageDiskCache(@Value("${app.image-proxy.cache-dir:${java.io.tmpdir}/store-images}") Path dir,
+                               @Value("${app.image-proxy.cache-max-bytes:536870912}") long maxBytes,
+                               @Value("${app.image-proxy.eviction-grace:1m}") Duration evictionGrace) {
+        this(dir, maxBytes, evictionGrace, Clock.systemUTC());
+    }
+
+    StoreImageDiskCache(Path dir, long maxBytes, Duration evictionGrace, Clock clock) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        this.evictionGrace = evictionGrace;
+        this.clock = clock;
+        load();
+    }
+
+    private record Evicted(String key, Instant deleteAfter) {
+    }
+
+    /** 파생본을 만드는 쪽. out은 캐시가 닫는다 */
+    @FunctionalInterface
+    public interface Writer {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * @param file 캐시 파일
+     * @param size 바이트 수
+     */
+    public record Entry(Path file, long size) {
+    }
+
+    /** key의 캐시 파일. 없으면 writer로 만들어 넣는다 */
+    public Entry get(String key, Writer writer) throws IOException {
+        Entry cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            cached = lookup(key);
+            Entry entry = cached != null ? cached : store(key, writer);
+            mine.complete(entry);
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 캐시에 있는 파일 크기 합 */
+    public long totalBytes() {
+        synchronized (index) {
+            return totalBytes;
+        }
+    }
+
+    private Entry lookup(String key) {
+        Long size;
+        synchronized (index) {
+            size = index.get(key);
+        }
+        if (size == null) {
+            return null;
+        }
+        Path file = dir.resolve(key);
+        if (!Files.exists(file)) {
+            // 밖에서 지워진 파일(tmp 정리 등)
+            forget(key);
+            return null;
+        }
+        return new Entry(file, size);
+    }
+
+    private Entry store(String key, Writer writer) throws IOException {
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, key + ".", TEMP_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                writer.write(out);
+            }
+            Path file = dir.resolve(key);
+            long size;
+            synchronized (index) {
+                // 이동과 인덱스 등록을 삭제 대기 처리(purgeEvicted)와 같은 락 안에서 한다
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                size = Files.size(file);
+                Instant deleteAfter = clock.instant().plus(evictionGrace);
+                add(key, size).forEach(victim -> evicted.add(new Evicted(victim, deleteAfter)));
+            }
+            purgeEvicted();
+            return new Entry(file, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 유예 시간이 지난 밀려난 파일을 지운다. 그 사이 같은 키가 다시 캐시에 들어왔거나 만드는 중이면 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${app.image-proxy.eviction-sweep-ms:10000}")
+    public void purgeEvicted() {
+        Instant now = clock.instant();
+        synchronized (index) {
+            while (!evicted.isEmpty() && !evicted.peekFirst().deleteAfter().isAfter(now)) {
+                String key = evicted.pollFirst().key();
+                if (!index.containsKey(key) && !inFlight.containsKey(key)) {
+                    delete(key);
+                }
+            }
+        }
+    }
+
+    /** 인덱스에 넣고 상한을 넘긴 만큼 오래된 키를 빼서 돌려준다(방금 넣은 키는 남긴다) */
+    private List<String> add(String key, long size) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (index) {
+            Long previous = index.put(key, size);
+            totalBytes += size - (previous != null ? previous : 0);
+            Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+            while (totalBytes > maxBytes && index.size() > 1) {
+                Map.Entry<String, Long> victim = eldest.next();
+                totalBytes -= victim.getValue();
+                evicted.add(victim.getKey());
+                eldest.remove();
+            }
+        }
+        return evicted;
+    }
+
+    private void forget(String key) {
+        synchronized (index) {
+            Long size = index.remove(key);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(dir.resolve(key));
+        } catch (IOException e) {
+            log.warn("이미지 캐시 파일 삭제 실패: {}, {}", key, e.toString());
+        }
+    }
+
+    private void load() {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        record Found(String key, long size, long modified) {
+        }
+        List<Found> found = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    found.add(new Found(name, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 캐시 디렉터리를 읽을 수 없습니다: " + dir, e);
+        }
+        found.sort(Comparator.comparingLong(Found::modified));
+        found.forEach(f -> add(f.key(), f.size()).forEach(this::delete));
+        log.info("이미지 캐시 적재: {}개, {}바이트 ({})", found.size(), totalBytes(), dir);
+    }
+
+    private static Entry await(CompletableFuture<Entry> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.store.service.service;
+
+import com.example.store.service.exception.NotFoundException;
+import com.example.store.service.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 이미지 프록시: 원본(StoreImageSource)을 폭별 JPEG 파생본으로 줄여 디스크 캐시(StoreImageDiskCache)에 둔다.
+ * - 요청 폭은 app.image-proxy.widths 중 같거나 큰 가장 작은 값으로 올린다(파생본 종류 제한). 원본보다 키우지 않는다.
+ * - 캐시 키 = SHA-256(객체 키) + 폭. 같은 키의 원본을 덮어쓰면 반영되지 않으므로 원본은 새 키로 올린다.
+ * - 다른 호스트의 IMAGE_URL은 프록시하지 않고 원래 URL을 돌려준다(컨트롤러에서 302).
+ * - 디코딩 전에 원본 크기(픽셀 수)를 확인해 app.image-proxy.max-source-pixels(기본 16M, 디코딩 비트맵 약 64MB)를 넘으면 거부한다.
+ * - 파생본 생성(디코딩/축소/인코딩)은 동시에 app.image-proxy.max-concurrent-renders(기본 2)개까지만 돈다.
+ *   render-acquire-timeout 안에 차례가 오지 않으면 503 + Retry-After. 캐시 적중은 제한하지 않는다.
+ */
+@Service
+@Slf4j
+public class StoreImageProxyService {
+
+    private final StoreImageService imageService;
+    private final StoreImageSource source;
+    private final StoreImageDiskCache cache;
+    private final int[] widths;
+    private final float quality;
+    private final long maxSourcePixels;
+    private final Semaphore renders;
+    private final Duration renderAcquireTimeout;
+    private final Counter hits;
+    private final Counter misses;
+
+    public StoreImageProxyService(StoreImageService imageService,
+                                  StoreImageSource source,
+                                  StoreImageDiskCache cache,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.image-proxy.widths:160,320,640,1080}") List<Integer> widths,
+                                  @Value("${app.image-proxy.jpeg-quality:0.82}") float quality,
+                                  @Value("${app.image-proxy.max-source-pixels:16000000}") long maxSourcePixels,
+                                  @Value("${app.image-proxy.max-concurrent-renders:2}") int maxConcurrentRenders,
+                                  @Value("${app.image-proxy.render-acquire-timeout:1s}") Duration renderAcquireTimeout) {
+        this.imageService = imageService;
+        this.source = source;
+        this.cache = cache;
+        this.widths = widths.stream().mapToInt(Integer::intValue).sorted().toArray();
+        this.quality = quality;
+        this.maxSourcePixels = maxSourcePixels;
+        this.renders = new Semaphore(maxConcurrentRenders, true);
+        this.renderAcquireTimeout = renderAcquireTimeout;
+        this.hits = meterRegistry.counter("store.image.cache", "result", "hit");
+        this.misses = meterRegistry.counter("store.image.cache", "result", "miss");
+    }
+
+    /**
+     * 매장 이미지 파생본 또는 외부 URL.
+     *
+     * @param file        파생본 파일(외부 URL이면 null)
+     * @param externalUrl 프록시하지 않는 외부 이미지 URL
+     * @param etag        파생본 강한 ETag(따옴표 포함)
+     */
+    public record StoreImage(StoreImageDiskCache.Entry file, String externalUrl, String etag) {
+    }
+
+    /**
+     * @param requestedWidth 요청 폭(px), null이면 가장 큰 폭
+     */
+    public StoreImage image(String storeId, Integer requestedWidth) throws IOException {
+        if (requestedWidth != null && requestedWidth <= 0) {
+            throw new IllegalArgumentException("w는 1 이상이어야 합니다.");
+        }
+        String imageUrl = imageService.originalImageUrl(storeId);
+        if (imageUrl == null || imageUrl.isBlank()) {
+            throw new NotFoundException("매장 이미지가 없습니다.");
+        }
+        String objectKey = imageService.objectKey(imageUrl);
+        if (objectKey == null) {
+            return new StoreImage(null, imageUrl, null);
+        }
+
+        int width = snap(requestedWidth);
+        String name = digest(objectKey) + "-w" + width;
+        boolean[] created = {false};
+        StoreImageDiskCache.Entry entry = cache.get(name + ".jpg", out -> {
+            created[0] = true;
+            resize(objectKey, width, out);
+        });
+        (created[0] ? misses : hits).increment();
+        return new StoreImage(entry, null, "\"" + name + "\"");
+    }
+
+    /** 허용 폭 중 requested 이상인 가장 작은 값 (없으면 가장 큰 폭) */
+    int snap(Integer requested) {
+        if (requested == null) {
+            return widths[widths.length - 1];
+        }
+        int i = Arrays.binarySearch(widths, requested);
+        int at = i >= 0 ? i : -i - 1;
+        return widths[Math.min(at, widths.length - 1)];
+    }
+
+    private void resize(String objectKey, int width, OutputStream out) throws IOException {
+        try {
+            if (!renders.tryAcquire(renderAcquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("이미지 변환 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("이미지 변환이 중단되었습니다.");
+        }
+        try {
+            render(objectKey, width, out);
+        } finally {
+            renders.release();
+        }
+    }
+
+    private void render(String objectKey, int width, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        BufferedImage original;
+        try (InputStream in = source.open(objectKey)) {
+            original = decode(objectKey, in);
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("매장 이미지 원본이 없습니다.");
+        }
+        BufferedImage scaled = scale(original, Math.min(width, original.getWidth()));
+        writeJpeg(scaled, out);
+        log.debug("이미지 파생본 생성: key={}, {}px → {}px, {}ms", objectKey, original.getWidth(), scaled.getWidth(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private BufferedImage decode(String objectKey, InputStream in) throws IOException {
+        try (ImageInputStream stream = new MemoryCacheImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다: " + objectKey);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    throw new IOException("이미지 원본이 너무 큽니다: " + objectKey + " (" + pixels + "px)");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 목표 폭으로 축소(비율 유지). 한 번에 많이 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춘다.
+     * 알파 채널은 흰 배경에 합성한다(JPEG).
+     */
+    private static BufferedImage scale(BufferedImage image, int targetWidth) {
+        BufferedImage current = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            int nextW = Math.max(targetWidth, w / 2);
+            int nextH = Math.max(1, (int) Math.round((double) h * nextW / w));
+            BufferedImage next = new BufferedImage(nextW, nextH, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(current, 0, 0, nextW, nextH, Color.WHITE, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+            w = nextW;
+            h = nextH;
+        } while (w > targetWidth);
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String digest(String objectKey) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(objectKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,27 +1,267 @@
 package com.example.store.service.service;
 
 import com.example.store.service.entity.Store;
+import com.example.store.service.exception.NotFoundException;
 import com.example.store.service.repository.StoreRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
+import java.net.URI;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 매장 이미지 URL.
+ * - IMAGE_URL(객체 키 또는 같은 버킷의 S3 URL)을 presigned GET URL로 바꿔 응답한다(버킷 비공개 운영용).
+ *   다른 호스트의 URL은 그대로 둔다. 서명기(StoreImageUrlSigner)가 없으면 IMAGE_URL을 그대로 쓴다.
+ *
+ * 서명 캐시
+ * - 객체 키별로 서명 URL을 보관하고, 항목은 서명 만료 시각에 캐시에서 빠진다.
+ * - 카탈로그가 갱신되면(StoreCatalogRefreshedEvent) 모든 이미지를 백그라운드에서 미리 서명한다.
+ *   목록 응답은 캐시만 읽으므로 매장 2,000개 목록도 요청 중에 서명하지 않는다(캐시에 없을 때만 그 자리에서 서명).
+ * - app.s3.presign.renew-interval-ms 주기로 만료가 renew-before 안으로 들어온 항목을 다시 서명한다.
+ *   renew-before는 목록 Cache-Control(max-age + stale-while-revalidate)보다 길어야 클라이언트가 만료된 URL을 받지 않는다.
+ * - 다시 서명할 때마다 generation()이 바뀌며, 카탈로그 ETag에 포함되어(validatorToken) 클라이언트가 새 URL을 받아 간다.
+ * - 서명 URL은 인스턴스마다 다르므로 서명을 쓰면 카탈로그 응답은 인스턴스 전용이다(presigning(): Cache-Control private).
+ */
 @Service
-public class StoreImageService {
+@Slf4j
+public class StoreImageService implements DisposableBean {
 
     private final StoreRepository storeRepository;
+    private final StoreImageUrlSigner signer;
+    private final String bucket;
+    private final String prefix;
+    private final Duration renewBefore;
+    private final Clock clock;
+    private final Cache<String, StoreImageUrlSigner.SignedUrl> signed;
+    private final ExecutorService presignExecutor;
+    private final AtomicLong generation = new AtomicLong();
+    /** 기동마다 새로 뽑는 값: 서명 URL은 인스턴스/서명 시각마다 달라 세대 번호만으로는 본문을 구분할 수 없다 */
+    private final long instanceNonce = new SecureRandom().nextLong();
 
-    public StoreImageService(StoreRepository storeRepository) {
+    private volatile StoreCatalogSnapshot snapshot;
+
+    @Autowired
+    public StoreImageService(StoreRepository storeRepository,
+                             ObjectProvider<StoreImageUrlSigner> signer,
+                             @Value("${app.s3.bucket.name:}") String bucket,
+                             @Value("${app.s3.store-image.prefix:}") String prefix,
+                             @Value("${app.s3.presign.renew-before:5m}") Duration renewBefore,
+                             @Value("${app.s3.presign.cache-size:100000}") long cacheSize) {
+        this(storeRepository, signer.getIfAvailable(), bucket, prefix, renewBefore, cacheSize, Clock.systemUTC());
+    }
+
+    StoreImageService(StoreRepository storeRepository, StoreImageUrlSigner signer, String bucket, String prefix,
+                      Duration renewBefore, long cacheSize, Clock clock) {
         this.storeRepository = storeRepository;
+        this.signer = signer;
+        this.bucket = bucket;
+        this.prefix = prefix == null ? "" : prefix;
+        this.renewBefore = renewBefore;
+        this.clock = clock;
+        this.signed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new UntilSignatureExpiry(clock))
+                .build();
+        this.presignExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "store-image-presign");
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     /**
-     * 매장 단일 이미지 URL 조회
+     * 매장 단일 이미지 URL 조회 (카탈로그 스냅샷 기준, 스냅샷 수신 전이면 DB 조회)
      */
     public String getImageUrl(String storeId) {
+        StoreCatalogSnapshot s = snapshot;
+        if (s != null) {
+            int ordinal = s.ordinalOf(storeId);
+            return ordinal >= 0 ? resolve(s.imageUrl(ordinal)) : null;
+        }
         return storeRepository.findById(storeId)
                 .map(Store::getImageUrl)
+                .map(this::resolve)
                 .orElse(null);
     }
+
+    /**
+     * 매장의 IMAGE_URL 원문(서명 전). 이미지가 없으면 null, 매장이 없으면 404.
+     */
+    String originalImageUrl(String storeId) {
+        StoreCatalogSnapshot s = snapshot;
+        if (s != null) {
+            int ordinal = s.ordinalOf(storeId);
+            if (ordinal >= 0) {
+                return s.imageUrl(ordinal);
+            }
+        }
+        // 스냅샷 수신 전이거나 스냅샷 이후 추가된 매장
+        return storeRepository.findById(storeId)
+                .map(Store::getImageUrl)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 매장입니다."));
+    }
+
+    /**
+     * IMAGE_URL → 응답용 URL. 서명 대상이면 캐시된 presigned URL(없으면 이 자리에서 서명).
+     */
+    public String resolve(String imageUrl) {
+        if (signer == null || imageUrl == null || imageUrl.isBlank()) {
+            return imageUrl;
+        }
+        String key = objectKey(imageUrl);
+        if (key == null) {
+            return imageUrl;
+        }
+        StoreImageUrlSigner.SignedUrl cached = signed.getIfPresent(key);
+        if (cached == null) {
+            cached = signed.get(key, signer::sign);
+        }
+        return cached.url();
+    }
+
+    /** 서명 세대(다시 서명할 때마다 증가). 응답 캐시 검증자에 포함한다 */
+    public long generation() {
+        return generation.get();
+    }
+
+    /** 서명 URL로 응답하는지(app.s3.presign.enabled=true). 이때 카탈로그 응답은 공용 캐시에 두지 않는다 */
+    public boolean presigning() {
+        return signer != null;
+    }
+
+    /**
+     * 카탈로그 응답 ETag 구성값.
+     * - 서명을 쓰지 않으면 0: 이미지 URL이 스냅샷 내용 그대로라 스냅샷 version에 이미 반영되어 있다.
+     * - 서명을 쓰면 인스턴스 난수와 세대를 섞는다. 다른 인스턴스나 재기동 후의 ETag와 겹쳐 잘못된 304가 나가지 않게 한다.
+     */
+    public long validatorToken() {
+        return signer == null ? 0 : instanceNonce * 31 + generation.get();
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(StoreCatalogRefreshedEvent event) {
+        snapshot = event.snapshot();
+        if (signer != null) {
+            presignExecutor.execute(() -> presignAll(event.snapshot()));
+        }
+    }
+
+    /** 만료가 가까운 서명을 다시 만든다 */
+    @Scheduled(fixedDelayString = "${app.s3.presign.renew-interval-ms:60000}",
+            initialDelayString = "${app.s3.presign.renew-interval-ms:60000}")
+    public void renewExpiring() {
+        if (signer == null) {
+            return;
+        }
+        Instant threshold = clock.instant().plus(renewBefore);
+        int renewed = 0;
+        for (Map.Entry<String, StoreImageUrlSigner.SignedUrl> entry : signed.asMap().entrySet()) {
+            if (entry.getValue().expiresAt().isBefore(threshold)) {
+                renewed += signQuietly(entry.getKey()) ? 1 : 0;
+            }
+        }
+        if (renewed > 0) {
+            generation.incrementAndGet();
+            log.info("매장 이미지 URL 재서명: {}건", renewed);
+        }
+    }
+
+    /** 스냅샷의 모든 서명 대상 이미지를 서명해 캐시에 넣는다 */
+    void presignAll(StoreCatalogSnapshot s) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < s.size(); i++) {
+            String imageUrl = s.imageUrl(i);
+            String key = imageUrl == null || imageUrl.isBlank() ? null : objectKey(imageUrl);
+            if (key != null) keys.add(key);
+        }
+        int count = 0;
+        for (String key : keys) {
+            if (signed.getIfPresent(key) == null) {
+                count += signQuietly(key) ? 1 : 0;
+            }
+        }
+        if (count > 0) {
+            generation.incrementAndGet();
+            log.info("매장 이미지 URL 사전 서명: {}건", count);
+        }
+    }
+
+    private boolean signQuietly(String key) {
+        try {
+            signed.put(key, signer.sign(key));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("매장 이미지 URL 서명 실패: key={}, {}", key, e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * IMAGE_URL → S3 객체 키. 같은 버킷의 s3:// 또는 https URL이면 경로, 상대 경로면 prefix를 붙인 키.
+     * 다른 호스트의 URL이면 null(서명하지 않음).
+     */
+    String objectKey(String imageUrl) {
+        if (imageUrl.startsWith("s3://")) {
+            String rest = imageUrl.substring(5);
+            int slash = rest.indexOf('/');
+            return slash > 0 && rest.substring(0, slash).equals(bucket) ? rest.substring(slash + 1) : null;
+        }
+        if (imageUrl.startsWith("http://") || imageUrl.startsWith("https://")) {
+            URI uri = URI.create(imageUrl);
+            String host = uri.getHost();
+            if (host == null || bucket.isEmpty() || !host.startsWith(bucket + ".s3.") || !host.endsWith(".amazonaws.com")) {
+                return null;
+            }
+            String path = uri.getPath();
+            return path.startsWith("/") ? path.substring(1) : path;
+        }
+        String key = imageUrl.startsWith("/") ? imageUrl.substring(1) : imageUrl;
+        if (prefix.isEmpty() || key.startsWith(prefix)) {
+            return key;
+        }
+        return prefix.endsWith("/") ? prefix + key : prefix + "/" + key;
+    }
+
+    @Override
+    public void destroy() {
+        presignExecutor.shutdownNow();
+    }
+
+    /** 캐시 항목 수명 = 서명 만료 시각까지 */
+    private record UntilSignatureExpiry(Clock clock) implements Expiry<String, StoreImageUrlSigner.SignedUrl> {
+
+        @Override
+        public long expireAfterCreate(String key, StoreImageUrlSigner.SignedUrl value, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoreImageUrlSigner.SignedUrl value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoreImageUrlSigner.SignedUrl value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
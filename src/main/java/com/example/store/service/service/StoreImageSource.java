@@ -0,0 +1,18 @@
+package com.example.store.service.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 매장 이미지 원본 읽기 (이미지 프록시용).
+ * 운영은 S3StoreImageSource, 로컬/테스트는 FileSystemStoreImageSource(app.image-proxy.source=filesystem).
+ */
+public interface StoreImageSource {
+
+    /**
+     * 객체 키의 원본 스트림. 호출자가 닫는다.
+     *
+     * @throws java.nio.file.NoSuchFileException 원본이 없을 때
+     */
+    InputStream open(String objectKey) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.example.store.service.service;
+
+import java.time.Instant;
+
+/**
+ * 매장 이미지 객체 키 → 만료 시각이 있는 GET URL.
+ * 운영은 S3StoreImageUrlSigner(S3 presigned URL), 테스트는 스텁 구현을 쓴다.
+ */
+public interface StoreImageUrlSigner {
+
+    SignedUrl sign(String objectKey);
+
+    /**
+     * @param url       서명된 URL
+     * @param expiresAt 서명 만료 시각
+     */
+    record SignedUrl(String url, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,486 @@
+package com.example.store.service.service;
+
+import com.example.store.service.config.DbBulkheadPermits;
+import com.example.store.service.dto.StoreImportJobResponse;
+import com.example.store.service.dto.StoreRequest;
+import com.example.store.service.exception.BadRequestException;
+import com.example.store.service.exception.NotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Time;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 매장 일괄 가져오기(CSV / NDJSON → STORES, STORES_LOCATION).
+ *
+ * 설계 메모
+ * - 업로드 파일은 임시 디렉터리(app.import.temp-dir)에 그대로 옮긴 뒤 요청은 바로 반환하고(202),
+ *   전용 스레드 1개가 작업을 순서대로 처리한다. 진행 상황은 작업 ID로 조회한다.
+ * - 파일은 한 행씩 스트리밍으로 읽는다. 메모리에는 청크(app.import.chunk-size, 기본 1000행)만 쌓이므로
+ *   파일 크기와 무관하게 힙 사용량이 일정하다.
+ * - 청크마다 트랜잭션 1개: STORES / STORES_LOCATION MERGE를 JDBC 배치로 보내고 커밋한다.
+ *   청크가 실패하면 해당 청크만 행 단위로 다시 시도해 실패한 행을 오류로 기록하고 계속 진행한다.
+ * - 행 검증: storeId/storeName 필수·길이, 카테고리(categoryCode 또는 categoryName → CATEGORY_CODE),
+ *   좌석 수, 영업 시간/위경도 쌍. 실패한 행은 건너뛰고 행 번호와 사유를 남긴다.
+ * - IMAGE_URL은 파일 값이 비어 있으면 기존 값을 유지한다(이미지는 별도 경로로 올리는 경우가 많다).
+ * - 작업이 끝나면 카탈로그 스냅샷을 즉시 갱신한다.
+ * - DB 벌크헤드(app.bulkhead.enabled=true)가 켜져 있으면 청크 트랜잭션(행 단위 재시도 포함)과
+ *   카테고리 조회마다 API 요청과 같은 허용(DbBulkheadPermits)을 얻고 쓴다.
+ *   등록/상태 조회 API는 DB를 쓰지 않으므로 제한하지 않는다.
+ */
+@Service
+@Slf4j
+public class StoreImportService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    /** 최근 작업 상태 보관 개수 */
+    private static final int MAX_JOBS = 20;
+
+    /** 파라미터 순서: ON 절 STORE_ID, UPDATE 6개, INSERT 7개 */
+    private static final String MERGE_STORE_SQL =
+            "merge into STORES t using DUAL on (t.STORE_ID = ?) " +
+            "when matched then update set t.STORE_NAME = ?, t.CATEGORY_CODE = ?, t.SEAT_NUM = ?, " +
+            "t.IMAGE_URL = coalesce(?, t.IMAGE_URL), t.OPEN_TIME = ?, t.CLOSE_TIME = ? " +
+            "when not matched then insert (STORE_ID, STORE_NAME, CATEGORY_CODE, SEAT_NUM, IMAGE_URL, OPEN_TIME, CLOSE_TIME) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] STORE_TYPES = {Types.VARCHAR,
+            Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.TIME, Types.TIME,
+            Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.TIME, Types.TIME};
+
+    /** 파라미터 순서: ON 절 STORE_ID, UPDATE 3개, INSERT 4개 */
+    private static final String MERGE_LOCATION_SQL =
+            "merge into STORES_LOCATION t using DUAL on (t.STORE_ID = ?) " +
+            "when matched then update set t.STORE_LOCATION = ?, t.LONGITUDE = ?, t.LATITUDE = ? " +
+            "when not matched then insert (STORE_ID, STORE_LOCATION, LONGITUDE, LATITUDE) values (?, ?, ?, ?)";
+    private static final int[] LOCATION_TYPES = {Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final StoreCatalog catalog;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final Path tempDir;
+    private final ObjectProvider<DbBulkheadPermits> dbBulkhead;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "store-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Job> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+            return size() > MAX_JOBS;
+        }
+    };
+
+    public StoreImportService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              StoreCatalog catalog,
+                              @Value("${app.import.chunk-size:1000}") int chunkSize,
+                              @Value("${app.import.max-errors:1000}") int maxErrors,
+                              @Value("${app.import.temp-dir:${java.io.tmpdir}}") Path tempDir,
+                              ObjectProvider<DbBulkheadPermits> dbBulkhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.catalog = catalog;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.tempDir = tempDir;
+        this.dbBulkhead = dbBulkhead;
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 옮기고 가져오기 작업을 등록한다.
+     *
+     * @param format csv | ndjson (null이면 파일 확장자로 판단)
+     */
+    public StoreImportJobResponse submit(MultipartFile file, String format) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("업로드 파일이 비어 있습니다.");
+        }
+        String resolved = resolveFormat(format, file.getOriginalFilename());
+        Path copy;
+        try {
+            Files.createDirectories(tempDir);
+            copy = Files.createTempFile(tempDir, "store-import-", "." + resolved);
+            file.transferTo(copy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일 저장 실패", e);
+        }
+        Job job = new Job(UUID.randomUUID().toString(), resolved, file.getSize());
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+        }
+        executor.execute(() -> run(job, copy));
+        log.info("매장 가져오기 등록: jobId={}, format={}, bytes={}", job.id, resolved, job.totalBytes);
+        return job.toResponse();
+    }
+
+    /** 작업 상태 조회 */
+    public StoreImportJobResponse status(String jobId) {
+        Job job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        if (job == null) {
+            throw new NotFoundException("존재하지 않는 가져오기 작업입니다.");
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static String resolveFormat(String format, String filename) {
+        String value = format;
+        if (value == null || value.isBlank()) {
+            String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+            value = name.endsWith(".csv") ? FORMAT_CSV
+                    : name.endsWith(".ndjson") || name.endsWith(".jsonl") ? FORMAT_NDJSON : "";
+        }
+        value = value.toLowerCase(Locale.ROOT);
+        if (!FORMAT_CSV.equals(value) && !FORMAT_NDJSON.equals(value)) {
+            throw new BadRequestException("format은 csv 또는 ndjson 이어야 합니다.");
+        }
+        return value;
+    }
+
+    private void run(Job job, Path file) {
+        job.status = "RUNNING";
+        job.startedAt = Instant.now();
+        try (InputStream in = new CountingInputStream(Files.newInputStream(file), job.bytesRead)) {
+            Map<String, Integer> categoryCodes = withDbPermit(this::loadCategoryCodes);
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            RowReader reader = FORMAT_CSV.equals(job.format) ? csvRows(in) : ndjsonRows(in);
+            ParsedRow parsed;
+            while ((parsed = reader.next()) != null) {
+                String error = parsed.error != null ? parsed.error : validate(parsed.request, categoryCodes);
+                if (error != null) {
+                    job.reject(parsed.row, parsed.request != null ? parsed.request.getStoreId() : null, error, maxErrors);
+                    continue;
+                }
+                chunk.add(new ImportRow(parsed.row, parsed.request));
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            writeChunk(job, chunk);
+            job.status = "COMPLETED";
+        } catch (IOException | RuntimeException e) {
+            log.error("매장 가져오기 실패: jobId={}", job.id, e);
+            job.message = e.getMessage();
+            job.status = "FAILED";
+        } finally {
+            job.finishedAt = Instant.now();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("가져오기 임시 파일 삭제 실패: {}", file, e);
+            }
+        }
+        log.info("매장 가져오기 종료: jobId={}, status={}, imported={}, failed={}, {}ms", job.id, job.status,
+                job.imported.get(), job.failed.get(), job.finishedAt.toEpochMilli() - job.startedAt.toEpochMilli());
+        if (job.imported.get() > 0) {
+            catalog.refresh();
+        }
+    }
+
+    /** CATEGORY 이름/코드 → 코드 (코드는 문자열로도 등록해 두고 존재 여부 확인에 쓴다) */
+    private Map<String, Integer> loadCategoryCodes() {
+        Map<String, Integer> codes = new HashMap<>();
+        jdbcTemplate.query("select CATEGORY_CODE, CATEGORY_NAME from CATEGORY", rs -> {
+            int code = rs.getInt("CATEGORY_CODE");
+            codes.put(String.valueOf(code), code);
+            String name = rs.getString("CATEGORY_NAME");
+            if (name != null) codes.put(name.trim(), code);
+        });
+        return codes;
+    }
+
+    /** 행 검증. 통과하면 categoryCode를 확정하고 null, 아니면 사유를 반환한다 */
+    private static String validate(StoreRequest r, Map<String, Integer> categoryCodes) {
+        if (isBlank(r.getStoreId())) return "storeId가 없습니다.";
+        if (r.getStoreId().length() > 20) return "storeId는 20자 이하여야 합니다.";
+        if (isBlank(r.getStoreName())) return "storeName이 없습니다.";
+        if (r.getStoreName().length() > 50) return "storeName은 50자 이하여야 합니다.";
+        if (r.getSeatNum() < 0) return "seatNum은 0 이상이어야 합니다.";
+
+        Integer code = r.getCategoryCode() != null
+                ? categoryCodes.get(String.valueOf(r.getCategoryCode()))
+                : isBlank(r.getCategoryName()) ? null : categoryCodes.get(r.getCategoryName().trim());
+        if (code == null) {
+            return "알 수 없는 카테고리입니다: " + (r.getCategoryCode() != null ? r.getCategoryCode() : r.getCategoryName());
+        }
+        r.setCategoryCode(code);
+
+        if ((r.getOpenTime() == null) != (r.getCloseTime() == null)) {
+            return "openTime과 closeTime은 함께 입력해야 합니다.";
+        }
+        if (isBlank(r.getLongitude()) != isBlank(r.getLatitude())) {
+            return "longitude와 latitude는 함께 입력해야 합니다.";
+        }
+        if (!isBlank(r.getLongitude())) {
+            try {
+                double lng = Double.parseDouble(r.getLongitude().trim());
+                double lat = Double.parseDouble(r.getLatitude().trim());
+                if (lng < -180 || lng > 180 || lat < -90 || lat > 90) return "위경도 범위를 벗어났습니다.";
+            } catch (NumberFormatException e) {
+                return "위경도는 숫자여야 합니다.";
+            }
+        }
+        return null;
+    }
+
+    /** 청크 1개 = 트랜잭션 1개. 실패하면 행 단위로 다시 시도해 실패 행만 오류로 남긴다 */
+    private void writeChunk(Job job, List<ImportRow> chunk) {
+        if (chunk.isEmpty()) return;
+        withDbPermit(() -> {
+            writeChunkInTransactions(job, chunk);
+            return null;
+        });
+    }
+
+    private void writeChunkInTransactions(Job job, List<ImportRow> chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsert(chunk));
+            job.imported.addAndGet(chunk.size());
+        } catch (DataAccessException e) {
+            log.warn("매장 가져오기 청크 실패, 행 단위로 재시도: jobId={}, rows={}..{}",
+                    job.id, chunk.get(0).row, chunk.get(chunk.size() - 1).row);
+            for (ImportRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> upsert(List.of(row)));
+                    job.imported.incrementAndGet();
+                } catch (DataAccessException rowError) {
+                    job.reject(row.row, row.request.getStoreId(), rowError.getMostSpecificCause().getMessage(), maxErrors);
+                }
+            }
+        }
+    }
+
+    /** 벌크헤드가 켜져 있으면 허용을 얻을 때까지 기다렸다가(FIFO) work를 실행한다 */
+    private <T> T withDbPermit(Supplier<T> work) {
+        DbBulkheadPermits permits = dbBulkhead.getIfAvailable();
+        if (permits == null) {
+            return work.get();
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("가져오기 작업이 중단되었습니다.", e);
+        }
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void upsert(List<ImportRow> rows) {
+        List<Object[]> stores = new ArrayList<>(rows.size());
+        List<Object[]> locations = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            StoreRequest r = row.request;
+            String storeId = r.getStoreId().trim();
+            String name = r.getStoreName().trim();
+            String imageUrl = trimToNull(r.getImageUrl());
+            Time open = toTime(r.getOpenTime());
+            Time close = toTime(r.getCloseTime());
+            stores.add(new Object[]{storeId,
+                    name, r.getCategoryCode(), r.getSeatNum(), imageUrl, open, close,
+                    storeId, name, r.getCategoryCode(), r.getSeatNum(), imageUrl, open, close});
+            if (!isBlank(r.getStoreLocation()) || !isBlank(r.getLongitude())) {
+                String address = trimToNull(r.getStoreLocation());
+                String lng = trimToNull(r.getLongitude());
+                String lat = trimToNull(r.getLatitude());
+                locations.add(new Object[]{storeId, address, lng, lat, storeId, address, lng, lat});
+            }
+        }
+        jdbcTemplate.batchUpdate(MERGE_STORE_SQL, stores, STORE_TYPES);
+        if (!locations.isEmpty()) {
+            jdbcTemplate.batchUpdate(MERGE_LOCATION_SQL, locations, LOCATION_TYPES);
+        }
+    }
+
+    /** CSV: 첫 줄 헤더(필드 이름), 한 행씩 Map으로 읽어 변환(빈 칸은 값 없음) */
+    private RowReader csvRows(InputStream in) throws IOException {
+        MappingIterator<Map<String, String>> rows = csvMapper.readerFor(Map.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(in);
+        long[] rowNumber = new long[1];
+        return () -> {
+            if (!rows.hasNextValue()) return null;
+            long row = ++rowNumber[0];
+            Map<String, String> values = new HashMap<>();
+            rows.nextValue().forEach((key, value) -> {
+                if (!isBlank(value)) values.put(key.trim(), value.trim());
+            });
+            try {
+                return new ParsedRow(row, objectMapper.convertValue(values, StoreRequest.class), null);
+            } catch (IllegalArgumentException e) {
+                return new ParsedRow(row, null, "값 형식 오류: " + e.getMessage());
+            }
+        };
+    }
+
+    /** NDJSON: 한 줄에 JSON 객체 1개(빈 줄은 건너뜀). 줄 단위로 파싱하므로 깨진 줄만 오류로 남는다 */
+    private RowReader ndjsonRows(InputStream in) {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long[] rowNumber = new long[1];
+        return () -> {
+            String line;
+            do {
+                line = lines.readLine();
+                if (line == null) return null;
+            } while (line.isBlank());
+            long row = ++rowNumber[0];
+            try {
+                return new ParsedRow(row, objectMapper.readValue(line, StoreRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRow(row, null, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private static Time toTime(LocalTime time) {
+        return time != null ? Time.valueOf(time) : null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String trimToNull(String value) {
+        return isBlank(value) ? null : value.trim();
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        /** 다음 행(파일 끝이면 null) */
+        ParsedRow next() throws IOException;
+    }
+
+    private record ParsedRow(long row, StoreRequest request, String error) {
+    }
+
+    private record ImportRow(long row, StoreRequest request) {
+    }
+
+    /** 작업 진행 상태(가져오기 스레드가 쓰고 조회 요청이 읽는다) */
+    private static final class Job {
+        final String id;
+        final String format;
+        final long totalBytes;
+        final AtomicLong bytesRead = new AtomicLong();
+        final AtomicLong imported = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final List<StoreImportJobResponse.RowError> errors = new ArrayList<>();
+        volatile String status = "QUEUED";
+        volatile String message;
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+
+        Job(String id, String format, long totalBytes) {
+            this.id = id;
+            this.format = format;
+            this.totalBytes = totalBytes;
+        }
+
+        void reject(long row, String storeId, String message, int maxErrors) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < maxErrors) errors.add(new StoreImportJobResponse.RowError(row, storeId, message));
+            }
+        }
+
+        StoreImportJobResponse toResponse() {
+            List<StoreImportJobResponse.RowError> snapshot;
+            synchronized (errors) {
+                snapshot = List.copyOf(errors);
+            }
+            long importedRows = imported.get();
+            long failedRows = failed.get();
+            return new StoreImportJobResponse(id, status, format, importedRows + failedRows, importedRows, failedRows,
+                    bytesRead.get(), totalBytes, startedAt, finishedAt, message, snapshot);
+        }
+    }
+
+    /** 읽은 바이트 수를 진행률로 노출 */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count.incrementAndGet();
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count.addAndGet(n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count.addAndGet(skipped);
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.store.service.service;
+
+import com.example.store.service.dto.StoreResponseWithLL;
+import com.example.store.service.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 평점 상위 매장 리더보드(전체 + 카테고리별).
+ *
+ * 점수(베이지안 평균)
+ * - score = (C * m + 점수합) / (C + 리뷰수)
+ *   - m: 전체 리뷰 평균(평점 집계 전체 재계산 시점 기준으로 고정, 리뷰가 없으면 3.0)
+ *   - C: 사전 가중치(app.leaderboard.prior-weight, 기본 10) — 리뷰가 C건쯤 쌓여야 자기 평균에 가까워진다
+ * - 리뷰 1건짜리 5점 매장이 리뷰 수백 건의 4.8점 매장보다 위로 가지 않는다.
+ *
+ * 구조
+ * - 점수 내림차순(동점이면 storeId) ConcurrentSkipListSet을 전체/카테고리별로 유지한다.
+ *   리뷰 작성/수정/삭제 시(StoreRatingChangedEvent) 해당 매장만 O(log n)으로 재배치하고,
+ *   조회는 앞에서 n개만 읽으므로 O(n) — 요청마다 REVIEW를 읽지 않는다.
+ * - 리뷰가 없는 매장은 순위에 넣지 않는다.
+ * - 카탈로그 교체/평점 전체 재계산 이벤트가 오면 새 구조를 만들어 통째로 교체한다.
+ * - 갱신은 this 모니터로 직렬화하고, 조회는 락 없이 읽는다.
+ *   재배치(제거 → 다른 점수로 추가) 중인 매장을 조회가 옛 위치와 새 위치에서 두 번 만날 수 있으므로
+ *   조회는 이미 담은 storeId를 건너뛴다(먼저 만난 점수 사용). 반대로 한 번도 못 만나고 빠질 수는 있다.
+ *   this 모니터를 쥔 채 카탈로그(StoreCatalog.current)를 기다리지 않는다(카탈로그 첫 적재 이벤트가 이쪽 락을 잡으므로).
+ */
+@Service
+@Slf4j
+public class StoreLeaderboard {
+
+    /** n 상한 */
+    static final int MAX_TOP = 100;
+
+    /** 리뷰가 하나도 없을 때의 사전 평균 */
+    private static final double DEFAULT_PRIOR_MEAN = 3.0;
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::storeId);
+
+    private final StoreCatalog catalog;
+    private final StoreRatingAggregates ratingAggregates;
+    private final double priorWeight;
+
+    private volatile Board board;
+
+    public StoreLeaderboard(StoreCatalog catalog,
+                            StoreRatingAggregates ratingAggregates,
+                            @Value("${app.leaderboard.prior-weight:10}") double priorWeight) {
+        this.catalog = catalog;
+        this.ratingAggregates = ratingAggregates;
+        this.priorWeight = priorWeight;
+    }
+
+    /**
+     * 평점 상위 매장(점수 내림차순).
+     *
+     * @param categoryCode 카테고리 필터(선택, 없으면 전체)
+     * @param n            개수(1~100)
+     */
+    public List<StoreResponseWithLL> top(Integer categoryCode, int n) {
+        if (n < 1 || n > MAX_TOP) {
+            throw new BadRequestException("n은 1에서 " + MAX_TOP + " 사이여야 합니다.");
+        }
+        Board b = board();
+        NavigableSet<Entry> ranking = categoryCode == null ? b.all : b.byCategory.get(categoryCode);
+        if (ranking == null) return List.of();
+
+        Map<String, Double> scores = firstDistinct(ranking.iterator(), n);
+        List<StoreResponseWithLL> result = catalog.getStores(new ArrayList<>(scores.keySet()));
+        for (StoreResponseWithLL r : result) {
+            r.setRatingScore(Math.round(scores.get(r.getStoreId()) * 1000) / 1000.0);
+        }
+        return result;
+    }
+
+    /** 순위 순서대로 storeId → 점수 최대 n개. 재배치 중 두 번 보이는 매장은 먼저 만난 항목만 쓴다 */
+    static Map<String, Double> firstDistinct(Iterator<Entry> ranking, int n) {
+        Map<String, Double> scores = new LinkedHashMap<>(n * 2);
+        while (ranking.hasNext() && scores.size() < n) {
+            Entry e = ranking.next();
+            scores.putIfAbsent(e.storeId(), e.score());
+        }
+        return scores;
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(StoreCatalogRefreshedEvent event) {
+        rebuild(event.snapshot());
+    }
+
+    @EventListener
+    public void onRatingChanged(StoreRatingChangedEvent event) {
+        if (event.isRebuild()) {
+            rebuild(catalog.current());
+        } else {
+            update(event.storeId());
+        }
+    }
+
+    private Board board() {
+        Board current = board;
+        if (current != null) return current;
+        // 락 밖에서 스냅샷을 얻는다: 첫 적재라면 current()가 카탈로그 락을 잡은 채 갱신 이벤트로 rebuild()(this 모니터)를 부른다.
+        // this를 쥔 채 current()를 기다리면 기동 warmUp 스레드와 서로 기다리게 된다.
+        StoreCatalogSnapshot snapshot = catalog.current();
+        synchronized (this) {
+            if (board == null) {
+                board = build(snapshot);
+            }
+            return board;
+        }
+    }
+
+    private synchronized void rebuild(StoreCatalogSnapshot snapshot) {
+        board = build(snapshot);
+        log.debug("리더보드 재구성: ranked={}", board.entries.size());
+    }
+
+    /** 매장 1건 재배치 */
+    private synchronized void update(String storeId) {
+        Board b = board;
+        if (b == null) return; // 첫 조회 때 전체 구성
+        StoreCatalogSnapshot snapshot = b.snapshot;
+        int ordinal = snapshot.ordinalOf(storeId);
+        if (ordinal < 0) return; // 카탈로그 갱신 후 반영
+
+        Integer categoryCode = snapshot.categoryCode(ordinal);
+        Entry previous = b.entries.remove(storeId);
+        if (previous != null) {
+            b.all.remove(previous);
+            if (categoryCode != null) b.byCategory.get(categoryCode).remove(previous);
+        }
+        Entry next = entry(storeId, ratingAggregates.get(storeId), b.priorMean);
+        if (next != null) {
+            b.entries.put(storeId, next);
+            b.all.add(next);
+            if (categoryCode != null) {
+                b.byCategory.computeIfAbsent(categoryCode, k -> new ConcurrentSkipListSet<>(RANKING)).add(next);
+            }
+        }
+    }
+
+    private Board build(StoreCatalogSnapshot snapshot) {
+        Double globalAverage = ratingAggregates.globalAverage();
+        double priorMean = globalAverage != null ? globalAverage : DEFAULT_PRIOR_MEAN;
+        Board b = new Board(snapshot, priorMean);
+        for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+            String storeId = snapshot.storeId(ordinal);
+            Entry e = entry(storeId, ratingAggregates.get(storeId), priorMean);
+            if (e == null) continue;
+            b.entries.put(storeId, e);
+            b.all.add(e);
+            Integer categoryCode = snapshot.categoryCode(ordinal);
+            if (categoryCode != null) {
+                b.byCategory.computeIfAbsent(categoryCode, k -> new ConcurrentSkipListSet<>(RANKING)).add(e);
+            }
+        }
+        return b;
+    }
+
+    /** 베이지안 평균 점수 항목(리뷰가 없으면 null) */
+    private Entry entry(String storeId, StoreRatingAggregates.Rating rating, double priorMean) {
+        if (rating.count() == 0) return null;
+        double score = (priorWeight * priorMean + rating.sum()) / (priorWeight + rating.count());
+        return new Entry(storeId, score);
+    }
+
+    record Entry(String storeId, double score) {
+    }
+
+    /** 스냅샷 1개 기준 순위 구조 */
+    private static final class Board {
+        final StoreCatalogSnapshot snapshot;
+        final double priorMean;
+        final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        final NavigableSet<Entry> all = new ConcurrentSkipListSet<>(RANKING);
+        final Map<Integer, NavigableSet<Entry>> byCategory = new ConcurrentHashMap<>();
+
+        Board(StoreCatalogSnapshot snapshot, double priorMean) {
+            this.snapshot = snapshot;
+            this.priorMean = priorMean;
+        }
+    }
+}
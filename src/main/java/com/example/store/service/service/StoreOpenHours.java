@@ -0,0 +1,195 @@
+package com.example.store.service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매장 영업 상태 색인("지금 영업중" 비트셋 + 분 단위 전환 타임라인).
+ *
+ * 설계 메모
+ * - 스냅샷마다 OPEN_TIME/CLOSE_TIME으로 분(0~1439)별 전환 목록을 만든다.
+ *   (해당 분에 여는 매장 ordinal / 닫는 매장 ordinal)
+ * - 매 분 0초 스케줄러가 직전 비트셋을 복사해 그 분의 전환만 뒤집은 뒤 volatile 참조로 교체한다.
+ *   조회는 불변 비트셋을 읽으므로 매장당 openNow 판정이 O(1)이고 락이 없다.
+ * - 심야 영업(종료 < 시작)은 시작 분에 켜고 종료 분에 끄면 되므로 별도 처리가 없다.
+ *   24시간(시작 = 종료)은 항상 켜 두고, 시간 미등록 매장은 항상 꺼 둔다.
+ * - 스냅샷이 바뀌었거나 틱을 놓쳐 분이 어긋나면 StoreCatalogSnapshot.isOpenAt으로 전체를 다시 계산한다.
+ * - 현재 시각은 Clock 빈이 있으면 그것을(서울 시간대로 변환), 없으면 시스템 시계를 쓴다.
+ */
+@Component
+@Slf4j
+public class StoreOpenHours {
+
+    static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Clock clock;
+
+    private volatile Timeline timeline;
+    private volatile OpenSet openSet;
+
+    @Autowired
+    public StoreOpenHours(ObjectProvider<Clock> clock) {
+        this(clock.getIfAvailable(Clock::systemDefaultZone));
+    }
+
+    StoreOpenHours(Clock clock) {
+        this.clock = clock.withZone(SEOUL);
+    }
+
+    /** 현재 서울 시각 */
+    public ZonedDateTime now() {
+        return ZonedDateTime.now(clock);
+    }
+
+    /** 현재 서울 기준 자정 이후 분 */
+    public int currentMinuteOfDay() {
+        ZonedDateTime now = now();
+        return now.getHour() * 60 + now.getMinute();
+    }
+
+    /**
+     * 스냅샷 기준 현재 영업 상태.
+     * - 보통은 스케줄러가 만들어 둔 값을 그대로 반환하고, 스냅샷/분이 어긋난 경우에만 갱신한다.
+     */
+    public OpenSet current(StoreCatalogSnapshot snapshot) {
+        int minute = currentMinuteOfDay();
+        OpenSet current = openSet;
+        if (current != null && current.matches(snapshot, minute)) {
+            return current;
+        }
+        return advance(snapshot, minute);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(StoreCatalogRefreshedEvent event) {
+        advance(event.snapshot(), currentMinuteOfDay());
+    }
+
+    /** 매 분 0초: 해당 분의 전환만 반영 */
+    @Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+    public void tick() {
+        Timeline t = timeline;
+        if (t == null) return; // 첫 조회 때 계산
+        advance(t.snapshot, currentMinuteOfDay());
+    }
+
+    /** 직전 분 상태에서 한 분 전진할 수 있으면 전환만 뒤집고, 아니면 전체 재계산 */
+    synchronized OpenSet advance(StoreCatalogSnapshot snapshot, int minute) {
+        OpenSet previous = openSet;
+        Timeline t = timeline;
+        if (previous != null && previous.matches(snapshot, minute)) {
+            return previous;
+        }
+        if (previous == null || t == null || !previous.matches(snapshot, previous.minuteOfDay)
+                || minute != (previous.minuteOfDay + 1) % MINUTES_PER_DAY) {
+            return recompute(snapshot, minute);
+        }
+        long[] bits = previous.bits.clone();
+        for (int ordinal : t.openingAt[minute]) bits[ordinal >>> 6] |= 1L << ordinal;
+        for (int ordinal : t.closingAt[minute]) bits[ordinal >>> 6] &= ~(1L << ordinal);
+        OpenSet next = new OpenSet(previous.snapshotVersion, minute, previous.size, bits);
+        openSet = next;
+        return next;
+    }
+
+    private OpenSet recompute(StoreCatalogSnapshot snapshot, int minute) {
+        Timeline t = timeline;
+        if (t == null || t.snapshot.version() != snapshot.version() || t.snapshot.size() != snapshot.size()) {
+            t = new Timeline(snapshot);
+            timeline = t;
+        }
+        long[] bits = new long[(snapshot.size() + 63) >>> 6];
+        for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+            if (snapshot.isOpenAt(ordinal, minute)) bits[ordinal >>> 6] |= 1L << ordinal;
+        }
+        OpenSet computed = new OpenSet(snapshot.version(), minute, snapshot.size(), bits);
+        openSet = computed;
+        log.debug("영업 상태 색인 재계산: stores={}, minute={}", snapshot.size(), minute);
+        return computed;
+    }
+
+    /** 스냅샷 1개의 분별 전환 목록 */
+    private static final class Timeline {
+        final StoreCatalogSnapshot snapshot;
+        final int[][] openingAt = new int[MINUTES_PER_DAY][];
+        final int[][] closingAt = new int[MINUTES_PER_DAY][];
+
+        Timeline(StoreCatalogSnapshot snapshot) {
+            this.snapshot = snapshot;
+            List<List<Integer>> opening = new ArrayList<>(MINUTES_PER_DAY);
+            List<List<Integer>> closing = new ArrayList<>(MINUTES_PER_DAY);
+            for (int m = 0; m < MINUTES_PER_DAY; m++) {
+                opening.add(new ArrayList<>());
+                closing.add(new ArrayList<>());
+            }
+            for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+                int open = snapshot.openMinute(ordinal);
+                int close = snapshot.closeMinute(ordinal);
+                if (open == StoreCatalogSnapshot.NO_TIME || close == StoreCatalogSnapshot.NO_TIME || open == close) {
+                    continue;
+                }
+                opening.get(open).add(ordinal);
+                closing.get(close).add(ordinal);
+            }
+            for (int m = 0; m < MINUTES_PER_DAY; m++) {
+                openingAt[m] = opening.get(m).stream().mapToInt(Integer::intValue).toArray();
+                closingAt[m] = closing.get(m).stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+    }
+
+    /**
+     * 특정 분 기준 영업중 매장 비트셋(불변).
+     */
+    public static final class OpenSet {
+        private final long snapshotVersion;
+        private final int minuteOfDay;
+        private final int size;
+        private final long[] bits;
+
+        private OpenSet(long snapshotVersion, int minuteOfDay, int size, long[] bits) {
+            this.snapshotVersion = snapshotVersion;
+            this.minuteOfDay = minuteOfDay;
+            this.size = size;
+            this.bits = bits;
+        }
+
+        private boolean matches(StoreCatalogSnapshot snapshot, int minute) {
+            return snapshotVersion == snapshot.version() && size == snapshot.size() && minuteOfDay == minute;
+        }
+
+        /** 기준 시각(자정 이후 분) */
+        public int minuteOfDay() {
+            return minuteOfDay;
+        }
+
+        public boolean isOpen(int ordinal) {
+            return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+        }
+
+        /**
+         * 영업중이고 minutes분 이내에 영업을 종료하는지.
+         * - 24시간 매장은 종료하지 않으므로 false
+         */
+        public boolean isClosingWithin(StoreCatalogSnapshot snapshot, int ordinal, int minutes) {
+            if (!isOpen(ordinal)) return false;
+            int open = snapshot.openMinute(ordinal);
+            int close = snapshot.closeMinute(ordinal);
+            if (open == close) return false;
+            int remaining = Math.floorMod(close - minuteOfDay, MINUTES_PER_DAY);
+            return remaining <= minutes;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.store.service.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * storeId → 고정 정수 번호(ordinal) 등록부.
+ *
+ * 설계 메모
+ * - 카탈로그 스냅샷의 ordinal은 STORE_ID 정렬 순서라 매장이 추가되면 바뀐다.
+ *   사용자별 비트맵처럼 오래 보관하는 구조는 이 등록부의 번호를 쓴다.
+ * - 번호는 처음 등록될 때 0부터 순서대로 부여되며, 프로세스가 끝날 때까지 바뀌지 않는다(삭제된 매장 번호도 재사용 안 함).
+ * - 등록은 실제 존재하는 매장(카탈로그/FAV_STORE)에서만 한다. 조회용 find()는 등록하지 않으므로
+ *   임의의 storeId 요청으로 등록부가 커지지 않는다.
+ */
+@Component
+public class StoreOrdinals {
+
+    private final ConcurrentHashMap<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /** 번호 조회(없으면 -1) */
+    public int find(String storeId) {
+        if (storeId == null) return -1;
+        Integer ordinal = ordinals.get(storeId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /** 번호 조회, 없으면 새로 부여 */
+    public int assign(String storeId) {
+        return ordinals.computeIfAbsent(storeId, id -> next.getAndIncrement());
+    }
+
+    /** 지금까지 부여한 번호 수(= 최대 번호 + 1) */
+    public int size() {
+        return next.get();
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(StoreCatalogRefreshedEvent event) {
+        StoreCatalogSnapshot snapshot = event.snapshot();
+        for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+            assign(snapshot.storeId(ordinal));
+        }
+    }
+}
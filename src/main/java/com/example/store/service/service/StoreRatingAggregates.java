@@ -0,0 +1,243 @@
+package com.example.store.service.service;
+
+import com.example.store.service.dto.StoreRatingResponse;
+import com.example.store.service.entity.StoreScoreCountMapping;
+import com.example.store.service.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * 매장별 평점 집계(리뷰 수, 점수 합, 1~5 히스토그램).
+ *
+ * 설계 메모
+ * - 기동 시 REVIEW를 (STORE_ID, SCORE)로 GROUP BY 한 번 읽어 전체를 만든다.
+ * - 이후 ReviewService의 작성/수정/삭제가 커밋된 뒤 해당 매장 집계만 O(1)로 갱신한다.
+ * - 여러 인스턴스가 함께 쓰는 경우 다른 인스턴스의 쓰기는 보이지 않으므로
+ *   app.rating.rebuild-interval-ms 주기(기본 10분)로 DB 기준 재계산해 맞춘다.
+ * - 변경/재계산 후 StoreRatingChangedEvent를 발행한다(리더보드 등 파생 구조 갱신용).
+ * - 재계산 중(조회 ~ 교체)에 들어온 증분은 기존 집계에 반영하면서 따로 기록해 두었다가, 새 집계로 바꾸기 직전에
+ *   새 집계에 다시 적용한다(조회 결과에 없는 변경이 교체로 사라지지 않게). 조회 시작 직전에 커밋됐는데 증분 적용이
+ *   조회 시작 뒤로 밀린 변경은 두 번 셀 수 있으나 그 폭은 커밋~콜백 사이이며 다음 재계산에서 맞춰진다.
+ * - contentHash: 매장별 집계 해시의 XOR(변경 시 해당 매장분만 바꿔 O(1) 유지). 집계 내용만으로 정해지므로
+ *   같은 리뷰 데이터면 재기동 후에도, 다른 인스턴스에서도 같은 값이다. 평점이 포함된 응답의 ETag에 사용한다.
+ */
+@Service
+@Slf4j
+public class StoreRatingAggregates {
+
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Ratings ratings = new Ratings();
+    /** 증분 적용과 재계산 중 증분 기록/교체를 직렬화한다 */
+    private final Object updateLock = new Object();
+    /** 재계산 중에 적용된 증분(재계산 중이 아니면 null). updateLock으로 보호 */
+    private List<Update> duringRebuild;
+    private final Object rebuildLock = new Object();
+
+    public StoreRatingAggregates(ReviewRepository reviewRepository, ApplicationEventPublisher eventPublisher) {
+        this.reviewRepository = reviewRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /** REVIEW 기준 전체 재계산. 실패 시 기존 집계 유지. */
+    @Scheduled(fixedDelayString = "${app.rating.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.rating.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        Ratings rebuilt = new Ratings();
+        synchronized (rebuildLock) {
+            synchronized (updateLock) {
+                duringRebuild = new ArrayList<>();
+            }
+            try {
+                for (StoreScoreCountMapping row : reviewRepository.countByStoreIdAndScore()) {
+                    if (!isValidScore(row.getScore())) continue;
+                    Rating counted = Rating.EMPTY.plus(row.getScore(), row.getReviewCount());
+                    rebuilt.compute(row.getStoreId(), (id, r) -> r != null ? r.merge(counted) : counted);
+                }
+                synchronized (updateLock) {
+                    duringRebuild.forEach(update -> rebuilt.compute(update.storeId(), update.change()));
+                    ratings = rebuilt;
+                }
+            } catch (RuntimeException e) {
+                log.error("평점 집계 재계산 실패, 기존 집계를 유지합니다.", e);
+                return;
+            } finally {
+                synchronized (updateLock) {
+                    duringRebuild = null;
+                }
+            }
+        }
+        log.info("평점 집계 재계산: stores={}", rebuilt.byStore.size());
+        eventPublisher.publishEvent(new StoreRatingChangedEvent(null));
+    }
+
+    /** 집계 내용 해시(내용이 같으면 인스턴스/재기동과 무관하게 같다) */
+    public long contentHash() {
+        return ratings.hash.get();
+    }
+
+    /** 매장 평점 집계(리뷰가 없으면 count=0) */
+    public Rating get(String storeId) {
+        Rating rating = ratings.byStore.get(storeId);
+        return rating != null ? rating : Rating.EMPTY;
+    }
+
+    /** 전체 평점 평균(리뷰가 없으면 null) - 베이지안 평균의 사전 평균으로 사용 */
+    public Double globalAverage() {
+        long count = 0;
+        long sum = 0;
+        for (Rating rating : ratings.byStore.values()) {
+            count += rating.count();
+            sum += rating.sum();
+        }
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    /** 응답 DTO 변환 */
+    public StoreRatingResponse toResponse(String storeId) {
+        Rating rating = get(storeId);
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int score = 1; score <= 5; score++) {
+            histogram.put(score, rating.histogram()[score - 1]);
+        }
+        return StoreRatingResponse.builder()
+                .storeId(storeId)
+                .count(rating.count())
+                .average(rating.average())
+                .histogram(histogram)
+                .build();
+    }
+
+    // ===================== 증분 갱신 (커밋 후 적용) =====================
+
+    public void recordCreated(String storeId, int score) {
+        afterCommit(storeId, (id, r) -> (r != null ? r : Rating.EMPTY).plus(score, 1));
+    }
+
+    public void recordUpdated(String storeId, int oldScore, int newScore) {
+        if (oldScore == newScore) return;
+        afterCommit(storeId, (id, r) -> (r != null ? r : Rating.EMPTY).plus(oldScore, -1).plus(newScore, 1));
+    }
+
+    public void recordDeleted(String storeId, int score) {
+        afterCommit(storeId, (id, r) -> {
+            if (r == null) return null;
+            Rating next = r.plus(score, -1);
+            return next.count() > 0 ? next : null;
+        });
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 즉시 실행(롤백된 변경은 집계에 반영하지 않는다) */
+    private void afterCommit(String storeId, BiFunction<String, Rating, Rating> change) {
+        Runnable applyAndPublish = () -> {
+            apply(new Update(storeId, change));
+            eventPublisher.publishEvent(new StoreRatingChangedEvent(storeId));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAndPublish.run();
+                }
+            });
+        } else {
+            applyAndPublish.run();
+        }
+    }
+
+    /** 현재 집계에 적용하고, 재계산 중이면 교체 후 다시 적용하도록 기록한다 */
+    private void apply(Update update) {
+        synchronized (updateLock) {
+            ratings.compute(update.storeId(), update.change());
+            if (duringRebuild != null) {
+                duringRebuild.add(update);
+            }
+        }
+    }
+
+    /** 매장 1건 증분 */
+    private record Update(String storeId, BiFunction<String, Rating, Rating> change) {
+    }
+
+    /**
+     * 매장별 집계 맵 + 내용 해시. 재계산은 이 묶음을 통째로 교체해 맵과 해시가 어긋난 순간이 보이지 않게 한다.
+     */
+    private static final class Ratings {
+        final ConcurrentHashMap<String, Rating> byStore = new ConcurrentHashMap<>();
+        final AtomicLong hash = new AtomicLong();
+
+        /** 매장 1건 갱신. 해시는 같은 키의 compute 안에서 바꾸므로 매장 단위로 직렬화된다 */
+        void compute(String storeId, BiFunction<String, Rating, Rating> update) {
+            byStore.compute(storeId, (id, previous) -> {
+                Rating next = update.apply(id, previous);
+                long delta = hashOf(id, previous) ^ hashOf(id, next);
+                hash.getAndUpdate(h -> h ^ delta);
+                return next;
+            });
+        }
+
+        private static long hashOf(String storeId, Rating rating) {
+            if (rating == null || rating.count() == 0) return 0;
+            long h = storeId.hashCode();
+            for (long c : rating.histogram()) h = h * 1_000_003L + c;
+            // SplitMix64 마무리 단계로 비트를 고르게 섞는다(XOR 누적 시 상쇄 방지)
+            h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+            h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+            return h ^ (h >>> 31);
+        }
+    }
+
+    private static boolean isValidScore(Integer score) {
+        return score != null && score >= 1 && score <= 5;
+    }
+
+    /**
+     * 불변 평점 집계 값.
+     *
+     * @param count     리뷰 수
+     * @param sum       점수 합
+     * @param histogram 평점별 리뷰 수(index 0 = 1점)
+     */
+    public record Rating(long count, long sum, long[] histogram) {
+
+        static final Rating EMPTY = new Rating(0, 0, new long[5]);
+
+        /** 평균 평점(리뷰가 없으면 null) */
+        public Double average() {
+            return count == 0 ? null : Math.round(sum * 100.0 / count) / 100.0;
+        }
+
+        Rating plus(int score, long delta) {
+            if (!isValidScore(score)) return this;
+            long[] next = histogram.clone();
+            next[score - 1] = Math.max(0, next[score - 1] + delta);
+            return new Rating(Math.max(0, count + delta), Math.max(0, sum + delta * score), next);
+        }
+
+        Rating merge(Rating other) {
+            long[] next = histogram.clone();
+            for (int i = 0; i < next.length; i++) next[i] += other.histogram[i];
+            return new Rating(count + other.count, sum + other.sum, next);
+        }
+    }
+}
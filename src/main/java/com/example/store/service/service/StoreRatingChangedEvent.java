@@ -0,0 +1,13 @@
+package com.example.store.service.service;
+
+/**
+ * 매장 평점 집계가 바뀌었음을 알리는 이벤트.
+ *
+ * @param storeId 변경된 매장. 전체 재계산이면 null
+ */
+public record StoreRatingChangedEvent(String storeId) {
+
+    public boolean isRebuild() {
+        return storeId == null;
+    }
+}
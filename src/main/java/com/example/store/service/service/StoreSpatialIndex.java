@@ -0,0 +1,251 @@
+package com.example.store.service.service;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 매장 좌표 최근접(k-NN) 검색용 KD-tree.
+ *
+ * 설계 메모
+ * - 위경도를 단위 구(球) 위의 3차원 좌표로 변환해 저장한다.
+ *   두 점의 3차원 직선(현) 거리는 대원 거리와 단조 관계이므로 유클리드 KD-tree로 정확한 k-NN을 구할 수 있다.
+ * - 트리는 배열 기반 암묵적 균형 트리: 구간 [lo, hi)의 중앙값 노드가 루트, 축은 깊이 % 3.
+ * - 불변 객체. StoreCatalogSnapshot과 함께 생성/교체된다.
+ * - 좌표가 없거나 형식이 잘못된 매장은 색인하지 않는다.
+ */
+public final class StoreSpatialIndex {
+
+    /** 지구 평균 반지름(m) */
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private final int[] ordinals;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+
+    private StoreSpatialIndex(int[] ordinals, double[] xs, double[] ys, double[] zs) {
+        this.ordinals = ordinals;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+    }
+
+    /**
+     * 좌표 배열(ordinal 기준)로 색인 생성.
+     *
+     * @param latitudes  위도(NaN 허용)
+     * @param longitudes 경도(NaN 허용)
+     */
+    static StoreSpatialIndex build(double[] latitudes, double[] longitudes) {
+        int n = 0;
+        int[] ordinals = new int[latitudes.length];
+        for (int i = 0; i < latitudes.length; i++) {
+            if (isValid(latitudes[i], longitudes[i])) {
+                ordinals[n++] = i;
+            }
+        }
+        ordinals = Arrays.copyOf(ordinals, n);
+        double[][] points = new double[3][n];
+        for (int i = 0; i < n; i++) {
+            double lat = Math.toRadians(latitudes[ordinals[i]]);
+            double lng = Math.toRadians(longitudes[ordinals[i]]);
+            points[0][i] = Math.cos(lat) * Math.cos(lng);
+            points[1][i] = Math.cos(lat) * Math.sin(lng);
+            points[2][i] = Math.sin(lat);
+        }
+        buildTree(points, ordinals, 0, n, 0);
+        return new StoreSpatialIndex(ordinals, points[0], points[1], points[2]);
+    }
+
+    public int size() {
+        return ordinals.length;
+    }
+
+    /**
+     * 가장 가까운 매장 최대 k개를 가까운 순으로 반환.
+     *
+     * @param lat    위도
+     * @param lng    경도
+     * @param k      최대 개수
+     * @param filter ordinal 필터(카테고리/영업중 등). 통과한 매장만 결과에 포함
+     * @return 결과(ordinal + 거리(m))
+     */
+    public Result nearest(double lat, double lng, int k, IntPredicate filter) {
+        if (k <= 0 || ordinals.length == 0) {
+            return new Result(new int[0], new double[0]);
+        }
+        double radLat = Math.toRadians(lat);
+        double radLng = Math.toRadians(lng);
+        Search search = new Search(k, filter,
+                Math.cos(radLat) * Math.cos(radLng),
+                Math.cos(radLat) * Math.sin(radLng),
+                Math.sin(radLat));
+        search.visit(0, ordinals.length, 0);
+        return search.result();
+    }
+
+    /** 위경도 유효성(범위 포함) */
+    static boolean isValid(double lat, double lng) {
+        return !Double.isNaN(lat) && !Double.isNaN(lng)
+                && lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    /** 단위 구 위의 현 거리 제곱 → 대원 거리(m). haversine 공식과 같은 값(hav = (현/2)^2) */
+    private static double chordSquaredToMeters(double chordSquared) {
+        double halfChord = Math.sqrt(chordSquared) / 2;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, halfChord));
+    }
+
+    private static void buildTree(double[][] points, int[] ordinals, int lo, int hi, int depth) {
+        if (hi - lo <= 1) return;
+        int mid = (lo + hi) >>> 1;
+        select(points, ordinals, lo, hi - 1, mid, depth % 3);
+        buildTree(points, ordinals, lo, mid, depth + 1);
+        buildTree(points, ordinals, mid + 1, hi, depth + 1);
+    }
+
+    /** quickselect: [left, right] 구간에서 axis 기준 k번째 원소를 제자리에 둔다 */
+    private static void select(double[][] points, int[] ordinals, int left, int right, int k, int axis) {
+        double[] key = points[axis];
+        while (right > left) {
+            int pivotIndex = (left + right) >>> 1;
+            double pivot = key[pivotIndex];
+            swap(points, ordinals, pivotIndex, right);
+            int store = left;
+            for (int i = left; i < right; i++) {
+                if (key[i] < pivot) {
+                    swap(points, ordinals, store++, i);
+                }
+            }
+            swap(points, ordinals, right, store);
+            if (store == k) return;
+            if (store < k) left = store + 1;
+            else right = store - 1;
+        }
+    }
+
+    private static void swap(double[][] points, int[] ordinals, int i, int j) {
+        if (i == j) return;
+        for (double[] axis : points) {
+            double t = axis[i];
+            axis[i] = axis[j];
+            axis[j] = t;
+        }
+        int t = ordinals[i];
+        ordinals[i] = ordinals[j];
+        ordinals[j] = t;
+    }
+
+    /** 검색 1회 상태: 크기 k의 최대 힙(가장 먼 후보가 루트) */
+    private final class Search {
+        private final int k;
+        private final IntPredicate filter;
+        private final double qx, qy, qz;
+        private final int[] heapOrdinals;
+        private final double[] heapDistances;
+        private int heapSize;
+
+        Search(int k, IntPredicate filter, double qx, double qy, double qz) {
+            this.k = k;
+            this.filter = filter;
+            this.qx = qx;
+            this.qy = qy;
+            this.qz = qz;
+            this.heapOrdinals = new int[k];
+            this.heapDistances = new double[k];
+        }
+
+        void visit(int lo, int hi, int depth) {
+            if (lo >= hi) return;
+            int mid = (lo + hi) >>> 1;
+            double dx = xs[mid] - qx;
+            double dy = ys[mid] - qy;
+            double dz = zs[mid] - qz;
+            double d2 = dx * dx + dy * dy + dz * dz;
+            if ((heapSize < k || d2 < heapDistances[0]) && (filter == null || filter.test(ordinals[mid]))) {
+                offer(ordinals[mid], d2);
+            }
+
+            int axis = depth % 3;
+            double diff = axis == 0 ? dx : axis == 1 ? dy : dz;
+            // diff > 0 이면 질의점이 노드보다 작은 쪽(왼쪽)에 있다
+            if (diff > 0) {
+                visit(lo, mid, depth + 1);
+                if (heapSize < k || diff * diff < heapDistances[0]) visit(mid + 1, hi, depth + 1);
+            } else {
+                visit(mid + 1, hi, depth + 1);
+                if (heapSize < k || diff * diff < heapDistances[0]) visit(lo, mid, depth + 1);
+            }
+        }
+
+        private void offer(int ordinal, double d2) {
+            if (heapSize < k) {
+                int i = heapSize++;
+                heapOrdinals[i] = ordinal;
+                heapDistances[i] = d2;
+                siftUp(i);
+            } else {
+                heapOrdinals[0] = ordinal;
+                heapDistances[0] = d2;
+                siftDown(0);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heapDistances[parent] >= heapDistances[i]) return;
+                swapHeap(parent, i);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= heapSize) return;
+                int largest = left;
+                int right = left + 1;
+                if (right < heapSize && heapDistances[right] > heapDistances[left]) largest = right;
+                if (heapDistances[i] >= heapDistances[largest]) return;
+                swapHeap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swapHeap(int i, int j) {
+            int o = heapOrdinals[i];
+            heapOrdinals[i] = heapOrdinals[j];
+            heapOrdinals[j] = o;
+            double d = heapDistances[i];
+            heapDistances[i] = heapDistances[j];
+            heapDistances[j] = d;
+        }
+
+        Result result() {
+            int[] resultOrdinals = new int[heapSize];
+            double[] resultMeters = new double[heapSize];
+            // 힙에서 가장 먼 것부터 꺼내 뒤에서부터 채운다
+            for (int i = heapSize - 1; i >= 0; i--) {
+                resultOrdinals[i] = heapOrdinals[0];
+                resultMeters[i] = chordSquaredToMeters(heapDistances[0]);
+                heapSize--;
+                if (heapSize > 0) {
+                    heapOrdinals[0] = heapOrdinals[heapSize];
+                    heapDistances[0] = heapDistances[heapSize];
+                    siftDown(0);
+                }
+            }
+            return new Result(resultOrdinals, resultMeters);
+        }
+    }
+
+    /**
+     * k-NN 결과. 같은 인덱스끼리 짝(가까운 순).
+     *
+     * @param ordinals       매장 ordinal
+     * @param distanceMeters 대원 거리(m)
+     */
+    public record Result(int[] ordinals, double[] distanceMeters) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.store.service.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리 엔드포인트 접근 제어: health는 공개, metrics/latency는 운영 그룹만.
+ */
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,metrics,latency")
+@AutoConfigureMockMvc
+class ActuatorAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsAndLatencyRequireOpsGroup() throws Exception {
+        for (String path : new String[]{"/actuator/metrics", "/actuator/latency"}) {
+            mockMvc.perform(get(path))
+                    .andExpect(status().isUnauthorized());
+            mockMvc.perform(get(path).with(jwt().jwt(j -> j.subject("user-1"))))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(get(path).with(jwt().jwt(j -> j.subject("user-1").claim("cognito:groups", List.of("partner")))))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(get(path).with(jwt().jwt(j -> j.subject("ops-1").claim("cognito:groups", List.of("ops")))))
+                    .andExpect(status().isOk());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.store.service.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * DB 벌크헤드(허용 1개) 검증: 스트리밍 핸들러의 허용 보유 기간, 풀 크기 검증.
+ */
+@SpringBootTest(properties = {
+        "app.bulkhead.enabled=true",
+        "app.bulkhead.max-concurrent=1",
+        "app.bulkhead.acquire-timeout=10ms"})
+@AutoConfigureMockMvc
+class DbBulkheadInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exportHoldsPermitUntilStreamCompletes() throws Exception {
+        MvcResult export = mockMvc.perform(get("/api/stores/export")
+                        .with(jwt().jwt(j -> j.subject("partner-1").claim("cognito:groups", List.of("partner")))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 스트림이 끝나기 전에는 다른 DB 요청이 허용을 얻지 못한다
+        mockMvc.perform(get("/api/stores/NONE/reviews"))
+                .andExpect(status().isServiceUnavailable());
+
+        mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/stores/NONE/reviews"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void maxConcurrentLargerThanPoolFailsAtStartup() {
+        assertThatThrownBy(() -> new DbBulkheadPermits(10, 11, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maximum-pool-size");
+        new DbBulkheadPermits(10, 10, Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.store.service.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 지연 시간/DB 시간 분해 기록 검증.
+ * - 테스트 트랜잭션이 커넥션을 먼저 잡으면 요청 중 커넥션 획득이 일어나지 않으므로 @Transactional 없이 직접 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EndpointLatencyTest {
+
+    private static final String ENDPOINT = "ReviewController.getStoreReviewsPage";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private LatencyEndpoint latencyEndpoint;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values ('LAT1', 'lat', 0)");
+        jdbcTemplate.update("insert into REVIEW (REVIEW_ID, STORE_ID, USER_ID, COMENT, SCORE) values (9001, 'LAT1', 'user-1', 'good', 5)");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from REVIEW where STORE_ID = 'LAT1'");
+        jdbcTemplate.update("delete from STORES where STORE_ID = 'LAT1'");
+    }
+
+    @Test
+    void recordsLatencyPercentilesAndDbBreakdownPerControllerMethod() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/reviews/stores/{storeId}", "LAT1").param("size", "20"))
+                    .andExpect(status().isOk());
+        }
+
+        Timer latency = registry.get("store.api.latency").tag("endpoint", ENDPOINT).timer();
+        assertThat(latency.count()).isEqualTo(5);
+        assertThat(latency.takeSnapshot().percentileValues()).hasSize(4);
+        assertThat(registry.get("store.api.db.sql").tag("endpoint", ENDPOINT).timer().totalTime(TimeUnit.NANOSECONDS))
+                .isPositive();
+
+        LatencyEndpoint.EndpointLatency summary = latencyEndpoint.latency().stream()
+                .filter(e -> e.endpoint().equals(ENDPOINT))
+                .findFirst().orElseThrow();
+        assertThat(summary.count()).isEqualTo(5);
+        assertThat(summary.statementsMean()).isGreaterThanOrEqualTo(1);
+        assertThat(summary.connectionHeldMeanMs()).isPositive();
+        assertThat(summary.serializationMeanMs()).isPositive();
+        assertThat(summary.p99Ms()).isGreaterThanOrEqualTo(summary.p50Ms());
+    }
+}
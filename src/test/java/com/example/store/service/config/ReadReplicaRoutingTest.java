@@ -0,0 +1,105 @@
+package com.example.store.service.config;
+
+import com.example.store.service.service.StoreCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 복제본 라우팅 구성 검증 (replica도 같은 H2 DB를 가리키는 별도 풀).
+ * readOnly 조회는 replica, 같은 사용자의 쓰기 직후 조회는 primary로 가는지 라우팅 카운터로 확인한다.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:storeservice;MODE=Oracle;DB_CLOSE_DELAY=-1"})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private ReadYourWritesGuard guard;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @MockitoBean
+    private JwtDecoder jwtDecoder;
+
+    @Test
+    void readOnlyServiceCallsAreRoutedToReplicaUnlessUserJustWrote() throws Exception {
+        double replica = routed("replica");
+        mockMvc.perform(get("/api/reviews/stores/{storeId}", "NONE").param("size", "20"))
+                .andExpect(status().isOk());
+        assertThat(routed("replica")).isEqualTo(replica + 1);
+
+        guard.recordWrite("writer-1");
+        double fallback = routed("primary-fallback");
+        mockMvc.perform(get("/api/reviews/my").param("size", "20")
+                        .with(jwt().jwt(j -> j.subject("writer-1"))))
+                .andExpect(status().isOk());
+        assertThat(routed("primary-fallback")).isEqualTo(fallback + 1);
+    }
+
+    /**
+     * 공개 조회는 Bearer 토큰을 인증에 쓰지 않는다(PublicEndpointBearerTokenResolver).
+     * 그래도 방금 리뷰를 쓴 사용자가 같은 토큰으로 매장 리뷰 목록을 읽으면 primary에서 읽어야 한다.
+     */
+    @Test
+    void storeReviewListRightAfterPostingIsReadFromPrimary() throws Exception {
+        when(jwtDecoder.decode("writer-token")).thenReturn(Jwt.withTokenValue("writer-token")
+                .header("alg", "RS256").subject("writer-2").build());
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values ('RYW1', 'ryw', 1)");
+        catalog.refresh();
+        try {
+            mockMvc.perform(post("/api/reviews").header(HttpHeaders.AUTHORIZATION, "Bearer writer-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"storeId\":\"RYW1\",\"comment\":\"new\",\"score\":4}"))
+                    .andExpect(status().isOk());
+
+            double fallback = routed("primary-fallback");
+            mockMvc.perform(get("/api/reviews/stores/{storeId}", "RYW1")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer writer-token"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].comment").value("new"));
+            assertThat(routed("primary-fallback")).isEqualTo(fallback + 1);
+
+            double replica = routed("replica");
+            mockMvc.perform(get("/api/stores/{storeId}/reviews", "RYW1"))
+                    .andExpect(status().isOk());
+            assertThat(routed("replica")).isEqualTo(replica + 1);
+        } finally {
+            jdbcTemplate.update("delete from REVIEW where STORE_ID = 'RYW1'");
+            jdbcTemplate.update("delete from STORES where STORE_ID = 'RYW1'");
+            catalog.refresh();
+        }
+    }
+
+    private double routed(String target) {
+        return registry.get("store.db.route").tag("target", target).counter().count();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.store.service.config;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc 요청 1건이 실행한 SQL 문장 수 검사 (EndpointLatencyInterceptor가 남긴 요청 속성 기준).
+ * <pre>
+ * mockMvc.perform(get("/api/stores")).andExpect(StatementCount.atMost(2));
+ * </pre>
+ * 대상 경로는 WebConfig에서 인터셉터를 등록한 /api/stores, /api/reviews, /api/favorites 이다.
+ */
+public final class StatementCount {
+
+    private StatementCount() {
+    }
+
+    public static ResultMatcher atMost(int max) {
+        return result -> assertThat(of(result)).as("SQL 문장 수").isLessThanOrEqualTo(max);
+    }
+
+    public static ResultMatcher exactly(int count) {
+        return result -> assertThat(of(result)).as("SQL 문장 수").isEqualTo(count);
+    }
+
+    public static int of(MvcResult result) {
+        Object statements = result.getRequest().getAttribute(EndpointLatencyInterceptor.STATEMENTS_ATTRIBUTE);
+        assertThat(statements).as("SQL 문장 수가 기록되지 않았습니다(인터셉터 대상 경로인지 확인)").isNotNull();
+        return (Integer) statements;
+    }
+}
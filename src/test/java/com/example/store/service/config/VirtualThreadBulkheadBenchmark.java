@@ -0,0 +1,173 @@
+package com.example.store.service.config;
+
+import com.example.store.service.StoreServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 200) vs 가상 스레드 요청 처리 비교 (둘 다 DB 벌크헤드 = 풀 크기 20).
+ * - 느린 DB 요청: 커넥션을 잡고 SLOW_MILLIS 동안 붙잡는 @DbBulkhead 핸들러 (느린 쿼리 재현)
+ * - 동시 연결 CONNECTIONS개로 느린 요청을 한꺼번에 보내고, 그동안 /health 응답 시간을 따로 잰다.
+ * - 처리량 상한은 두 모드 모두 풀 크기 / SLOW_MILLIS다. 차이는 대기 요청이 무엇을 점유하느냐다:
+ *   플랫폼 모드는 Tomcat 작업 스레드(200)가 세마포어 대기에 묶이고 나머지 연결은 accept 큐에서 기다린다.
+ *   가상 스레드 모드는 5000개 요청이 모두 가상 스레드로 올라와 세마포어에서 park한다.
+ * - 1 vCPU에서 측정한 결과 (참고값, 코어 수에 따라 달라진다):
+ *     mode     | slow req/s | slow p50 | slow p99 | /health p50 | /health p99
+ *     platform |        104 |   40.7s  |   42.4s  |      69ms   |     599ms
+ *     virtual  |        157 |   24.4s  |   30.6s  |      78ms   |    4378ms
+ *   가상 스레드는 몰린 요청을 더 빨리 처리했지만 /health 꼬리 지연은 오히려 나빴다.
+ *   /health는 세마포어에서 기다리지 않아도 수천 개 가상 스레드와 같은 캐리어(코어)를 나눠 쓰기 때문이다.
+ *   즉 벌크헤드는 DB 대기를 세마포어로 옮길 뿐, 가상 스레드가 DB를 쓰지 않는 요청의 응답 시간을 보장하지는 않는다.
+ */
+@Tag("benchmark")
+class VirtualThreadBulkheadBenchmark {
+
+    private static final int CONNECTIONS = 5000;
+    private static final int SLOW_MILLIS = 20;
+    private static final int HEALTH_PROBES = 100;
+    private static final String SLOW_PATH = "/api/stores/bench/slow";
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n[request execution] %d concurrent slow requests (%dms DB hold, bulkhead 20)%n",
+                CONNECTIONS, SLOW_MILLIS);
+        System.out.println("  mode      | slow ok | slow req/s | slow p50 ms | slow p99 ms | /health p50 ms | /health p99 ms");
+        platform.print("platform");
+        virtual.print("virtual ");
+
+        assertThat(platform.ok).isEqualTo(CONNECTIONS);
+        assertThat(virtual.ok).isEqualTo(CONNECTIONS);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreServiceApplication.class, SlowController.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.accept-count=" + CONNECTIONS,
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + virtualThreads + ";MODE=Oracle;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=20",
+                        "spring.jpa.show-sql=false",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "app.bulkhead.enabled=true",
+                        "app.bulkhead.acquire-timeout=60s",
+                        "logging.level.root=WARN")
+                .run();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            // 워밍업
+            for (int i = 0; i < 50; i++) {
+                get(port, SLOW_PATH);
+                get(port, "/health");
+            }
+
+            long started = System.nanoTime();
+            List<Future<long[]>> slowCalls = new ArrayList<>(CONNECTIONS);
+            for (int i = 0; i < CONNECTIONS; i++) {
+                slowCalls.add(clients.submit(() -> timed(port, SLOW_PATH)));
+            }
+
+            long[] healthNanos = new long[HEALTH_PROBES];
+            Thread.sleep(200);
+            for (int i = 0; i < HEALTH_PROBES; i++) {
+                healthNanos[i] = timed(port, "/health")[1];
+                Thread.sleep(20);
+            }
+
+            int ok = 0;
+            long[] slowNanos = new long[CONNECTIONS];
+            for (int i = 0; i < CONNECTIONS; i++) {
+                long[] call = slowCalls.get(i).get();
+                if (call[0] == 200) ok++;
+                slowNanos[i] = call[1];
+            }
+            long elapsed = System.nanoTime() - started;
+            return new Result(ok, CONNECTIONS / (elapsed / 1e9), slowNanos, healthNanos);
+        }
+    }
+
+    /** {상태 코드, 응답 시간(ns)} */
+    private static long[] timed(int port, String path) throws IOException {
+        long sent = System.nanoTime();
+        int status = get(port, path);
+        return new long[]{status, System.nanoTime() - sent};
+    }
+
+    /** 연결 1개로 GET 1회(Connection: close) 후 상태 코드 반환. 클라이언트 비용을 최소화하려고 소켓을 직접 쓴다 */
+    private static int get(int port, String path) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(120_000);
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            byte[] response = in.readAllBytes();
+            String statusLine = new String(response, 0, Math.min(response.length, 12), StandardCharsets.US_ASCII);
+            return statusLine.startsWith("HTTP/1.1 ") ? Integer.parseInt(statusLine.substring(9, 12)) : -1;
+        }
+    }
+
+    private record Result(int ok, double throughput, long[] slowNanos, long[] healthNanos) {
+
+        void print(String mode) {
+            System.out.printf("  %s  | %7d | %10.0f | %11.1f | %11.1f | %14.1f | %14.1f%n", mode, ok, throughput,
+                    percentile(slowNanos, 0.50), percentile(slowNanos, 0.99),
+                    percentile(healthNanos, 0.50), percentile(healthNanos, 0.99));
+        }
+
+        private static double percentile(long[] nanos, double p) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+        }
+    }
+
+    /** 커넥션을 SLOW_MILLIS 동안 붙잡는 느린 DB 요청 */
+    @RestController
+    @DbBulkhead
+    static class SlowController {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        SlowController(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping(SLOW_PATH)
+        public String slow() {
+            return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+                try {
+                    Thread.sleep(SLOW_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "ok";
+            });
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.dto.CursorPage;
+import com.example.store.service.service.StoreCatalog;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커서 페이지(size 파라미터) 검증: 가게 목록(STORE_ID 순)과 리뷰 목록(최신순).
+ * - 시계를 12:00(서울)으로 고정한다. PG01/03/05는 영업 중, PG02/04/06은 영업 종료.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CursorPaginationTest {
+
+    private static final RequestPostProcessor USER = jwt().jwt(j -> j.subject("pg-user"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into CATEGORY (CATEGORY_CODE, CATEGORY_NAME) values (95, '페이지')");
+        for (int i = 1; i <= 6; i++) {
+            String open = i % 2 == 1 ? "09:00:00" : "13:00:00";
+            jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, CATEGORY_CODE, SEAT_NUM, OPEN_TIME, CLOSE_TIME) " +
+                    "values (?, ?, 95, 0, TIME '" + open + "', TIME '22:00:00')", "PG0" + i, "PG0" + i);
+        }
+        // PG01에 여러 사용자 리뷰(사이사이에 다른 가게 리뷰), pg-user는 여러 가게에 리뷰
+        insertReview(990001, "PG01", "pg-a");
+        insertReview(990002, "PG02", "pg-user");
+        insertReview(990003, "PG01", "pg-b");
+        insertReview(990004, "PG01", "pg-user");
+        insertReview(990005, "PG03", "pg-user");
+        insertReview(990006, "PG01", "pg-c");
+        catalog.refresh();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from REVIEW where STORE_ID like 'PG0%'");
+        jdbcTemplate.update("delete from STORES where STORE_ID like 'PG0%'");
+        jdbcTemplate.update("delete from CATEGORY where CATEGORY_CODE = 95");
+        catalog.refresh();
+    }
+
+    @Test
+    void storePagesWalkToTheEndAndLastPageHasNoCursor() throws Exception {
+        assertThat(walk(() -> get("/api/stores").param("categoryCode", "95"), 4, "storeId", null))
+                .containsExactly(List.of("PG01", "PG02", "PG03", "PG04"), List.of("PG05", "PG06"));
+        assertThat(walk(() -> get("/api/stores").param("categoryCode", "95"), 2, "storeId", null))
+                .containsExactly(List.of("PG01", "PG02"), List.of("PG03", "PG04"), List.of("PG05", "PG06"));
+    }
+
+    @Test
+    void filteredStorePagesDecideHasMoreFromTheFilteredScan() throws Exception {
+        // PG05 뒤에 PG06이 있지만 영업 종료라 다음 페이지가 없다
+        mockMvc.perform(get("/api/stores").param("categoryCode", "95").param("openNow", "true").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].storeId", contains("PG01", "PG03", "PG05")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+
+        assertThat(walk(() -> get("/api/stores").param("categoryCode", "95").param("openNow", "true"), 2, "storeId", null))
+                .containsExactly(List.of("PG01", "PG03"), List.of("PG05"));
+        assertThat(walk(() -> get("/api/stores").param("categoryCode", "95").param("openNow", "false"), 2, "storeId", null))
+                .containsExactly(List.of("PG02", "PG04"), List.of("PG06"));
+    }
+
+    @Test
+    void reviewPagesOfOneStoreAreNewestFirst() throws Exception {
+        assertThat(walk(() -> get("/api/reviews/stores/PG01"), 3, "reviewId", null))
+                .containsExactly(List.of("990006", "990004", "990003"), List.of("990001"));
+        assertThat(walk(() -> get("/api/reviews/stores/PG01"), 2, "reviewId", null))
+                .containsExactly(List.of("990006", "990004"), List.of("990003", "990001"));
+        assertThat(walk(() -> get("/api/reviews/my"), 2, "reviewId", USER))
+                .containsExactly(List.of("990005", "990004"), List.of("990002"));
+    }
+
+    @Test
+    void invalidCursorOrSizeIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/stores").param("size", "2").param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/reviews/stores/PG01").param("size", "2").param("cursor", "***"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/reviews/stores/PG01").param("size", "2").param("cursor", CursorPage.encodeCursor("abc")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/reviews/my").with(USER).param("size", "2").param("cursor", CursorPage.encodeCursor("abc")))
+                .andExpect(status().isBadRequest());
+
+        for (String size : new String[]{"0", "101"}) {
+            mockMvc.perform(get("/api/stores").param("size", size)).andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/reviews/stores/PG01").param("size", size)).andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/reviews/my").with(USER).param("size", size)).andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void withoutSizeTheListIsReturnedAsBefore() throws Exception {
+        mockMvc.perform(get("/api/stores").param("categoryCode", "95"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].storeId", contains("PG01", "PG02", "PG03", "PG04", "PG05", "PG06")));
+        mockMvc.perform(get("/api/reviews/stores/PG01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$.items").doesNotExist());
+    }
+
+    /** nextCursor가 null이 될 때까지 페이지를 따라가며 페이지별 key 목록을 모은다 */
+    private List<List<String>> walk(Supplier<MockHttpServletRequestBuilder> request, int size, String key,
+                                    RequestPostProcessor user) throws Exception {
+        List<List<String>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder page = request.get().param("size", String.valueOf(size));
+            if (cursor != null) page = page.param("cursor", cursor);
+            if (user != null) page = page.with(user);
+            String body = mockMvc.perform(page)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<Object> keys = JsonPath.read(body, "$.items[*]." + key);
+            assertThat(keys).hasSizeBetween(1, size);
+            pages.add(keys.stream().map(String::valueOf).toList());
+            cursor = JsonPath.read(body, "$.nextCursor");
+            assertThat(pages).hasSizeLessThan(10);
+        } while (cursor != null);
+        return pages;
+    }
+
+    private void insertReview(long id, String storeId, String userId) {
+        jdbcTemplate.update("insert into REVIEW (REVIEW_ID, STORE_ID, USER_ID, COMENT, SCORE) values (?, ?, ?, 'ok', 4)",
+                id, storeId, userId);
+    }
+
+    @TestConfiguration
+    static class ClockConfig {
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(ZonedDateTime.of(2026, 10, 18, 12, 0, 0, 0, ZoneId.of("Asia/Seoul")).toInstant(),
+                    ZoneId.of("Asia/Seoul"));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.service.StoreCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 즐겨찾기 일괄 추가(POST /api/favorites/bulk)에 캐시에 없던 중복이 섞인 경우 검증.
+ * - 배치 트랜잭션이 실제로 커밋/실패해야 하므로 테스트 트랜잭션 없이 직접 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class FavoriteBulkAddTest {
+
+    private static final RequestPostProcessor USER = jwt().jwt(j -> j.subject("bulk-user"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @BeforeEach
+    void seed() {
+        for (String storeId : new String[]{"FB01", "FB02", "FB03"}) {
+            jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values (?, ?, 0)", storeId, storeId);
+        }
+        catalog.refresh();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from FAV_STORE where USER_ID = 'bulk-user'");
+        jdbcTemplate.update("delete from STORES where STORE_ID like 'FB%'");
+        catalog.refresh();
+    }
+
+    @Test
+    void partialDuplicateBatchSkipsExistingRowsAndAddsTheRest() throws Exception {
+        // 사용자 즐겨찾기 캐시를 비어 있는 상태로 적재한 뒤, 캐시를 거치지 않고 한 건을 넣는다(다른 인스턴스의 추가)
+        mockMvc.perform(post("/api/favorites/status").with(USER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeIds\":[\"FB02\"]}"))
+                .andExpect(jsonPath("$.FB02").value(false));
+        jdbcTemplate.update("insert into FAV_STORE (FAV_STORE_ID, STORE_ID, USER_ID) values (-1, 'FB02', 'bulk-user')");
+
+        mockMvc.perform(post("/api/favorites/bulk").with(USER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeIds\":[\"FB01\",\"FB02\",\"FB03\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].storeId", containsInAnyOrder("FB01", "FB03")));
+
+        assertThat(jdbcTemplate.queryForList(
+                "select STORE_ID from FAV_STORE where USER_ID = 'bulk-user' order by STORE_ID", String.class))
+                .containsExactly("FB01", "FB02", "FB03");
+        mockMvc.perform(post("/api/favorites/status").with(USER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeIds\":[\"FB01\",\"FB02\",\"FB03\"]}"))
+                .andExpect(jsonPath("$.FB01").value(true))
+                .andExpect(jsonPath("$.FB02").value(true))
+                .andExpect(jsonPath("$.FB03").value(true));
+    }
+}
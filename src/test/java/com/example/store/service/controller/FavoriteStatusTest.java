@@ -0,0 +1,74 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.service.StoreCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 즐겨찾기 여부 일괄 조회(POST /api/favorites/status)와 목록 includeFavorite 검증.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class FavoriteStatusTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @BeforeEach
+    void seed() {
+        for (String storeId : new String[]{"F001", "F002", "F003"}) {
+            jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values (?, ?, 0)", storeId, storeId);
+        }
+        jdbcTemplate.update("insert into FAV_STORE (FAV_STORE_ID, STORE_ID, USER_ID) values (1, 'F002', 'user-1')");
+        catalog.refresh();
+    }
+
+    @Test
+    void batchStatusReturnsOneEntryPerRequestedStore() throws Exception {
+        mockMvc.perform(post("/api/favorites/status")
+                        .with(jwt().jwt(j -> j.subject("user-1")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeIds\":[\"F001\",\"F002\",\"F002\",\"NONE\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.F001").value(false))
+                .andExpect(jsonPath("$.F002").value(true))
+                .andExpect(jsonPath("$.NONE").value(false))
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    void includeFavoriteMarksStoresAndMakesResponsePrivate() throws Exception {
+        mockMvc.perform(get("/api/stores").param("includeFavorite", "true")
+                        .with(jwt().jwt(j -> j.subject("user-1"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("private")))
+                .andExpect(jsonPath("$[?(@.storeId == 'F001')].favorite").value(false))
+                .andExpect(jsonPath("$[?(@.storeId == 'F002')].favorite").value(true));
+
+        mockMvc.perform(get("/api/stores"))
+                .andExpect(header().string("Cache-Control", containsString("public")))
+                .andExpect(jsonPath("$[0].favorite").doesNotExist());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.store.service.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 리뷰 write-behind 모드(POST /api/reviews → 202 + 접수 번호) 검증.
+ * - 저장은 별도 쓰기 스레드에서 커밋되므로 트랜잭션 롤백 대신 직접 정리한다.
+ */
+@SpringBootTest(properties = {
+        "app.review.write-behind.enabled=true",
+        // 벌크헤드 허용 0개: DB를 쓰지 않는 접수/상태 조회는 벌크헤드를 거치지 않아야 한다
+        "app.bulkhead.enabled=true",
+        "app.bulkhead.max-concurrent=0",
+        "app.bulkhead.acquire-timeout=10ms"})
+@AutoConfigureMockMvc
+class ReviewWriteBehindTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values ('WB1', 'a', 1)");
+        jdbcTemplate.update("insert into REVIEW (REVIEW_ID, STORE_ID, USER_ID, COMENT, SCORE) values (900001, 'WB1', 'wb-dup', 'old', 3)");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from REVIEW where STORE_ID = 'WB1'");
+        jdbcTemplate.update("delete from STORES where STORE_ID = 'WB1'");
+    }
+
+    @Test
+    void acceptedReviewIsWrittenByTheBackgroundWriter() throws Exception {
+        String ticketId = submit("wb-new", 4);
+
+        String body = awaitFinished("wb-new", ticketId);
+        assertThat((String) JsonPath.read(body, "$.status")).isEqualTo("COMPLETED");
+        Number reviewId = JsonPath.read(body, "$.reviewId");
+        assertThat(jdbcTemplate.queryForObject("select SCORE from REVIEW where REVIEW_ID = ?", Integer.class, reviewId.longValue()))
+                .isEqualTo(4);
+
+        // 다른 사용자는 남의 접수를 볼 수 없다
+        mockMvc.perform(get("/api/reviews/submissions/{ticketId}", ticketId).with(user("someone-else")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void duplicateDetectedByUniqueConstraintIsRejected() throws Exception {
+        String ticketId = submit("wb-dup", 5);
+
+        String body = awaitFinished("wb-dup", ticketId);
+        assertThat((String) JsonPath.read(body, "$.status")).isEqualTo("REJECTED");
+        assertThat((String) JsonPath.read(body, "$.message")).isEqualTo("이미 작성한 리뷰입니다.");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from REVIEW where STORE_ID = 'WB1' and USER_ID = 'wb-dup'", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void otherConstraintViolationsAreNotReportedAsDuplicates() throws Exception {
+        // USER_ID는 50자 제한: 유니크 제약이 아닌 위반
+        String longUserId = "wb-" + "x".repeat(60);
+        String ticketId = submit(longUserId, 5);
+
+        String body = awaitFinished(longUserId, ticketId);
+        assertThat((String) JsonPath.read(body, "$.status")).isEqualTo("REJECTED");
+        assertThat((String) JsonPath.read(body, "$.message")).isNotEqualTo("이미 작성한 리뷰입니다.");
+    }
+
+    @Test
+    void enqueueAndStatusBypassTheDbBulkhead() throws Exception {
+        mockMvc.perform(get("/api/reviews/my").with(user("wb-new")))
+                .andExpect(status().isServiceUnavailable());
+
+        String ticketId = submit("wb-new", 2);
+        awaitFinished("wb-new", ticketId);
+    }
+
+    @Test
+    void ticketNoLongerKeptIsUnknownNotNotFound() throws Exception {
+        // 보관 기간/개수 한도로 빠진 접수는 실패(404)로 읽히지 않게 UNKNOWN으로 응답한다
+        mockMvc.perform(get("/api/reviews/submissions/{ticketId}", "evicted-ticket").with(user("wb-new")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticketId").value("evicted-ticket"))
+                .andExpect(jsonPath("$.status").value("UNKNOWN"))
+                .andExpect(jsonPath("$.reviewId").doesNotExist());
+    }
+
+    @Test
+    void unknownStoreIsRejectedBeforeQueueing() throws Exception {
+        mockMvc.perform(post("/api/reviews").with(user("wb-new"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeId\":\"WB404\",\"score\":3}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String submit(String userId, int score) throws Exception {
+        String body = mockMvc.perform(post("/api/reviews").with(user(userId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeId\":\"WB1\",\"comment\":\"good\",\"score\":" + score + "}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.ticketId");
+    }
+
+    private String awaitFinished(String userId, String ticketId) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            String body = mockMvc.perform(get("/api/reviews/submissions/{ticketId}", ticketId).with(user(userId)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            if (!"PENDING".equals(JsonPath.read(body, "$.status"))) return body;
+            Thread.sleep(50);
+        }
+        throw new AssertionError("리뷰 접수가 끝나지 않았습니다: " + ticketId);
+    }
+
+    private static RequestPostProcessor user(String userId) {
+        return jwt().jwt(j -> j.subject(userId));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.config.StatementCount;
+import com.example.store.service.service.StoreCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청당 SQL 문장 수가 데이터 양과 무관하게 예산 안에 있는지, 예산 초과가 메트릭으로 남는지 검증한다.
+ */
+@SpringBootTest(properties = "app.statement-budget.endpoints.ReviewController.getStoreReviews=0")
+@AutoConfigureMockMvc
+@Transactional
+class StatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void storeListStaysWithinTwoStatementsRegardlessOfStoreCount() throws Exception {
+        seedStores(0, 3);
+        mockMvc.perform(get("/api/stores").param("includeFavorite", "true").with(jwt().jwt(j -> j.subject("budget-1"))))
+                .andExpect(status().isOk())
+                .andExpect(StatementCount.atMost(2));
+
+        seedStores(3, 40);
+        mockMvc.perform(get("/api/stores").param("includeFavorite", "true").with(jwt().jwt(j -> j.subject("budget-2"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(40))
+                .andExpect(StatementCount.atMost(2));
+    }
+
+    @Test
+    void myFavoritesIsOneStatementRegardlessOfFavoriteCount() throws Exception {
+        seedStores(0, 10);
+        jdbcTemplate.update("insert into FAV_STORE (FAV_STORE_ID, STORE_ID, USER_ID) values (1, 'B000', 'budget-3')");
+        mockMvc.perform(get("/api/favorites/me").with(jwt().jwt(j -> j.subject("budget-3"))))
+                .andExpect(jsonPath("$[0].storeName").value("budget 0"))
+                .andExpect(StatementCount.exactly(1));
+
+        for (int i = 1; i < 10; i++) {
+            jdbcTemplate.update("insert into FAV_STORE (FAV_STORE_ID, STORE_ID, USER_ID) values (?, ?, 'budget-3')",
+                    i + 1, String.format("B%03d", i));
+        }
+        mockMvc.perform(get("/api/favorites/me").with(jwt().jwt(j -> j.subject("budget-3"))))
+                .andExpect(jsonPath("$.length()").value(10))
+                .andExpect(StatementCount.exactly(1));
+    }
+
+    @Test
+    void exceedingBudgetIsCounted() throws Exception {
+        seedStores(0, 1);
+        double before = exceeded("ReviewController.getStoreReviews");
+
+        mockMvc.perform(get("/api/reviews/stores/{storeId}", "B000"))
+                .andExpect(status().isOk())
+                .andExpect(StatementCount.atMost(1));
+
+        assertThat(exceeded("ReviewController.getStoreReviews")).isEqualTo(before + 1);
+    }
+
+    private double exceeded(String endpoint) {
+        var counter = registry.find("store.api.db.statement.budget.exceeded").tag("endpoint", endpoint).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private void seedStores(int from, int to) {
+        for (int i = from; i < to; i++) {
+            jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values (?, ?, 0)",
+                    String.format("B%03d", i), "budget " + i);
+        }
+        catalog.refresh();
+    }
+}
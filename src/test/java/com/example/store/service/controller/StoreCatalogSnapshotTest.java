@@ -0,0 +1,108 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.config.StatementCount;
+import com.example.store.service.service.StoreCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카탈로그 조회(목록/상세/카테고리 그룹/위치)는 메모리 스냅샷에서 SQL 없이 응답하고,
+ * DB 변경은 refresh()로 새 스냅샷이 교체된 뒤에 보인다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StoreCatalogSnapshotTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into CATEGORY (CATEGORY_CODE, CATEGORY_NAME) values (96, '스냅샷')");
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, CATEGORY_CODE, SEAT_NUM) values ('SNP1', '처음', 96, 8)");
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, CATEGORY_CODE, SEAT_NUM) values ('SNP2', '둘째', 96, 2)");
+        jdbcTemplate.update("insert into STORES_LOCATION (STORE_ID, STORE_LOCATION, LONGITUDE, LATITUDE) " +
+                "values ('SNP1', '서울 중구', '126.97', '37.56')");
+        catalog.refresh();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from STORES_LOCATION where STORE_ID like 'SNP%'");
+        jdbcTemplate.update("delete from STORES where STORE_ID like 'SNP%'");
+        jdbcTemplate.update("delete from CATEGORY where CATEGORY_CODE = 96");
+        catalog.refresh();
+    }
+
+    @Test
+    void catalogReadsCostNoSql() throws Exception {
+        mockMvc.perform(get("/api/stores").param("categoryCode", "96"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].storeId", contains("SNP1", "SNP2")))
+                .andExpect(jsonPath("$[0].latitude").value("37.56"))
+                .andExpect(StatementCount.exactly(0));
+        mockMvc.perform(get("/api/stores/SNP1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.storeName").value("처음"))
+                .andExpect(jsonPath("$.storeLocation").value("서울 중구"))
+                .andExpect(StatementCount.exactly(0));
+        mockMvc.perform(get("/api/stores/group-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['스냅샷'][*].storeId", contains("SNP1", "SNP2")))
+                .andExpect(StatementCount.exactly(0));
+        mockMvc.perform(get("/api/stores/SNP1/location"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.latitude").value("37.56"))
+                .andExpect(jsonPath("$.longitude").value("126.97"))
+                .andExpect(StatementCount.exactly(0));
+    }
+
+    @Test
+    void unknownStoreOrMissingLocationIsBadRequestWithoutSql() throws Exception {
+        mockMvc.perform(get("/api/stores/NOPE"))
+                .andExpect(status().isBadRequest())
+                .andExpect(StatementCount.exactly(0));
+        mockMvc.perform(get("/api/stores/SNP2/location"))
+                .andExpect(status().isBadRequest())
+                .andExpect(StatementCount.exactly(0));
+    }
+
+    @Test
+    void databaseChangesAppearOnlyAfterSnapshotSwap() throws Exception {
+        jdbcTemplate.update("update STORES set STORE_NAME = '바뀜' where STORE_ID = 'SNP1'");
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, CATEGORY_CODE, SEAT_NUM) values ('SNP3', '셋째', 96, 1)");
+
+        mockMvc.perform(get("/api/stores/SNP1"))
+                .andExpect(jsonPath("$.storeName").value("처음"));
+        mockMvc.perform(get("/api/stores").param("categoryCode", "96"))
+                .andExpect(jsonPath("$[*].storeId", contains("SNP1", "SNP2")));
+
+        catalog.refresh();
+
+        mockMvc.perform(get("/api/stores/SNP1"))
+                .andExpect(jsonPath("$.storeName").value("바뀜"))
+                .andExpect(StatementCount.exactly(0));
+        mockMvc.perform(get("/api/stores").param("categoryCode", "96"))
+                .andExpect(jsonPath("$[*].storeId", contains("SNP1", "SNP2", "SNP3")))
+                .andExpect(StatementCount.exactly(0));
+        mockMvc.perform(get("/api/stores/group-by-category"))
+                .andExpect(jsonPath("$['스냅샷'][*].storeId", contains("SNP1", "SNP2", "SNP3")));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.service.StoreCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * closingWithinMinutes 목록은 분 단위로 바뀌므로 검증자/공용 캐시 없이(no-store) 응답해야 한다.
+ * - 시계를 창 경계(종료 31분 전 → 30분 전) 너머로 옮기면 같은 요청의 결과가 바로 바뀌는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StoreClosingSoonCacheTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @Autowired
+    private MutableClock clock;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM, OPEN_TIME, CLOSE_TIME) " +
+                "values ('CLS1', 'closing', 1, TIME '09:00:00', TIME '22:00:00')");
+        catalog.refresh();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from STORES where STORE_ID = 'CLS1'");
+        catalog.refresh();
+    }
+
+    @Test
+    void closingWindowIsNotCachedAndFollowsTheClock() throws Exception {
+        clock.set(ZonedDateTime.of(2026, 10, 18, 21, 29, 30, 0, SEOUL));
+        mockMvc.perform(get("/api/stores").param("closingWithinMinutes", "30"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$[?(@.storeId == 'CLS1')]", empty()));
+
+        clock.set(ZonedDateTime.of(2026, 10, 18, 21, 30, 0, 0, SEOUL));
+        mockMvc.perform(get("/api/stores").param("closingWithinMinutes", "30")
+                        .header("If-None-Match", "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$[?(@.storeId == 'CLS1')]", hasSize(1)));
+    }
+
+    @Test
+    void plainListStillCarriesValidatorAcrossTheSameMinutes() throws Exception {
+        clock.set(ZonedDateTime.of(2026, 10, 18, 21, 29, 30, 0, SEOUL));
+        String before = mockMvc.perform(get("/api/stores"))
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        clock.set(ZonedDateTime.of(2026, 10, 18, 21, 30, 0, 0, SEOUL));
+        mockMvc.perform(get("/api/stores").header("If-None-Match", before))
+                .andExpect(status().isNotModified());
+    }
+
+    /** 테스트에서 옮길 수 있는 시계 */
+    static class MutableClock extends Clock {
+
+        private volatile Instant instant = Instant.now();
+
+        void set(ZonedDateTime time) {
+            instant = time.toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SEOUL;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @TestConfiguration
+    static class ClockConfig {
+
+        @Bean
+        MutableClock clock() {
+            return new MutableClock();
+        }
+    }
+}
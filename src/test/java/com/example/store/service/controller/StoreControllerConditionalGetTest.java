@@ -0,0 +1,85 @@
+package com.example.store.service.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카탈로그 응답의 ETag/Cache-Control 및 If-None-Match → 304 동작 검증.
+ * 미리 직렬화·gzip한 본문(StoreCatalogPayloadCache) 응답 검증 포함.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StoreControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void repeatedListRequestWithEtagReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/stores"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", containsString("max-age=")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/stores").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void etagDiffersPerVariant() throws Exception {
+        String all = mockMvc.perform(get("/api/stores")).andReturn().getResponse().getHeader("ETag");
+        String byCategory = mockMvc.perform(get("/api/stores").param("categoryCode", "1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertThat(all).isNotEqualTo(byCategory);
+        mockMvc.perform(get("/api/stores").param("categoryCode", "1").header("If-None-Match", all))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void gzipClientsGetPrecompressedBodyWithItsOwnEtag() throws Exception {
+        var plain = mockMvc.perform(get("/api/stores/group-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andReturn().getResponse();
+        var gzipped = mockMvc.perform(get("/api/stores/group-by-category").header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Content-Type", containsString("application/json")))
+                .andReturn().getResponse();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getContentAsByteArray());
+        }
+        String gzipEtag = gzipped.getHeader("ETag");
+        assertThat(gzipEtag).isNotEqualTo(plain.getHeader("ETag")).endsWith("-gzip\"");
+        mockMvc.perform(get("/api/stores/group-by-category").header("Accept-Encoding", "gzip").header("If-None-Match", gzipEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void acceptEncodingHonoursZeroQuality() {
+        assertThat(StoreController.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(StoreController.acceptsGzip("*")).isTrue();
+        assertThat(StoreController.acceptsGzip("gzip;q=0, deflate")).isFalse();
+        assertThat(StoreController.acceptsGzip("identity")).isFalse();
+        assertThat(StoreController.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.service.StoreExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 매장 NDJSON 내보내기(GET /api/stores/export) 검증: 권한, 행 수/형식, 동시 실행 제한.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StoreExportTest {
+
+    private static final RequestPostProcessor PARTNER =
+            jwt().jwt(j -> j.subject("partner-1").claim("cognito:groups", List.of("partner")));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into CATEGORY (CATEGORY_CODE, CATEGORY_NAME) values (93, '분식')");
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, CATEGORY_CODE, SEAT_NUM, OPEN_TIME, CLOSE_TIME, IMAGE_URL) " +
+                "values ('EXP1', '첫째', 93, 12, TIME '09:00:00', TIME '21:30:00', 'img/e1.png')");
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values ('EXP2', '둘째', 4)");
+        jdbcTemplate.update("insert into STORES_LOCATION (STORE_ID, STORE_LOCATION, LONGITUDE, LATITUDE) " +
+                "values ('EXP1', '서울 종로구', '126.98', '37.57')");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from STORES_LOCATION where STORE_ID like 'EXP%'");
+        jdbcTemplate.update("delete from STORES where STORE_ID like 'EXP%'");
+        jdbcTemplate.update("delete from CATEGORY where CATEGORY_CODE = 93");
+    }
+
+    @Test
+    void streamsOneJsonObjectPerStore() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/stores/export").with(PARTNER))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("\n");
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertThat(rows).hasSize(jdbcTemplate.queryForObject("select count(*) from STORES", Integer.class));
+        assertThat(rows).extracting(r -> r.get("storeId").asText()).isSorted();
+
+        JsonNode first = rows.stream().filter(r -> r.get("storeId").asText().equals("EXP1")).findFirst().orElseThrow();
+        assertThat(first.get("storeName").asText()).isEqualTo("첫째");
+        assertThat(first.get("categoryCode").asInt()).isEqualTo(93);
+        assertThat(first.get("categoryName").asText()).isEqualTo("분식");
+        assertThat(first.get("storeLocation").asText()).isEqualTo("서울 종로구");
+        assertThat(first.get("seatNum").asInt()).isEqualTo(12);
+        assertThat(first.get("openTime").asText()).startsWith("09:00");
+        assertThat(first.get("closeTime").asText()).startsWith("21:30");
+        assertThat(first.get("latitude").asText()).isEqualTo("37.57");
+
+        JsonNode second = rows.stream().filter(r -> r.get("storeId").asText().equals("EXP2")).findFirst().orElseThrow();
+        assertThat(second.get("categoryCode").isNull()).isTrue();
+        assertThat(second.get("storeLocation").isNull()).isTrue();
+        assertThat(second.get("openTime").isNull()).isTrue();
+    }
+
+    @Test
+    void requiresAdminOrPartnerGroup() throws Exception {
+        mockMvc.perform(get("/api/stores/export"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/stores/export").with(jwt().jwt(j -> j.subject("user-1"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void rejectsExportsBeyondConcurrencyLimit() throws Exception {
+        List<StoreExportService.Export> running = new ArrayList<>();
+        try {
+            while (running.size() < 16) {
+                running.add(exportService.open());
+            }
+        } catch (RuntimeException full) {
+            // 상한까지 허가를 모두 잡았다
+        }
+        try {
+            mockMvc.perform(get("/api/stores/export").with(PARTNER))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists("Retry-After"));
+        } finally {
+            running.forEach(StoreExportService.Export::close);
+        }
+        exportService.open().close();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.store.service.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 매장 이미지 프록시(GET /api/stores/{storeId}/image) 검증. 원본은 로컬 디렉터리 소스에서 읽는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StoreImageProxyTest {
+
+    private static final Path ORIGINALS = tempDir("store-image-originals");
+    private static final Path CACHE = tempDir("store-image-cache");
+
+    @DynamicPropertySource
+    static void imageProxy(DynamicPropertyRegistry registry) {
+        registry.add("app.image-proxy.source", () -> "filesystem");
+        registry.add("app.image-proxy.filesystem.root", ORIGINALS::toString);
+        registry.add("app.image-proxy.cache-dir", CACHE::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() throws IOException {
+        Files.createDirectories(ORIGINALS.resolve("img"));
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "png", ORIGINALS.resolve("img/IMG1.png").toFile());
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM, IMAGE_URL) values ('IMG1', 'a', 1, 'img/IMG1.png')");
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM, IMAGE_URL) values ('IMG2', 'b', 1, 'https://cdn.example.com/b.png')");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from STORES where STORE_ID like 'IMG%'");
+    }
+
+    @Test
+    void resizedDerivativeIsCachedOnDiskAndReused() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(get("/api/stores/IMG1/image").param("w", "300"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "image/jpeg"))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andReturn().getResponse();
+        BufferedImage derivative = ImageIO.read(new ByteArrayInputStream(first.getContentAsByteArray()));
+        assertThat(derivative.getWidth()).isEqualTo(320);
+        assertThat(derivative.getHeight()).isEqualTo(160);
+
+        // 원본이 없어져도 캐시된 파생본으로 응답한다
+        Files.delete(ORIGINALS.resolve("img/IMG1.png"));
+        MockHttpServletResponse second = mockMvc.perform(get("/api/stores/IMG1/image").param("w", "320"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(second.getHeader("ETag")).isEqualTo(first.getHeader("ETag"));
+        try (var files = Files.list(CACHE)) {
+            assertThat(files.map(p -> p.getFileName().toString())).anyMatch(name -> name.endsWith("-w320.jpg"));
+        }
+    }
+
+    @Test
+    void rangeAndConditionalRequests() throws Exception {
+        MockHttpServletResponse full = mockMvc.perform(get("/api/stores/IMG1/image").param("w", "160"))
+                .andReturn().getResponse();
+        byte[] body = full.getContentAsByteArray();
+        String etag = full.getHeader("ETag");
+
+        MockHttpServletResponse partial = mockMvc.perform(get("/api/stores/IMG1/image").param("w", "160")
+                        .header("Range", "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 10-19/" + body.length))
+                .andReturn().getResponse();
+        assertThat(partial.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(body, 10, 20));
+
+        mockMvc.perform(get("/api/stores/IMG1/image").param("w", "160").header("Range", "bytes=" + body.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */" + body.length));
+        mockMvc.perform(get("/api/stores/IMG1/image").param("w", "160").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/stores/IMG1/image").param("w", "160")
+                        .header("Range", "bytes=0-9").header("If-Range", "\"stale\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void externalImagesRedirectAndUnknownStoresAreNotFound() throws Exception {
+        mockMvc.perform(get("/api/stores/IMG2/image"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", "https://cdn.example.com/b.png"));
+        mockMvc.perform(get("/api/stores/IMG9/image"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static Path tempDir(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
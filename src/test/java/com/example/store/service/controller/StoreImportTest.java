@@ -0,0 +1,112 @@
+package com.example.store.service.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 매장 일괄 가져오기(POST /api/admin/stores/import) 검증.
+ * - 가져오기는 별도 스레드에서 청크마다 커밋하므로 트랜잭션 롤백 대신 직접 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StoreImportTest {
+
+    private static final RequestPostProcessor ADMIN =
+            jwt().jwt(j -> j.subject("admin-1").claim("cognito:groups", List.of("admin")));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into CATEGORY (CATEGORY_CODE, CATEGORY_NAME) values (91, '한식')");
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM, IMAGE_URL) values ('IMP1', 'old', 1, 'img/1.png')");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from STORES_LOCATION where STORE_ID like 'IMP%'");
+        jdbcTemplate.update("delete from STORES where STORE_ID like 'IMP%'");
+        jdbcTemplate.update("delete from CATEGORY where CATEGORY_CODE = 91");
+    }
+
+    @Test
+    void csvRowsAreUpsertedAndInvalidRowsReported() throws Exception {
+        String csv = """
+                storeId,storeName,categoryCode,categoryName,storeLocation,seatNum,openTime,closeTime,longitude,latitude
+                IMP1,새 이름,91,,서울 중구,20,09:00,21:00,126.97,37.56
+                IMP2,둘째,,한식,,8,,,,
+                IMP3,셋째,,없는분류,,8,,,,
+                IMP4,넷째,91,,,5,09:00,,,
+                """;
+        String body = mockMvc.perform(multipart("/api/admin/stores/import")
+                        .file(new MockMultipartFile("file", "stores.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)))
+                        .with(ADMIN))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        String jobId = JsonPath.read(body, "$.jobId");
+
+        awaitFinished(jobId);
+        mockMvc.perform(get("/api/admin/stores/import/{jobId}", jobId).with(ADMIN))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.importedRows").value(2))
+                .andExpect(jsonPath("$.failedRows").value(2))
+                .andExpect(jsonPath("$.errors[0].row").value(3))
+                .andExpect(jsonPath("$.errors[0].storeId").value("IMP3"))
+                .andExpect(jsonPath("$.errors[1].row").value(4));
+
+        Map<String, Object> updated = jdbcTemplate.queryForMap(
+                "select s.STORE_NAME, s.CATEGORY_CODE, s.SEAT_NUM, s.IMAGE_URL, l.STORE_LOCATION, l.LATITUDE " +
+                "from STORES s join STORES_LOCATION l on l.STORE_ID = s.STORE_ID where s.STORE_ID = 'IMP1'");
+        assertThat(updated).containsEntry("STORE_NAME", "새 이름")
+                .containsEntry("SEAT_NUM", 20)
+                .containsEntry("IMAGE_URL", "img/1.png")
+                .containsEntry("STORE_LOCATION", "서울 중구")
+                .containsEntry("LATITUDE", "37.56");
+        assertThat(jdbcTemplate.queryForObject("select CATEGORY_CODE from STORES where STORE_ID = 'IMP2'", Integer.class))
+                .isEqualTo(91);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from STORES where STORE_ID in ('IMP3', 'IMP4')", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void nonAdminIsForbidden() throws Exception {
+        mockMvc.perform(multipart("/api/admin/stores/import")
+                        .file(new MockMultipartFile("file", "stores.ndjson", "application/x-ndjson", "{}".getBytes()))
+                        .with(jwt().jwt(j -> j.subject("user-1"))))
+                .andExpect(status().isForbidden());
+    }
+
+    private void awaitFinished(String jobId) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            String status = JsonPath.read(mockMvc.perform(get("/api/admin/stores/import/{jobId}", jobId).with(ADMIN))
+                    .andReturn().getResponse().getContentAsString(), "$.status");
+            if ("COMPLETED".equals(status) || "FAILED".equals(status)) return;
+            Thread.sleep(100);
+        }
+        throw new AssertionError("가져오기 작업이 끝나지 않았습니다: " + jobId);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.store.service.controller;
+
+import com.example.store.service.config.StatementCount;
+import com.example.store.service.service.StoreCatalog;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 리뷰/즐겨찾기 쓰기 경로 검증.
+ * - 같은 사용자의 동시 중복 제출: 사전 조회 없이 유니크 제약으로 판별하므로 정확히 1건만 성공(나머지 400), 행도 1개
+ * - 수정/삭제는 문장 1개, 실패했을 때만 원인 구분용 조회가 추가된다(남의 리뷰 403, 없는 리뷰 404)
+ * - 동시 요청은 각자 커밋해야 하므로 트랜잭션 롤백 대신 직접 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WritePathConcurrencyTest {
+
+    private static final int CONCURRENT = 8;
+    private static final RequestPostProcessor WRITER = jwt().jwt(j -> j.subject("race-1"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values ('RACE1', 'race', 1)");
+        catalog.refresh();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from REVIEW where STORE_ID = 'RACE1'");
+        jdbcTemplate.update("delete from FAV_STORE where STORE_ID = 'RACE1'");
+        jdbcTemplate.update("delete from STORES where STORE_ID = 'RACE1'");
+        catalog.refresh();
+    }
+
+    @Test
+    void concurrentDuplicateReviewsCreateExactlyOne() throws Exception {
+        List<Integer> statuses = race(() -> post("/api/reviews").with(WRITER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"storeId\":\"RACE1\",\"comment\":\"c\",\"score\":4}"));
+
+        assertThat(statuses).containsOnly(200, 400);
+        assertThat(statuses).filteredOn(s -> s == 200).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from REVIEW where STORE_ID = 'RACE1' and USER_ID = 'race-1'", Integer.class)).isOne();
+    }
+
+    @Test
+    void concurrentDuplicateFavoritesCreateExactlyOne() throws Exception {
+        List<Integer> statuses = race(() -> post("/api/favorites").param("storeId", "RACE1").with(WRITER));
+
+        assertThat(statuses).containsOnly(200, 400);
+        assertThat(statuses).filteredOn(s -> s == 200).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from FAV_STORE where STORE_ID = 'RACE1' and USER_ID = 'race-1'", Integer.class)).isOne();
+    }
+
+    @Test
+    void updateAndDeleteAreSingleStatements() throws Exception {
+        String body = mockMvc.perform(post("/api/reviews").with(WRITER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeId\":\"RACE1\",\"comment\":\"c\",\"score\":2}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Number reviewId = JsonPath.read(body, "$.reviewId");
+
+        mockMvc.perform(put("/api/reviews/{id}", reviewId).with(WRITER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"comment\":\"u\",\"score\":5}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.storeId").value("RACE1"))
+                .andExpect(jsonPath("$.comment").value("u"))
+                .andExpect(jsonPath("$.score").value(5))
+                .andExpect(StatementCount.exactly(1));
+        assertThat(jdbcTemplate.queryForObject(
+                "select SCORE from REVIEW where REVIEW_ID = ?", Integer.class, reviewId.longValue())).isEqualTo(5);
+
+        mockMvc.perform(put("/api/reviews/{id}", reviewId).with(jwt().jwt(j -> j.subject("race-2")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"comment\":\"x\",\"score\":1}"))
+                .andExpect(status().isForbidden())
+                .andExpect(StatementCount.exactly(2));
+        mockMvc.perform(delete("/api/reviews/{id}", reviewId).with(WRITER))
+                .andExpect(status().isOk())
+                .andExpect(StatementCount.exactly(1));
+        mockMvc.perform(delete("/api/reviews/{id}", reviewId).with(WRITER))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/favorites").param("storeId", "RACE1").with(WRITER))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/favorites").param("storeId", "RACE1").with(WRITER))
+                .andExpect(status().isOk())
+                .andExpect(StatementCount.exactly(1));
+    }
+
+    /** 같은 요청을 CONCURRENT개 스레드에서 동시에 출발시켜 상태 코드 목록 반환 */
+    private List<Integer> race(Supplier<RequestBuilder> request) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENT);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> calls = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT; i++) {
+                RequestBuilder builder = request.get();
+                calls.add(pool.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(builder).andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> call : calls) {
+                statuses.add(call.get());
+            }
+            return statuses;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
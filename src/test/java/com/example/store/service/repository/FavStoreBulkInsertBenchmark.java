@@ -0,0 +1,126 @@
+package com.example.store.service.repository;
+
+import com.example.store.service.entity.FavStore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FAV_STORE 대량 INSERT: 행마다 NEXTVAL + 단건 INSERT(변경 전) vs pooled 시퀀스 + JDBC 배치(변경 후).
+ * - 변경 전/후 SQL 패턴을 같은 JDBC 경로로 재현해 DB가 받는 왕복 수와 처리량을 비교한다.
+ *   (변경 전: allocationSize = 1, 배치 없음 / 변경 후: NEXTVAL 1회로 ID 50개, INSERT 50건씩 executeBatch)
+ * - 실제 JPA 경로(FavStoreRepository.saveAll, prod와 같은 batch_size/order_inserts)의 SQL 수도 함께 확인한다.
+ * - H2는 프로세스 내 DB라 왕복 비용이 거의 없다. Oracle에서는 줄어든 왕복 수 × 네트워크 RTT만큼 차이가 더 커진다.
+ * - 실행: ./gradlew benchmark (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class FavStoreBulkInsertBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private FavStoreRepository favStoreRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    void pooledSequenceWithBatchingInsertsFasterWithFewerStatements() {
+        // 변경 전 경로용 INCREMENT BY 1 시퀀스 (ID 구간이 pooled 시퀀스와 겹치지 않게 큰 값에서 시작)
+        jdbcTemplate.execute("create sequence BENCH_FAV_STORE_SEQ start with 100000000 increment by 1");
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+
+        // 워밍업
+        insertPerRow("warmup-a");
+        insertPooledBatch("warmup-b");
+        insertWithJpa("warmup-c");
+
+        long perRowNanos = 0;
+        long pooledNanos = 0;
+        long jpaNanos = 0;
+        long jpaStatements = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long started = System.nanoTime();
+            insertPerRow("before-" + round);
+            perRowNanos += System.nanoTime() - started;
+
+            started = System.nanoTime();
+            insertPooledBatch("after-" + round);
+            pooledNanos += System.nanoTime() - started;
+
+            stats.clear();
+            started = System.nanoTime();
+            insertWithJpa("jpa-" + round);
+            jpaNanos += System.nanoTime() - started;
+            jpaStatements += stats.getPrepareStatementCount();
+        }
+
+        System.out.printf("%n[fav_store bulk insert] rows=%d x %d rounds%n", ROWS, ROUNDS);
+        System.out.printf("  before (NEXTVAL + INSERT per row)   : %10.0f rows/s, %d statements/round%n",
+                rate(perRowNanos), ROWS * 2);
+        System.out.printf("  after  (pooled 50 + JDBC batch 50)  : %10.0f rows/s, %d statements/round%n",
+                rate(pooledNanos), ROWS / 50 * 2);
+        System.out.printf("  after  (JPA saveAll, same settings) : %10.0f rows/s, %d statements/round%n",
+                rate(jpaNanos), jpaStatements / ROUNDS);
+
+        assertThat(jpaStatements / ROUNDS).isLessThanOrEqualTo(ROWS / 50 * 2 + 2);
+        assertThat(rate(pooledNanos)).isGreaterThan(rate(perRowNanos));
+        assertThat(favStoreRepository.count()).isEqualTo((long) ROWS * (ROUNDS + 1) * 3);
+    }
+
+    private static double rate(long nanos) {
+        return ROWS * ROUNDS / (nanos / 1e9);
+    }
+
+    private void insertPerRow(String userId) {
+        for (int i = 0; i < ROWS; i++) {
+            Long id = jdbcTemplate.queryForObject("select next value for BENCH_FAV_STORE_SEQ", Long.class);
+            jdbcTemplate.update("insert into FAV_STORE (FAV_STORE_ID, STORE_ID, USER_ID) values (?, ?, ?)",
+                    id, "S" + i, userId);
+        }
+    }
+
+    private void insertPooledBatch(String userId) {
+        for (int from = 0; from < ROWS; from += 50) {
+            long hi = jdbcTemplate.queryForObject("select next value for FAV_STORE_FAV_STORE_ID_SEQ", Long.class);
+            int start = from;
+            jdbcTemplate.batchUpdate("insert into FAV_STORE (FAV_STORE_ID, STORE_ID, USER_ID) values (?, ?, ?)",
+                    IntStream.range(start, Math.min(start + 50, ROWS))
+                            .mapToObj(i -> new Object[]{hi - 49 + (i - start), "S" + i, userId})
+                            .toList());
+        }
+    }
+
+    private void insertWithJpa(String userId) {
+        List<FavStore> rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> FavStore.builder().storeId("S" + i).userId(userId).build())
+                .toList();
+        favStoreRepository.saveAll(rows);
+        em.flush();
+        em.clear();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.store.service.repository;
+
+import com.example.store.service.entity.Review;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 목록 커서(keyset) 페이징 vs OFFSET 페이징 비용 비교.
+ * - 한 매장에 리뷰 ROWS건을 넣고 첫 페이지/깊은 페이지 조회 시간을 잰다.
+ * - 세 쿼리 모두 같은 JDBC 경로로 실행하고, H2의 동일 결과 재사용을 피하려고 반복마다 파라미터를 바꾼다.
+ * - 실행: ./gradlew benchmark (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DataJpaTest
+class ReviewKeysetPaginationBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int PAGE = 20;
+    private static final int ITERATIONS = 500;
+    private static final String STORE_ID = "S00001";
+
+    // ReviewRepository.findStorePage / findStorePageAfter 와 같은 SQL.
+    // H2는 비용이 같으면 (STORE_ID, USER_ID) 유니크 인덱스를 골라 정렬을 하므로 인덱스를 지정한다
+    // (Oracle 옵티마이저는 정렬이 필요 없는 (STORE_ID, REVIEW_ID) 인덱스를 고른다).
+    private static final String KEYSET_FIRST =
+            "select * from REVIEW use index (IDX_REVIEW_STORE) where STORE_ID = ? " +
+            "order by STORE_ID desc, REVIEW_ID desc fetch first ? rows only";
+    private static final String KEYSET_NEXT =
+            "select * from REVIEW use index (IDX_REVIEW_STORE) where STORE_ID = ? and REVIEW_ID < ? " +
+            "order by STORE_ID desc, REVIEW_ID desc fetch first ? rows only";
+    private static final String OFFSET =
+            "select * from REVIEW use index (IDX_REVIEW_STORE) where STORE_ID = ? " +
+            "order by STORE_ID desc, REVIEW_ID desc offset ? rows fetch next ? rows only";
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.batchUpdate(
+                "insert into REVIEW (REVIEW_ID, STORE_ID, USER_ID, COMENT, SCORE) values (?, ?, ?, ?, ?)",
+                IntStream.rangeClosed(1, ROWS)
+                        .mapToObj(i -> new Object[]{(long) i, STORE_ID, "user-" + i, "리뷰 " + i, i % 5 + 1})
+                        .toList());
+    }
+
+    @Test
+    void deepKeysetPageCostsTheSameAsFirstPage() {
+        int deep = ROWS - PAGE * 100; // 최신순 기준 뒤쪽 페이지(OFFSET 값)
+
+        // 같은 위치의 페이지를 OFFSET과 커서로 읽으면 결과가 같아야 한다
+        List<Long> viaOffset = jdbcTemplate.query(OFFSET, (rs, n) -> rs.getLong("REVIEW_ID"), STORE_ID, deep, PAGE);
+        long cursor = viaOffset.get(0) + 1;
+        assertThat(reviewRepository.findStorePageAfter(STORE_ID, cursor, Limit.of(PAGE)))
+                .extracting(Review::getReviewId)
+                .containsExactlyElementsOf(viaOffset);
+
+        double first = averageMicros(i -> jdbcTemplate.queryForList(KEYSET_FIRST, STORE_ID, PAGE + i % 2));
+        double deepKeyset = averageMicros(i -> jdbcTemplate.queryForList(KEYSET_NEXT, STORE_ID, cursor - i % 50, PAGE));
+        double deepOffset = averageMicros(i -> jdbcTemplate.queryForList(OFFSET, STORE_ID, deep + i % 50, PAGE));
+
+        System.out.printf("%n[review keyset pagination] rows=%d, page=%d, deep offset=%d%n", ROWS, PAGE, deep);
+        System.out.printf("  first page (keyset)   : %8.1f us%n", first);
+        System.out.printf("  deep page  (keyset)   : %8.1f us%n", deepKeyset);
+        System.out.printf("  deep page  (OFFSET)   : %8.1f us%n", deepOffset);
+
+        assertThat(deepKeyset).isLessThan(deepOffset);
+        assertThat(deepKeyset).isLessThan(first * 3 + 100);
+    }
+
+    private static double averageMicros(IntFunction<List<?>> query) {
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            assertThat(query.apply(i)).hasSizeGreaterThanOrEqualTo(PAGE);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.apply(i);
+        }
+        return (System.nanoTime() - started) / 1_000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.store.service.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.oracle.OracleContainer;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReviewRepositoryCustomImpl의 Oracle 분기(PL/SQL SELECT ... FOR UPDATE + ROWID UPDATE,
+ * DELETE ... RETURNING INTO, OUT 바인드)를 실제 Oracle에서 실행한다.
+ * - H2 테스트는 OLD TABLE 분기만 타므로 운영 SQL은 여기서만 검증된다.
+ * - Docker가 필요하다: ./gradlew oracleTest (Docker가 없으면 건너뜀, 기본 test 태스크에서는 제외)
+ */
+@Tag("oracle")
+@Testcontainers(disabledWithoutDocker = true)
+class ReviewRepositoryCustomOracleTest {
+
+    @Container
+    private static final OracleContainer ORACLE = new OracleContainer("gvenzl/oracle-free:23-slim-faststart");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private ReviewRepositoryCustomImpl repository;
+
+    @BeforeAll
+    static void createSchema() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                ORACLE.getJdbcUrl(), ORACLE.getUsername(), ORACLE.getPassword()));
+        jdbcTemplate.execute("create table REVIEW (" +
+                "REVIEW_ID number(19) primary key, STORE_ID varchar2(20) not null, USER_ID varchar2(50) not null, " +
+                "COMENT varchar2(50), SCORE number(10), " +
+                "constraint uk_review_store_user unique (STORE_ID, USER_ID))");
+    }
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("delete from REVIEW");
+        jdbcTemplate.update("insert into REVIEW (REVIEW_ID, STORE_ID, USER_ID, COMENT, SCORE) values (1, 'ORA1', 'user-1', 'old', 4)");
+        jdbcTemplate.update("insert into REVIEW (REVIEW_ID, STORE_ID, USER_ID, COMENT, SCORE) values (2, 'ORA2', 'user-1', 'none', null)");
+        repository = new ReviewRepositoryCustomImpl(jdbcTemplate);
+    }
+
+    @Test
+    void updateReturnsPreviousStoreAndScore() {
+        assertThat(repository.updateReturningPrevious(1L, "user-1", "new", 2))
+                .contains(new ReviewRepositoryCustom.PreviousScore("ORA1", 4));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("select COMENT, SCORE from REVIEW where REVIEW_ID = 1");
+        assertThat(row.get("COMENT")).isEqualTo("new");
+        assertThat(((Number) row.get("SCORE")).intValue()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteReturnsDeletedStoreAndScore() {
+        assertThat(repository.deleteReturningPrevious(1L, "user-1"))
+                .contains(new ReviewRepositoryCustom.PreviousScore("ORA1", 4));
+
+        assertThat(count(1)).isZero();
+    }
+
+    @Test
+    void nullScoreIsMappedFromOutParameter() {
+        assertThat(repository.updateReturningPrevious(2L, "user-1", "scored", 5))
+                .contains(new ReviewRepositoryCustom.PreviousScore("ORA2", null));
+        assertThat(repository.deleteReturningPrevious(2L, "user-1"))
+                .contains(new ReviewRepositoryCustom.PreviousScore("ORA2", 5));
+    }
+
+    @Test
+    void missingRowIsEmpty() {
+        assertThat(repository.updateReturningPrevious(99L, "user-1", "x", 1)).isEmpty();
+        assertThat(repository.deleteReturningPrevious(99L, "user-1")).isEmpty();
+    }
+
+    @Test
+    void otherUsersReviewIsEmptyAndUntouched() {
+        assertThat(repository.updateReturningPrevious(1L, "user-2", "hijack", 1)).isEmpty();
+        assertThat(repository.deleteReturningPrevious(1L, "user-2")).isEmpty();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("select COMENT, SCORE from REVIEW where REVIEW_ID = 1");
+        assertThat(row.get("COMENT")).isEqualTo("old");
+        assertThat(((Number) row.get("SCORE")).intValue()).isEqualTo(4);
+    }
+
+    private int count(long reviewId) {
+        return jdbcTemplate.queryForObject("select count(*) from REVIEW where REVIEW_ID = ?", Integer.class, reviewId);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.store.service.repository;
+
+import com.example.store.service.entity.Category;
+import com.example.store.service.entity.Store;
+import com.example.store.service.entity.StoreLocation;
+import com.example.store.service.service.StoreCatalog;
+import com.example.store.service.service.StoreImageService;
+import com.example.store.service.service.StoreOpenHours;
+import com.example.store.service.service.StoreRatingAggregates;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 목록/상세/카테고리 그룹 조회의 SQL 실행 횟수가 매장 수와 무관하게 일정한지 검증한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({StoreCatalog.class, StoreRatingAggregates.class, StoreOpenHours.class, StoreImageService.class})
+class StoreRepositoryQueryCountTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    @Test
+    void findAllWithLocationJoinsLocationAndCategory() {
+        seed(0, 3);
+
+        var rows = storeRepository.findAllWithLocation();
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).getStoreId()).isEqualTo("S00000");
+        assertThat(rows.get(0).getCategoryName()).isEqualTo("한식");
+        assertThat(rows.get(0).getStoreLocation()).isEqualTo("서울시 0");
+        assertThat(rows.get(0).getLatitude()).isEqualTo("37.5");
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithStoreCount() {
+        seed(0, 10);
+        long small = statementsForCatalogReads("S00001");
+
+        seed(10, 200);
+        long large = statementsForCatalogReads("S00150");
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    /** 스냅샷 적재 + 목록/상세/카테고리 그룹 조회에 사용된 SQL 수 */
+    private long statementsForCatalogReads(String storeId) {
+        em.flush();
+        em.clear();
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        catalog.refresh();
+        assertThat(catalog.listStores(null, null, null)).isNotEmpty();
+        assertThat(catalog.listStores(1, null, null)).isNotEmpty();
+        assertThat(catalog.getStore(storeId).getStoreId()).isEqualTo(storeId);
+        assertThat(catalog.groupByCategory()).isNotEmpty();
+
+        return stats.getPrepareStatementCount();
+    }
+
+    private void seed(int from, int to) {
+        Category korean = em.find(Category.class, 1);
+        if (korean == null) {
+            korean = new Category(1, "한식");
+            em.persist(korean);
+            em.persist(new Category(2, "카페"));
+        }
+        Category cafe = em.find(Category.class, 2);
+        for (int i = from; i < to; i++) {
+            String storeId = String.format("S%05d", i);
+            em.persist(StoreLocation.builder()
+                    .storeId(storeId)
+                    .address("서울시 " + i)
+                    .latitude("37.5")
+                    .longitude("127.0")
+                    .build());
+            em.persist(Store.builder()
+                    .storeId(storeId)
+                    .storeName("가게 " + i)
+                    .category(i % 2 == 0 ? korean : cafe)
+                    .seatNum(20)
+                    .openTime(LocalTime.of(9, 0))
+                    .closeTime(LocalTime.of(22, 0))
+                    .imageUrl("stores/" + storeId + ".jpg")
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.store.service.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtDecoderTest {
+
+    private RSAKey key;
+    private AtomicInteger keyLookups;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        key = new RSAKeyGenerator(2048).keyID("k1").generate();
+        JwksCache jwks = new JwksCache(new JWKSet(key.toPublicJWK()));
+        keyLookups = new AtomicInteger();
+        decoder = new CachingJwtDecoder((selector, context) -> {
+            keyLookups.incrementAndGet();
+            return jwks.get(selector, context);
+        }, JwtValidators.createDefault(), 100);
+    }
+
+    @Test
+    void validatedTokenIsServedFromCache() throws JOSEException {
+        String token = sign("k1", "user-1", Instant.now().plusSeconds(3600));
+
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("user-1");
+        assertThat(keyLookups).hasValue(1);
+    }
+
+    @Test
+    void expiredTokenIsRejectedAndNotCached() throws JOSEException {
+        String token = sign("k1", "user-1", Instant.now().minusSeconds(600));
+
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtException.class);
+        assertThat(keyLookups).hasValue(2);
+    }
+
+    @Test
+    void unknownKeyIdIsRejected() throws JOSEException {
+        String token = sign("rotated", "user-1", Instant.now().plusSeconds(3600));
+
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtException.class);
+    }
+
+    private String sign(String kid, String subject, Instant expiresAt) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(kid).build(),
+                new JWTClaimsSet.Builder().subject(subject).expirationTime(Date.from(expiresAt)).build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.store.service.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicEndpointBearerTokenResolverTest {
+
+    private final PublicEndpointBearerTokenResolver resolver = new PublicEndpointBearerTokenResolver();
+
+    @Test
+    void publicReadsIgnoreBearerToken() {
+        assertThat(resolver.resolve(request("GET", "/api/stores"))).isNull();
+        assertThat(resolver.resolve(request("GET", "/api/stores/S1"))).isNull();
+        assertThat(resolver.resolve(request("GET", "/api/reviews/stores/S1"))).isNull();
+    }
+
+    @Test
+    void userSpecificRequestsStillResolveBearerToken() {
+        MockHttpServletRequest withFavorites = request("GET", "/api/stores");
+        withFavorites.setParameter("includeFavorite", "true");
+
+        assertThat(resolver.resolve(withFavorites)).isEqualTo("token");
+        assertThat(resolver.resolve(request("POST", "/api/stores/S1/reviews"))).isEqualTo("token");
+        assertThat(resolver.resolve(request("GET", "/api/stores/export"))).isEqualTo("token");
+        assertThat(resolver.resolve(request("GET", "/api/reviews/my"))).isEqualTo("token");
+        assertThat(resolver.resolve(request("GET", "/api/favorites/me"))).isEqualTo("token");
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.store.service.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConstraintViolationsTest {
+
+    @Test
+    void matchesOnlyTheNamedConstraint() {
+        DataIntegrityViolationException duplicate = violation("ORA-00001: unique constraint (STORE.UK_REVIEW_STORE_USER) violated",
+                "STORE.UK_REVIEW_STORE_USER");
+        DataIntegrityViolationException foreignKey = violation("ORA-02291: integrity constraint (STORE.FK_REVIEW_STORE) violated",
+                "STORE.FK_REVIEW_STORE");
+
+        assertThat(ConstraintViolations.isViolationOf(duplicate, ConstraintViolations.REVIEW_STORE_USER)).isTrue();
+        assertThat(ConstraintViolations.isViolationOf(duplicate, ConstraintViolations.FAV_STORE_USER)).isFalse();
+        assertThat(ConstraintViolations.isViolationOf(foreignKey, ConstraintViolations.REVIEW_STORE_USER)).isFalse();
+    }
+
+    @Test
+    void fallsBackToDriverMessageWhenConstraintNameIsUnknown() {
+        DataIntegrityViolationException h2 = new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException(
+                        "Unique index or primary key violation: \"PUBLIC.UK_FAV_STORE_USER_INDEX_A ON PUBLIC.FAV_STORE(STORE_ID, USER_ID)\""));
+        DataIntegrityViolationException tooLong = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Value too long for column \"USER_ID CHARACTER VARYING(50)\""));
+
+        assertThat(ConstraintViolations.isViolationOf(h2, ConstraintViolations.FAV_STORE_USER)).isTrue();
+        assertThat(ConstraintViolations.isViolationOf(tooLong, ConstraintViolations.FAV_STORE_USER)).isFalse();
+    }
+
+    private static DataIntegrityViolationException violation(String message, String constraintName) {
+        SQLException sql = new SQLIntegrityConstraintViolationException(message);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sql, constraintName));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.store.service.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 즐겨찾기 번호 집합(Favorites)의 희소/밀집 표현 전환과 추가/삭제 검증.
+ */
+class FavoriteCacheTest {
+
+    private final StoreOrdinals storeOrdinals = new StoreOrdinals();
+
+    @Test
+    void sparseAndDenseFormsAnswerTheSameAndSwitchBySize() {
+        IntStream.range(0, 1_000).forEach(i -> storeOrdinals.assign("S" + i));
+
+        FavoriteCache.Favorites sparse = FavoriteCache.Favorites.of(storeOrdinals, new int[]{900, 3, 3});
+        FavoriteCache.Favorites dense = FavoriteCache.Favorites.of(storeOrdinals, IntStream.range(0, 500).toArray());
+
+        assertThat(sparse.size()).isEqualTo(2);
+        assertThat(sparse.contains("S3")).isTrue();
+        assertThat(sparse.contains("S900")).isTrue();
+        assertThat(sparse.contains("S4")).isFalse();
+        assertThat(sparse.weightBytes()).isLessThan(32 + 15 * Long.BYTES);
+
+        assertThat(dense.size()).isEqualTo(500);
+        assertThat(dense.contains("S499")).isTrue();
+        assertThat(dense.contains("S500")).isFalse();
+        assertThat(dense.contains("unknown")).isFalse();
+        assertThat(dense.weightBytes()).isEqualTo(32 + 8 * Long.BYTES);
+    }
+
+    @Test
+    void withAndWithoutReturnNewSetsAndKeepEqualityByContent() {
+        IntStream.range(0, 10).forEach(i -> storeOrdinals.assign("S" + i));
+        FavoriteCache.Favorites empty = FavoriteCache.Favorites.of(storeOrdinals, new int[0]);
+
+        FavoriteCache.Favorites added = empty.with(storeOrdinals.find("S7")).with(storeOrdinals.find("S2"));
+        FavoriteCache.Favorites removed = added.without(storeOrdinals.find("S7"));
+
+        assertThat(empty.size()).isZero();
+        assertThat(added.contains("S7")).isTrue();
+        assertThat(removed.contains("S7")).isFalse();
+        assertThat(removed).isEqualTo(FavoriteCache.Favorites.of(storeOrdinals, new int[]{storeOrdinals.find("S2")}));
+        assertThat(removed.hashCode()).isEqualTo(FavoriteCache.Favorites.of(storeOrdinals, new int[]{2}).hashCode());
+    }
+}
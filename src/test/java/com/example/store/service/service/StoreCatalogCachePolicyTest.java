@@ -0,0 +1,104 @@
+package com.example.store.service.service;
+
+import com.example.store.service.dto.StoreResponseWithLL;
+import com.example.store.service.entity.StoreScoreCountMapping;
+import com.example.store.service.repository.ReviewRepository;
+import com.example.store.service.repository.StoreRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ETag가 프로세스 안 카운터가 아니라 내용으로 정해지는지 검증한다.
+ * - "인스턴스"마다 카탈로그/평점 집계/이미지 서비스를 따로 만들고 같은 시각의 시계를 쓴다.
+ */
+class StoreCatalogCachePolicyTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T03:00:00Z"), StoreOpenHours.SEOUL);
+    private static final List<StoreResponseWithLL> STORES = List.of(
+            StoreResponseWithLL.builder().storeId("S1").storeName("one").categoryCode(1).build());
+
+    @Test
+    void sameRatingsGiveSameEtagRegardlessOfUpdateHistory() {
+        Instance incremental = new Instance(List.of(count("S1", 5, 2)), null);
+        incremental.ratings.recordCreated("S1", 3);
+        Instance restarted = new Instance(List.of(count("S1", 5, 2), count("S1", 3, 1)), null);
+
+        assertThat(incremental.etag("stores")).isEqualTo(restarted.etag("stores"));
+    }
+
+    @Test
+    void differentRatingsGiveDifferentEtagEvenAfterSameNumberOfChanges() {
+        Instance a = new Instance(List.of(count("S1", 5, 2)), null);
+        Instance b = new Instance(List.of(count("S1", 4, 2)), null);
+
+        assertThat(a.etag("stores")).isNotEqualTo(b.etag("stores"));
+
+        a.ratings.recordCreated("S1", 1);
+        a.ratings.recordDeleted("S1", 1);
+        assertThat(a.etag("stores")).isEqualTo(new Instance(List.of(count("S1", 5, 2)), null).etag("stores"));
+    }
+
+    @Test
+    void presignedUrlsMakeEtagInstanceSpecific() {
+        StoreImageUrlSigner signer = key -> new StoreImageUrlSigner.SignedUrl("https://signed/" + key, Instant.MAX);
+        Instance a = new Instance(List.of(), signer);
+        Instance b = new Instance(List.of(), signer);
+
+        assertThat(a.etag("stores")).isNotEqualTo(b.etag("stores"));
+        assertThat(a.etag("stores")).isEqualTo(a.etag("stores"));
+        // 인스턴스 전용 ETag는 공용 캐시(CDN)에 두지 않는다
+        assertThat(a.policy.evaluate("stores").instanceSpecific()).isTrue();
+        assertThat(new Instance(List.of(), null).policy.evaluate("stores").instanceSpecific()).isFalse();
+    }
+
+    /** 인스턴스 1개분 구성 */
+    private static final class Instance {
+        final StoreRatingAggregates ratings;
+        final StoreCatalogCachePolicy policy;
+
+        Instance(List<StoreScoreCountMapping> counts, StoreImageUrlSigner signer) {
+            StoreRepository storeRepository = mock(StoreRepository.class);
+            ReviewRepository reviewRepository = mock(ReviewRepository.class);
+            when(storeRepository.findAllWithLocation()).thenReturn(STORES);
+            when(reviewRepository.countByStoreIdAndScore()).thenReturn(counts);
+            ratings = new StoreRatingAggregates(reviewRepository, event -> { });
+            ratings.rebuild();
+            StoreImageService images = new StoreImageService(storeRepository, signer, "bucket", "", Duration.ofMinutes(5),
+                    10, CLOCK);
+            StoreOpenHours openHours = new StoreOpenHours(CLOCK);
+            StoreCatalog catalog = new StoreCatalog(storeRepository, ratings, openHours, event -> { }, images);
+            policy = new StoreCatalogCachePolicy(catalog, ratings, images, openHours, 60, 30);
+        }
+
+        String etag(String variant) {
+            return policy.evaluate(variant).etag();
+        }
+    }
+
+    private static StoreScoreCountMapping count(String storeId, int score, long reviewCount) {
+        return new StoreScoreCountMapping() {
+            @Override
+            public String getStoreId() {
+                return storeId;
+            }
+
+            @Override
+            public Integer getScore() {
+                return score;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return reviewCount;
+            }
+        };
+    }
+}
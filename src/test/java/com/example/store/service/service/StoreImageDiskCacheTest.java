@@ -0,0 +1,91 @@
+package com.example.store.service.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 파생본 디스크 캐시의 밀려난 파일 지연 삭제 검증.
+ */
+class StoreImageDiskCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Test
+    void evictedFileSurvivesGracePeriodThenIsDeleted() throws IOException {
+        StoreImageDiskCache cache = new StoreImageDiskCache(dir, 15, Duration.ofMinutes(1), clock);
+        StoreImageDiskCache.Entry first = cache.get("a.jpg", out -> out.write(new byte[10]));
+        cache.get("b.jpg", out -> out.write(new byte[10]));
+
+        // a.jpg는 인덱스에서 빠졌지만 이미 받은 Entry로 아직 보낼 수 있다
+        assertThat(cache.totalBytes()).isEqualTo(10);
+        assertThat(Files.exists(first.file())).isTrue();
+
+        clock.advance(Duration.ofSeconds(59));
+        cache.purgeEvicted();
+        assertThat(Files.exists(first.file())).isTrue();
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.purgeEvicted();
+        assertThat(Files.exists(first.file())).isFalse();
+        assertThat(Files.exists(dir.resolve("b.jpg"))).isTrue();
+    }
+
+    @Test
+    void keyRecreatedDuringGraceIsNotDeleted() throws IOException {
+        StoreImageDiskCache cache = new StoreImageDiskCache(dir, 15, Duration.ofMinutes(1), clock);
+        cache.get("a.jpg", out -> out.write(new byte[10]));
+        cache.get("b.jpg", out -> out.write(new byte[10]));
+        StoreImageDiskCache.Entry again = cache.get("a.jpg", out -> out.write(new byte[10]));
+
+        clock.advance(Duration.ofMinutes(2));
+        cache.purgeEvicted();
+
+        assertThat(Files.exists(again.file())).isTrue();
+        assertThat(Files.exists(dir.resolve("b.jpg"))).isFalse();
+        assertThat(cache.get("a.jpg", out -> {
+            throw new AssertionError("캐시에 있어야 합니다");
+        }).size()).isEqualTo(10);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.store.service.service;
+
+import com.example.store.service.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이미지 프록시 파생본 생성 동시 실행 제한 검증.
+ */
+class StoreImageProxyServiceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void renderBeyondLimitIsRejectedWhileCacheHitsAreServed() throws Exception {
+        byte[] png = png(64, 32);
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StoreImageSource source = key -> {
+            if (key.equals("img/slow.png")) {
+                rendering.countDown();
+                await(release);
+            }
+            return new ByteArrayInputStream(png);
+        };
+        StoreImageService imageService = mock(StoreImageService.class);
+        for (String storeId : List.of("SLOW", "FAST")) {
+            String url = "img/" + storeId.toLowerCase() + ".png";
+            when(imageService.originalImageUrl(storeId)).thenReturn(url);
+            when(imageService.objectKey(url)).thenReturn(url);
+        }
+        StoreImageProxyService proxy = new StoreImageProxyService(imageService, source,
+                new StoreImageDiskCache(dir, 1 << 20, Duration.ofMinutes(1)), new SimpleMeterRegistry(),
+                List.of(16, 32), 0.8f, 1_000_000, 1, Duration.ofMillis(50));
+
+        proxy.image("FAST", 16);
+        CompletableFuture<StoreImageProxyService.StoreImage> slow = CompletableFuture.supplyAsync(() -> {
+            try {
+                return proxy.image("SLOW", 16);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> proxy.image("FAST", 32)).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(proxy.image("FAST", 16).file()).isNotNull();
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).file()).isNotNull();
+        assertThat(proxy.image("FAST", 32).file()).isNotNull();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
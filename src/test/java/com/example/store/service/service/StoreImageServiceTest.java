@@ -0,0 +1,116 @@
+package com.example.store.service.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 이미지 presigned URL 캐시 검증 (서명기는 호출 기록용 스텁).
+ */
+class StoreImageServiceTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final RecordingSigner signer = new RecordingSigner(clock, Duration.ofMinutes(15));
+    private final StoreImageService service =
+            new StoreImageService(null, signer, "store-bucket", "stores", Duration.ofMinutes(5), 1_000, clock);
+
+    @Test
+    void objectKeysAreSignedOnceAndReusedUntilRenewal() {
+        String first = service.resolve("S001.png");
+        String second = service.resolve("/S001.png");
+        String byUrl = service.resolve("https://store-bucket.s3.ap-northeast-2.amazonaws.com/stores/S001.png");
+        String byS3Uri = service.resolve("s3://store-bucket/stores/S001.png");
+
+        assertThat(first).startsWith("https://signed/stores/S001.png?");
+        assertThat(second).isEqualTo(first);
+        assertThat(byUrl).isEqualTo(first);
+        assertThat(byS3Uri).isEqualTo(first);
+        assertThat(signer.signedKeys).containsExactly("stores/S001.png");
+    }
+
+    @Test
+    void externalUrlsAndMissingImagesPassThrough() {
+        assertThat(service.resolve("https://cdn.example.com/a.png")).isEqualTo("https://cdn.example.com/a.png");
+        assertThat(service.resolve("s3://other-bucket/a.png")).isEqualTo("s3://other-bucket/a.png");
+        assertThat(service.resolve(null)).isNull();
+        assertThat(signer.signedKeys).isEmpty();
+    }
+
+    @Test
+    void catalogImagesArePresignedAndRenewedBeforeExpiry() {
+        StoreCatalogSnapshot snapshot = StoreCatalogSnapshot.builder(3)
+                .add("S001", "a", null, null, null, 1, null, null, "S001.png", null, null)
+                .add("S002", "b", null, null, null, 1, null, null, "S001.png", null, null)
+                .add("S003", "c", null, null, null, 1, null, null, "https://cdn.example.com/c.png", null, null)
+                .build();
+        service.presignAll(snapshot);
+        long generation = service.generation();
+        assertThat(signer.signedKeys).containsExactly("stores/S001.png");
+
+        service.resolve("S001.png");
+        service.renewExpiring();
+        assertThat(signer.signedKeys).hasSize(1);
+        assertThat(service.generation()).isEqualTo(generation);
+
+        clock.advance(Duration.ofMinutes(11));
+        service.renewExpiring();
+        assertThat(signer.signedKeys).hasSize(2);
+        assertThat(service.generation()).isGreaterThan(generation);
+        assertThat(service.resolve("S001.png")).contains("expires=" + clock.instant().plus(Duration.ofMinutes(15)));
+    }
+
+    private static final class RecordingSigner implements StoreImageUrlSigner {
+
+        private final Clock clock;
+        private final Duration ttl;
+        private final List<String> signedKeys = new ArrayList<>();
+
+        RecordingSigner(Clock clock, Duration ttl) {
+            this.clock = clock;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public SignedUrl sign(String objectKey) {
+            signedKeys.add(objectKey);
+            Instant expiresAt = clock.instant().plus(ttl);
+            return new SignedUrl("https://signed/" + objectKey + "?expires=" + expiresAt, expiresAt);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.store.service.service;
+
+import com.example.store.service.dto.StoreResponseWithLL;
+import com.example.store.service.entity.StoreScoreCountMapping;
+import com.example.store.service.repository.ReviewRepository;
+import com.example.store.service.repository.StoreRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 베이지안 평균 순위, 카테고리 필터, 증분 재배치, 카탈로그 첫 적재와 동시 조회(락 순서) 검증.
+ */
+class StoreLeaderboardTest {
+
+    private final StoreRepository storeRepository = mock(StoreRepository.class);
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+
+    private StoreLeaderboard leaderboard;
+    private StoreRatingAggregates ratings;
+    private StoreCatalog catalog;
+
+    @Test
+    void bayesianAverageKeepsSingleFiveStarReviewBelowManyHighReviews() {
+        setUp(List.of(store("ONE", 1), store("MANY", 1), store("LOW", 1), store("NONE", 1)),
+                List.of(count("ONE", 5, 1), count("MANY", 5, 80), count("MANY", 4, 20), count("LOW", 2, 30)));
+
+        List<StoreResponseWithLL> top = leaderboard.top(null, 10);
+
+        assertThat(top).extracting(StoreResponseWithLL::getStoreId).containsExactly("MANY", "ONE", "LOW");
+        assertThat(top.get(0).getRatingScore()).isGreaterThan(top.get(1).getRatingScore());
+    }
+
+    @Test
+    void categoryFilterAndLimit() {
+        setUp(List.of(store("K1", 1), store("K2", 1), store("C1", 5)),
+                List.of(count("K1", 3, 10), count("K2", 4, 10), count("C1", 5, 10)));
+
+        assertThat(leaderboard.top(1, 10)).extracting(StoreResponseWithLL::getStoreId).containsExactly("K2", "K1");
+        assertThat(leaderboard.top(null, 1)).extracting(StoreResponseWithLL::getStoreId).containsExactly("C1");
+        assertThat(leaderboard.top(9, 10)).isEmpty();
+    }
+
+    @Test
+    void ratingChangesRepositionOnlyThatStore() {
+        setUp(List.of(store("A", 1), store("B", 1)),
+                List.of(count("A", 3, 5), count("B", 4, 5)));
+        assertThat(leaderboard.top(null, 2)).extracting(StoreResponseWithLL::getStoreId).containsExactly("B", "A");
+
+        for (int i = 0; i < 20; i++) {
+            ratings.recordCreated("A", 5);
+        }
+        assertThat(leaderboard.top(null, 2)).extracting(StoreResponseWithLL::getStoreId).containsExactly("A", "B");
+
+        ratings.recordDeleted("B", 4);
+        ratings.recordDeleted("B", 4);
+        ratings.recordDeleted("B", 4);
+        ratings.recordDeleted("B", 4);
+        ratings.recordDeleted("B", 4);
+        assertThat(leaderboard.top(null, 2)).extracting(StoreResponseWithLL::getStoreId).containsExactly("A");
+    }
+
+    @Test
+    void storeSeenTwiceWhileRepositioningIsListedOnceWithItsFirstScore() {
+        // 조회가 A의 옛 위치를 지난 뒤 A가 아래로 재배치된 경우의 반복 순서
+        List<StoreLeaderboard.Entry> ranking = List.of(
+                new StoreLeaderboard.Entry("A", 4.5),
+                new StoreLeaderboard.Entry("B", 4.0),
+                new StoreLeaderboard.Entry("A", 3.0),
+                new StoreLeaderboard.Entry("C", 2.0));
+
+        assertThat(StoreLeaderboard.firstDistinct(ranking.iterator(), 3))
+                .containsExactly(Map.entry("A", 4.5), Map.entry("B", 4.0), Map.entry("C", 2.0));
+        assertThat(StoreLeaderboard.firstDistinct(ranking.iterator(), 2)).containsOnlyKeys("A", "B");
+    }
+
+    /**
+     * 조회가 순위를 훑는 동안 같은 매장이 위아래로 재배치되어도 결과에 같은 매장이 두 번 나오지 않는다.
+     */
+    @Test
+    void concurrentRepositioningNeverDuplicatesAStore() throws Exception {
+        List<StoreResponseWithLL> stores = new ArrayList<>();
+        List<StoreScoreCountMapping> counts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String storeId = String.format("S%02d", i);
+            stores.add(store(storeId, 1));
+            counts.add(count(storeId, 1 + i % 5, 10));
+        }
+        setUp(stores, counts);
+        leaderboard.top(null, 1);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            while (running.get()) {
+                // S00을 맨 아래 ↔ 맨 위로 반복 재배치
+                for (int i = 0; i < 40; i++) ratings.recordCreated("S00", 5);
+                for (int i = 0; i < 40; i++) ratings.recordDeleted("S00", 5);
+            }
+        });
+        writer.setDaemon(true);
+        writer.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            while (System.nanoTime() < deadline) {
+                List<String> ids = leaderboard.top(null, 50).stream().map(StoreResponseWithLL::getStoreId).toList();
+                assertThat(ids).doesNotHaveDuplicates();
+            }
+        } finally {
+            running.set(false);
+            writer.join(5_000);
+        }
+    }
+
+    /**
+     * 기동 warmUp 스레드가 카탈로그를 적재하는 동안(카탈로그 락 보유) 첫 요청이 리더보드를 조회해도
+     * 서로 기다리지 않고 둘 다 끝나야 한다.
+     */
+    @Test
+    void coldStartWarmUpAndFirstRequestDoNotDeadlock() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        List<StoreResponseWithLL> stores = List.of(store("A", 1), store("B", 1));
+        setUp(null, List.of(count("A", 5, 3), count("B", 4, 3)));
+        when(storeRepository.findAllWithLocation()).thenAnswer(invocation -> {
+            loading.countDown();
+            Thread.sleep(300);
+            return stores;
+        });
+
+        ExecutorService threads = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<?> warmUp = threads.submit(() -> catalog.warmUp());
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<StoreResponseWithLL>> firstRequest = threads.submit(() -> leaderboard.top(null, 10));
+
+            warmUp.get(5, TimeUnit.SECONDS);
+            assertThat(firstRequest.get(5, TimeUnit.SECONDS))
+                    .extracting(StoreResponseWithLL::getStoreId).containsExactly("A", "B");
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    /** 카탈로그/평점 집계/리더보드를 이벤트로 잇는다(스프링 컨텍스트 없이 동기 발행) */
+    private void setUp(List<StoreResponseWithLL> stores, List<StoreScoreCountMapping> counts) {
+        if (stores != null) {
+            when(storeRepository.findAllWithLocation()).thenReturn(stores);
+        }
+        when(reviewRepository.countByStoreIdAndScore()).thenReturn(counts);
+        List<Object> listeners = new ArrayList<>();
+        ratings = new StoreRatingAggregates(reviewRepository, event -> dispatch(listeners, event));
+        StoreImageService images = new StoreImageService(storeRepository, null, "", "", Duration.ofMinutes(5), 10,
+                Clock.systemUTC());
+        catalog = new StoreCatalog(storeRepository, ratings, new StoreOpenHours(Clock.systemUTC()),
+                event -> dispatch(listeners, event), images);
+        leaderboard = new StoreLeaderboard(catalog, ratings, 10);
+        ratings.rebuild(); // 리더보드 연결 전: 카탈로그는 아직 적재하지 않는다
+        listeners.add(leaderboard);
+    }
+
+    private static void dispatch(List<Object> listeners, Object event) {
+        for (Object listener : listeners) {
+            StoreLeaderboard board = (StoreLeaderboard) listener;
+            if (event instanceof StoreCatalogRefreshedEvent refreshed) board.onCatalogRefreshed(refreshed);
+            if (event instanceof StoreRatingChangedEvent changed) board.onRatingChanged(changed);
+        }
+    }
+
+    private static StoreResponseWithLL store(String storeId, int categoryCode) {
+        return StoreResponseWithLL.builder().storeId(storeId).storeName(storeId).categoryCode(categoryCode).build();
+    }
+
+    private static StoreScoreCountMapping count(String storeId, int score, long reviewCount) {
+        return new StoreScoreCountMapping() {
+            @Override
+            public String getStoreId() {
+                return storeId;
+            }
+
+            @Override
+            public Integer getScore() {
+                return score;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return reviewCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.store.service.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분 단위 전환으로 전진한 영업 상태가 매 분 전체 계산(isOpenAt)과 같은지 검증한다.
+ */
+class StoreOpenHoursTest {
+
+    @Test
+    void advancingMinuteByMinuteMatchesFullEvaluationForWholeDay() {
+        StoreCatalogSnapshot snapshot = StoreCatalogSnapshot.builder(5)
+                .add("S1", "일반", 1, "한식", null, 10, LocalTime.of(9, 0), LocalTime.of(22, 0), null, null, null)
+                .add("S2", "심야", 1, "한식", null, 10, LocalTime.of(18, 30), LocalTime.of(2, 0), null, null, null)
+                .add("S3", "24시간", 2, "카페", null, 10, LocalTime.of(0, 0), LocalTime.of(0, 0), null, null, null)
+                .add("S4", "미등록", 2, "카페", null, 10, null, null, null, null, null)
+                .add("S5", "자정 종료", 2, "카페", null, 10, LocalTime.of(11, 0), LocalTime.of(0, 0), null, null, null)
+                .build();
+        StoreOpenHours openHours = new StoreOpenHours(Clock.systemUTC());
+
+        openHours.advance(snapshot, 0);
+        for (int step = 1; step <= 24 * 60; step++) {
+            int minute = step % (24 * 60);
+            StoreOpenHours.OpenSet open = openHours.advance(snapshot, minute);
+            for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+                assertThat(open.isOpen(ordinal))
+                        .as("ordinal=%d minute=%d", ordinal, minute)
+                        .isEqualTo(snapshot.isOpenAt(ordinal, minute));
+            }
+        }
+    }
+
+    @Test
+    void closingWithinCountsOvernightWindowsAndSkipsAllDayStores() {
+        StoreCatalogSnapshot snapshot = StoreCatalogSnapshot.builder(2)
+                .add("S1", "심야", 1, "한식", null, 10, LocalTime.of(18, 0), LocalTime.of(1, 0), null, null, null)
+                .add("S2", "24시간", 1, "한식", null, 10, LocalTime.of(0, 0), LocalTime.of(0, 0), null, null, null)
+                .build();
+        StoreOpenHours.OpenSet open = new StoreOpenHours(Clock.systemUTC()).advance(snapshot, 23 * 60 + 40);
+
+        assertThat(open.isClosingWithin(snapshot, 0, 80)).isTrue();
+        assertThat(open.isClosingWithin(snapshot, 0, 79)).isFalse();
+        assertThat(open.isClosingWithin(snapshot, 1, 24 * 60)).isFalse();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.store.service.service;
+
+import com.example.store.service.entity.StoreScoreCountMapping;
+import com.example.store.service.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 평점 집계 재계산과 증분 갱신이 겹칠 때 검증.
+ */
+class StoreRatingAggregatesTest {
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final StoreRatingAggregates ratings = new StoreRatingAggregates(reviewRepository, event -> {
+    });
+
+    @Test
+    void changesAppliedWhileRebuildIsReadingAreKeptAfterSwap() {
+        when(reviewRepository.countByStoreIdAndScore()).thenReturn(List.of(count("A", 4, 2)));
+        ratings.rebuild();
+
+        // 조회가 끝난 뒤(조회 결과에 없는) 리뷰 작성/수정/삭제가 커밋된 경우
+        when(reviewRepository.countByStoreIdAndScore()).thenAnswer(invocation -> {
+            List<StoreScoreCountMapping> snapshot = List.of(count("A", 4, 2), count("B", 3, 1));
+            ratings.recordCreated("A", 5);
+            ratings.recordUpdated("A", 4, 1);
+            ratings.recordCreated("C", 2);
+            ratings.recordDeleted("B", 3);
+            return snapshot;
+        });
+        ratings.rebuild();
+
+        assertThat(ratings.get("A").count()).isEqualTo(3);
+        assertThat(ratings.get("A").histogram()).containsExactly(1, 0, 0, 1, 1);
+        assertThat(ratings.get("B").count()).isZero();
+        assertThat(ratings.get("C").count()).isEqualTo(1);
+        assertThat(ratings.contentHash()).isEqualTo(rebuiltHash(count("A", 1, 1), count("A", 4, 1), count("A", 5, 1),
+                count("C", 2, 1)));
+    }
+
+    @Test
+    void changesBeforeRebuildAreNotCountedTwice() {
+        when(reviewRepository.countByStoreIdAndScore()).thenReturn(List.of(count("A", 4, 2)));
+        ratings.rebuild();
+        ratings.recordCreated("A", 5);
+
+        when(reviewRepository.countByStoreIdAndScore()).thenReturn(List.of(count("A", 4, 2), count("A", 5, 1)));
+        ratings.rebuild();
+
+        assertThat(ratings.get("A").count()).isEqualTo(3);
+        ratings.recordCreated("A", 5);
+        assertThat(ratings.get("A").count()).isEqualTo(4);
+    }
+
+    @Test
+    void failedRebuildKeepsCurrentRatingsAndStopsRecording() {
+        when(reviewRepository.countByStoreIdAndScore()).thenReturn(List.of(count("A", 4, 2)));
+        ratings.rebuild();
+        when(reviewRepository.countByStoreIdAndScore()).thenThrow(new IllegalStateException("db down"));
+        ratings.rebuild();
+
+        ratings.recordCreated("A", 5);
+        assertThat(ratings.get("A").count()).isEqualTo(3);
+    }
+
+    /** 같은 내용을 DB에서 바로 읽어 만든 집계의 해시 */
+    private static long rebuiltHash(StoreScoreCountMapping... rows) {
+        ReviewRepository repository = mock(ReviewRepository.class);
+        when(repository.countByStoreIdAndScore()).thenReturn(List.of(rows));
+        StoreRatingAggregates fresh = new StoreRatingAggregates(repository, event -> {
+        });
+        fresh.rebuild();
+        return fresh.contentHash();
+    }
+
+    private static StoreScoreCountMapping count(String storeId, int score, long reviewCount) {
+        return new StoreScoreCountMapping() {
+            @Override
+            public String getStoreId() {
+                return storeId;
+            }
+
+            @Override
+            public Integer getScore() {
+                return score;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return reviewCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.store.service.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * KD-tree k-NN 결과를 전체 haversine 계산(brute force)과 비교한다.
+ * - 무작위 점 + 날짜변경선(경도 ±180) 양쪽, 극 부근에 몰린 점을 섞는다.
+ * - 거리가 같은 점은 어느 쪽이 뽑혀도 맞으므로 ordinal 대신 거리 목록을 비교하고,
+ *   k번째 거리 반경 안의 점이 모두 결과에 들어 있는지 따로 확인한다.
+ */
+class StoreSpatialIndexTest {
+
+    private static final double TOLERANCE_METERS = 0.01;
+
+    private final Random random = new Random(20260101);
+
+    @Test
+    void nearestMatchesBruteForceHaversine() {
+        double[][] points = points(3_000);
+        StoreSpatialIndex index = StoreSpatialIndex.build(points[0], points[1]);
+
+        for (double[] query : queries(200)) {
+            assertMatchesBruteForce(index, points, query[0], query[1], 10, null);
+        }
+    }
+
+    @Test
+    void antimeridianAndPoleQueriesMatchBruteForce() {
+        double[][] points = points(3_000);
+        StoreSpatialIndex index = StoreSpatialIndex.build(points[0], points[1]);
+        double[][] edges = {
+                {0, 180}, {0, -180}, {10, 179.999}, {-10, -179.999}, {37.5, 180},
+                {90, 0}, {-90, 0}, {89.999, 123}, {-89.999, -45}, {90, 180}, {-90, -180}};
+
+        for (double[] query : edges) {
+            assertMatchesBruteForce(index, points, query[0], query[1], 25, null);
+        }
+        // 날짜변경선 바로 건너편 점이 같은 쪽의 먼 점보다 먼저 나와야 한다
+        StoreSpatialIndex pair = StoreSpatialIndex.build(new double[]{0, 0}, new double[]{-179.99, 170});
+        assertThat(pair.nearest(0, 179.99, 1, null).ordinals()).containsExactly(0);
+    }
+
+    @Test
+    void filterAndRadiusMatchBruteForce() {
+        double[][] points = points(2_000);
+        StoreSpatialIndex index = StoreSpatialIndex.build(points[0], points[1]);
+        IntPredicate even = ordinal -> ordinal % 2 == 0;
+
+        for (double[] query : queries(50)) {
+            assertMatchesBruteForce(index, points, query[0], query[1], 15, even);
+            assertMatchesBruteForce(index, points, query[0], query[1], 500, null);
+        }
+    }
+
+    @Test
+    void invalidCoordinatesAreNotIndexed() {
+        StoreSpatialIndex index = StoreSpatialIndex.build(
+                new double[]{37.5, Double.NaN, 91, 0},
+                new double[]{127.0, 127.0, 0, 181});
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(0, 0, 5, null).ordinals()).containsExactly(0);
+        assertThat(index.nearest(0, 0, 0, null).ordinals()).isEmpty();
+    }
+
+    private static void assertMatchesBruteForce(StoreSpatialIndex index, double[][] points,
+                                                double lat, double lng, int k, IntPredicate filter) {
+        StoreSpatialIndex.Result result = index.nearest(lat, lng, k, filter);
+        double[] expected = IntStream.range(0, points[0].length)
+                .filter(i -> StoreSpatialIndex.isValid(points[0][i], points[1][i]))
+                .filter(i -> filter == null || filter.test(i))
+                .mapToDouble(i -> haversine(lat, lng, points[0][i], points[1][i]))
+                .sorted()
+                .limit(k)
+                .toArray();
+
+        assertThat(result.distanceMeters()).hasSize(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            int ordinal = result.ordinals()[i];
+            assertThat(filter == null || filter.test(ordinal)).isTrue();
+            assertThat(result.distanceMeters()[i]).isCloseTo(expected[i], within(TOLERANCE_METERS));
+            assertThat(result.distanceMeters()[i])
+                    .isCloseTo(haversine(lat, lng, points[0][ordinal], points[1][ordinal]), within(TOLERANCE_METERS));
+        }
+
+        // 반경(k번째 거리) 안의 점은 하나도 빠지면 안 된다
+        double radius = expected[expected.length - 1];
+        Set<Integer> found = new HashSet<>();
+        Arrays.stream(result.ordinals()).forEach(found::add);
+        for (int i = 0; i < points[0].length; i++) {
+            if (!StoreSpatialIndex.isValid(points[0][i], points[1][i]) || (filter != null && !filter.test(i))) continue;
+            if (haversine(lat, lng, points[0][i], points[1][i]) < radius - TOLERANCE_METERS) {
+                assertThat(found).as("반경 %.1fm 안의 ordinal %d (%f, %f)", radius, i, points[0][i], points[1][i])
+                        .contains(i);
+            }
+        }
+    }
+
+    /** 무작위 점 + 날짜변경선/극 부근 군집 + 좌표 없는 매장 */
+    private double[][] points(int n) {
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            switch (i % 5) {
+                case 0 -> { // 날짜변경선 양쪽
+                    lats[i] = uniform(-60, 60);
+                    lngs[i] = random.nextBoolean() ? uniform(179, 180) : uniform(-180, -179);
+                }
+                case 1 -> { // 극 부근
+                    lats[i] = random.nextBoolean() ? uniform(89, 90) : uniform(-90, -89);
+                    lngs[i] = uniform(-180, 180);
+                }
+                case 2 -> { // 한 도시에 몰린 점
+                    lats[i] = uniform(37.4, 37.7);
+                    lngs[i] = uniform(126.8, 127.2);
+                }
+                default -> {
+                    lats[i] = Math.toDegrees(Math.asin(uniform(-1, 1)));
+                    lngs[i] = uniform(-180, 180);
+                }
+            }
+        }
+        lats[n - 1] = Double.NaN;
+        return new double[][]{lats, lngs};
+    }
+
+    private double[][] queries(int n) {
+        double[][] queries = new double[n][];
+        for (int i = 0; i < n; i++) {
+            queries[i] = new double[]{Math.toDegrees(Math.asin(uniform(-1, 1))), uniform(-180, 180)};
+        }
+        return queries;
+    }
+
+    private double uniform(double from, double to) {
+        return from + random.nextDouble() * (to - from);
+    }
+
+    private static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double h = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLng / 2), 2);
+        return 2 * StoreSpatialIndex.EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.store.service.service;
+
+import com.example.store.service.config.StatementCount;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 리뷰/즐겨찾기 쓰기 경로의 요청당 SQL 문장 수(= DB 왕복 수)와 지연 시간.
+ * - 사용자마다 리뷰 작성 → 수정 → 삭제, 즐겨찾기 추가 → 제거를 한 번씩 실행한다(전부 성공 경로).
+ * - H2는 프로세스 내 DB라 왕복 비용이 거의 없다. Oracle에서는 문장 수 × 네트워크 RTT가 더해지므로
+ *   RTT 1ms 기준 추정치를 함께 출력한다.
+ * - 실행: ./gradlew benchmark (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.root=WARN"})
+@AutoConfigureMockMvc
+class WritePathRoundTripBenchmark {
+
+    private static final int USERS = 2_000;
+    private static final int WARMUP = 200;
+    private static final double RTT_MILLIS = 1.0;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreCatalog catalog;
+
+    private final Map<String, Measurement> measurements = new LinkedHashMap<>();
+
+    @Test
+    void writePaths() throws Exception {
+        jdbcTemplate.update("insert into STORES (STORE_ID, STORE_NAME, SEAT_NUM) values ('WPB1', 'bench', 1)");
+        catalog.refresh();
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                runUser("warmup-" + i, false);
+            }
+            for (int i = 0; i < USERS; i++) {
+                runUser("bench-" + i, true);
+            }
+        } finally {
+            jdbcTemplate.update("delete from REVIEW where STORE_ID = 'WPB1'");
+            jdbcTemplate.update("delete from FAV_STORE where STORE_ID = 'WPB1'");
+            jdbcTemplate.update("delete from STORES where STORE_ID = 'WPB1'");
+        }
+
+        System.out.printf("%n[write paths] %d users, H2 in-process (RTT 추정 %.1fms/문장)%n", USERS, RTT_MILLIS);
+        System.out.println("  operation          | statements | p50 ms | p99 ms | est. p50 @RTT ms");
+        measurements.forEach((name, m) -> m.print(name));
+        assertThat(measurements).hasSize(5);
+    }
+
+    private void runUser(String userId, boolean record) throws Exception {
+        RequestPostProcessor user = jwt().jwt(j -> j.subject(userId));
+        MvcResult created = perform("review create", record, post("/api/reviews").with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"storeId\":\"WPB1\",\"comment\":\"c\",\"score\":3}"));
+        Number reviewId = JsonPath.read(created.getResponse().getContentAsString(), "$.reviewId");
+        perform("review update", record, put("/api/reviews/{id}", reviewId).with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"comment\":\"u\",\"score\":5}"));
+        perform("review delete", record, delete("/api/reviews/{id}", reviewId).with(user));
+        perform("favorite add", record, post("/api/favorites").param("storeId", "WPB1").with(user));
+        perform("favorite remove", record, delete("/api/favorites").param("storeId", "WPB1").with(user));
+    }
+
+    private MvcResult perform(String name, boolean record, RequestBuilder request) throws Exception {
+        long started = System.nanoTime();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        long nanos = System.nanoTime() - started;
+        assertThat(result.getResponse().getStatus()).as(name).isEqualTo(200);
+        if (record) {
+            measurements.computeIfAbsent(name, k -> new Measurement(new long[USERS], new int[USERS], new int[1]))
+                    .add(nanos, StatementCount.of(result));
+        }
+        return result;
+    }
+
+    /** 요청별 지연 시간/문장 수 (문장 수는 중앙값: pooled 시퀀스 조회가 50번에 1번 더해진다) */
+    private record Measurement(long[] nanos, int[] statements, int[] count) {
+
+        void add(long elapsed, int statementCount) {
+            nanos[count[0]] = elapsed;
+            statements[count[0]++] = statementCount;
+        }
+
+        void print(String name) {
+            long[] sorted = Arrays.copyOf(nanos, count[0]);
+            Arrays.sort(sorted);
+            double p50 = sorted[sorted.length / 2] / 1e6;
+            double p99 = sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1e6;
+            int[] sortedStatements = Arrays.copyOf(statements, count[0]);
+            Arrays.sort(sortedStatements);
+            int typical = sortedStatements[sortedStatements.length / 2];
+            System.out.printf("  %-18s | %10d | %6.2f | %6.2f | %16.2f%n",
+                    name, typical, p50, p99, p50 + typical * RTT_MILLIS);
+        }
+    }
+}